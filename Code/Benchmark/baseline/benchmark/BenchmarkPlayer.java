@@ -0,0 +1,105 @@
+package benchmark;
+
+import model.Player;
+import model.PlayerModel;
+import model.Unit;
+import model.myGrid;
+import test.Server;
+
+/**
+ * This class is a Player of the baseline model (before the series of optimizations) 
+ * that gives the benchmarks access to the parts of the model they measure.
+ * 
+ * The fleet is always placed on the same cells, without asking the client,
+ * and the shots are checked like in Player.shoot() (the baseline has no match and no turn to apply them to).
+ */
+class BenchmarkPlayer extends Player {
+
+    //Same placements as junit_tests.ScriptedClient.PLACEMENTS, which does not exist in the baseline tree
+    static final String[][] FLEET = {
+        { "Airport (2x4)", "A1 B4" }, { "Radar Tower (2x3)", "C1 D3" }, { "HeadQuarter (2x2)", "E1 F2" },
+        { "Railway Gun (1x6)", "G1 G6" }, { "MMRL (2x2)", "H1 I2" }, { "Tank (1x2)", "J1 J2" }
+    };
+
+    /**
+     * Constructor - the player takes the first free place of Server.Players like any other player
+     * 
+     * @param connection {NullConnection} - the (fake) streams of the client
+     */
+    BenchmarkPlayer(NullConnection connection) {
+        super(null, connection.in, connection.out);
+    }
+
+    /**
+     * Method that creates the two players of a new game.
+     * 
+     * @param connection {NullConnection} - the connection of the first player
+     * @param otherConnection {NullConnection} - the connection of the second player
+     * @return {BenchmarkPlayer[]} - both players
+     */
+    static BenchmarkPlayer[] newMatch(NullConnection connection, NullConnection otherConnection) {
+        Server.Players.put("P1", null);
+        Server.Players.put("P2", null);
+        return new BenchmarkPlayer[] { new BenchmarkPlayer(connection), new BenchmarkPlayer(otherConnection) };
+    }
+
+    /**
+     * Method that places the units of the fleet of the player on its grid, then the player is ready to play.
+     */
+    void placeFleet() {
+        myGrid grid = getMyGrid();
+        for (String[] unit : FLEET) {
+            String[] coords = rectangle(unit[1]);
+            Unit placed = new Unit(unit[0], coords.length, 0);
+            placed.initCoordState(coords);
+            for (String coord : coords) {
+                grid.setGridCell(coord, placed);
+            }
+        }
+        isReady = true;
+    }
+
+    /**
+     * Method that shoots on the given cell of the other player.
+     * 
+     * @param coord {String} - the coordinate of the shot, ex: "H4"
+     */
+    void shootAt(String coord) {
+        checkForHit(coord);
+    }
+
+    /**
+     * Method that returns all the cells of the rectangle between two corners.
+     * 
+     * @param corners {String} - the top-left and bottom-right corners, ex: "A1 B4"
+     * @return {String[]} - the coordinates of the cells of the rectangle, row by row
+     */
+    static String[] rectangle(String corners) {
+        myGrid grid = new myGrid();
+        int[] first = grid.getCoordIndex(corners.split(" ")[0]);
+        int[] last = grid.getCoordIndex(corners.split(" ")[1]);
+        int cols = last[1] - first[1] + 1;
+        String[] coords = new String[(last[0] - first[0] + 1) * cols];
+        for (int i = 0; i < coords.length; i++) {
+            coords[i] = grid.getRowNames()[first[0] + i / cols] + grid.getColNames()[first[1] + i % cols];
+        }
+        return coords;
+    }
+
+    /**
+     * This class is a PlayerModel on which the benchmarks can notify changes themselves.
+     */
+    static class Model extends PlayerModel {
+
+        Model(Player player) {
+            super(player);
+        }
+
+        void publish() {
+            Changed();
+            toNotify();
+        }
+
+    }
+
+}
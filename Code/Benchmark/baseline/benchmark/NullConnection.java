@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * This class replaces the streams of a client to run the model of the baseline in the benchmarks.
+ * 
+ * The messages sent to the client are written like on a real socket, but the bytes are thrown away.
+ * The messages received from the client are read, in a loop, from a fixed script of answers.
+ */
+class NullConnection {
+
+    final DataOutputStream out = new DataOutputStream(OutputStream.nullOutputStream());
+    final DataInputStream in;
+
+    /**
+     * Constructor
+     * 
+     * @param answers {String...} - the answers of the client, repeated in a loop
+     */
+    NullConnection(String... answers) {
+        byte[] script;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream writer = new DataOutputStream(bytes);
+            for (String answer : answers) {
+                writer.writeUTF(answer);
+            }
+            script = bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        in = new DataInputStream(new InputStream() {
+            private int next = 0;
+
+            @Override
+            public int read() {
+                if (script.length == 0) {
+                    return -1;
+                }
+                int b = script[next] & 0xFF;
+                next = (next + 1) % script.length;
+                return b;
+            }
+        });
+    }
+
+}
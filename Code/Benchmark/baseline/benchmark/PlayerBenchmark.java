@@ -0,0 +1,146 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import controller.PlayerController;
+import model.Unit;
+import view.PlayerViewAll;
+
+/**
+ * Benchmarks of the game itself in the baseline: the shots, the validation of the placement of a unit 
+ * and the notification of a change of the model to the views (and the messages written for the client).
+ * 
+ * The baseline only has the text protocol, and every notification makes PlayerViewAll send the whole grid again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private static final int CELLS = 13 * 13;
+
+    //!---------------------------------------------------------------------------------
+    //!                                 States
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * A new game of two players with their fleets placed, for every operation.
+     */
+    @State(Scope.Thread)
+    public static class NewGame {
+        BenchmarkPlayer shooter;
+        BenchmarkPlayer target;
+        String[] coords = new String[CELLS];
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            BenchmarkPlayer[] players = BenchmarkPlayer.newMatch(new NullConnection(), new NullConnection());
+            shooter = players[0];
+            target = players[1];
+            shooter.placeFleet();
+            target.placeFleet();
+            for (int cell = 0; cell < CELLS; cell++) {
+                coords[cell] = shooter.getMyGrid().getRowNames()[cell / 13] + shooter.getMyGrid().getColNames()[cell % 13];
+            }
+        }
+    }
+
+    /**
+     * A controller that receives the placement of the tank, 
+     * first on the cells of the Airport (overlap) if overlap is true, then on free cells.
+     */
+    @State(Scope.Thread)
+    public static class Placement {
+        @Param({ "false", "true" })
+        boolean overlap;
+        PlayerController controller;
+
+        @Setup
+        public void setUp() {
+            String query = "U-Tank (1x2)-2-NC";
+            NullConnection connection = overlap
+                ? new NullConnection(query, "A1 A2", query, "K1 K2")
+                : new NullConnection(query, "K1 K2");
+            BenchmarkPlayer player = BenchmarkPlayer.newMatch(connection, new NullConnection())[0];
+            player.placeFleet();
+            controller = new PlayerController(new BenchmarkPlayer.Model(player));
+        }
+    }
+
+    /**
+     * A model with its view, the baseline only has the text protocol.
+     */
+    @State(Scope.Thread)
+    public static class Views {
+        @Param({ "text" })
+        String protocol;
+        BenchmarkPlayer player;
+        BenchmarkPlayer.Model model;
+        Unit unit;
+        String cell = "H4";
+
+        @Setup
+        public void setUp() {
+            BenchmarkPlayer[] players = BenchmarkPlayer.newMatch(new NullConnection(), new NullConnection());
+            player = players[0];
+            BenchmarkPlayer other = players[1];
+            other.placeFleet();
+            model = new BenchmarkPlayer.Model(player);
+            new PlayerViewAll(model, new PlayerController(model));
+            unit = other.getMyGrid().getGridCell("A1");
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                               Benchmarks
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Both players shoot in turn on every cell of the enemy's grid, from the last cell to the first one, 
+     * like the benchmark of the current model. The score is given per shot.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * CELLS - 1)
+    public void checkForHit(NewGame game) {
+        for (int cell = CELLS - 1; cell >= 0; cell--) {
+            game.shooter.shootAt(game.coords[cell]);
+            if (cell > 0) {
+                game.target.shootAt(game.coords[cell]);
+            }
+        }
+    }
+
+    /**
+     * Validates the placement of the tank.
+     */
+    @Benchmark
+    public String[] placeUnitControl(Placement placement) {
+        return placement.controller.PlaceUnitControl();
+    }
+
+    /**
+     * Notifies the view of a change of each kind (a placed unit, a miss, a hit, a destroyed unit), 
+     * the score is given per change.
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void playerViewAllUpdate(Views views, Blackhole bh) {
+        views.player.isReady = false;
+        views.player.getMyGrid().setGridCell(views.cell, views.unit);
+        views.model.publish();
+        views.player.isReady = true;
+        views.player.getEnemyGrid().setGridCell(views.cell, -1);
+        views.model.publish();
+        views.player.getEnemyGrid().setGridCell(views.cell, 1);
+        views.model.publish();
+        views.player.getEnemyGrid().setGridCell(views.cell, 2);
+        views.model.publish();
+        bh.consume(views.model);
+    }
+
+}
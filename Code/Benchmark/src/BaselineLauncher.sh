@@ -0,0 +1,28 @@
+#!/bin/bash
+#
+# Measures the baseline: the benchmarks of ../baseline run on the server as it was before the optimizations,
+# taken from git, and the results are written in ../results/baseline.json.
+#
+#   ./BaselineLauncher.sh                       -> records ../results/baseline.json
+#   BASELINE_COMMIT=<commit> ./BaselineLauncher.sh   -> takes the server of another commit
+#
+# Run ./BenchmarkLauncher.sh once before, it downloads JMH into ../lib.
+
+JMH_VERSION=1.37
+LIB=../lib
+BIN=../bin/baseline
+BASELINE_COMMIT=${BASELINE_COMMIT:-031be92}
+SERVER=$BIN/server/Code/Server/src
+
+echo Starting baseline benchmarks on $BASELINE_COMMIT
+echo ___________________
+
+CP="$LIB/jmh-core-$JMH_VERSION.jar:$LIB/jopt-simple-5.0.4.jar:$LIB/commons-math3-3.6.1.jar"
+rm -rf $BIN
+mkdir -p $BIN/server ../results
+git -C "$(git rev-parse --show-toplevel)" archive $BASELINE_COMMIT Code/Server/src | tar -x -C $BIN/server || { echo "Could not extract the server of $BASELINE_COMMIT"; exit 1; }
+javac -encoding UTF-8 -d $BIN -cp "$CP" -processorpath "$CP:$LIB/jmh-generator-annprocess-$JMH_VERSION.jar" \
+    $SERVER/model/*.java $SERVER/view/*.java $SERVER/controller/*.java $SERVER/test/*.java \
+    ../baseline/benchmark/*.java || exit 1
+
+java -cp "$BIN:$CP" org.openjdk.jmh.Main -rf json -rff ../results/baseline.json "$@" || exit 1
@@ -0,0 +1,43 @@
+#!/bin/bash
+#
+# Compiles the server and the benchmarks, runs them with JMH and writes the results in JSON.
+#
+#   ./BenchmarkLauncher.sh                      -> runs every benchmark, results in ../results/latest.json
+#   ./BenchmarkLauncher.sh PlayerBenchmark      -> only runs the benchmarks matching the given JMH arguments
+#   RESULT=../results/baseline.json ./BenchmarkLauncher.sh   -> writes a new baseline
+#
+# When ../results/baseline.json exists, the results are compared to it at the end.
+
+JMH_VERSION=1.37
+LIB=../lib
+BIN=../bin
+RESULT=${RESULT:-../results/latest.json}
+SERVER=../../Server/src
+
+echo Starting benchmarks
+echo ___________________
+
+mkdir -p $LIB $BIN ../results
+for jar in org/openjdk/jmh/jmh-core/$JMH_VERSION/jmh-core-$JMH_VERSION.jar \
+           org/openjdk/jmh/jmh-generator-annprocess/$JMH_VERSION/jmh-generator-annprocess-$JMH_VERSION.jar \
+           net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar \
+           org/apache/commons/commons-math3/3.6.1/commons-math3-3.6.1.jar; do
+    if [ ! -f $LIB/$(basename $jar) ]; then
+        echo Downloading $(basename $jar)
+        curl -sfL -o $LIB/$(basename $jar) https://repo1.maven.org/maven2/$jar || { echo "Could not download $jar"; exit 1; }
+    fi
+done
+
+CP="$LIB/jmh-core-$JMH_VERSION.jar:$LIB/jopt-simple-5.0.4.jar:$LIB/commons-math3-3.6.1.jar"
+rm -rf $BIN/*
+javac -encoding UTF-8 -d $BIN -cp "$CP" -processorpath "$CP:$LIB/jmh-generator-annprocess-$JMH_VERSION.jar" \
+    $SERVER/model/*.java $SERVER/view/*.java $SERVER/controller/*.java $SERVER/network/*.java $SERVER/ai/*.java $SERVER/test/*.java \
+    $SERVER/junit_tests/ScriptedClient.java \
+    benchmark/*.java || exit 1
+
+java -cp "$BIN:$CP" org.openjdk.jmh.Main -rf json -rff $RESULT "$@" || exit 1
+
+if [ -f ../results/baseline.json ] && [ "$RESULT" != "../results/baseline.json" ]; then
+    echo
+    java -cp $BIN benchmark.CompareResults ../results/baseline.json $RESULT
+fi
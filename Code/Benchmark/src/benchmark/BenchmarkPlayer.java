@@ -0,0 +1,99 @@
+package benchmark;
+
+import model.CoordCodec;
+import model.Fleet;
+import model.GameAction;
+import model.GameEvents;
+import model.Player;
+import model.PlayerModel;
+import model.CellChange;
+import network.Connection;
+import junit_tests.ScriptedClient;
+
+/**
+ * This class is a Player that gives the benchmarks access to the parts of the model they measure.
+ * 
+ * The fleet is always placed on the cells of the tests (ScriptedClient.PLACEMENTS), without asking the client, 
+ * and the shots are applied through the match like the shots of a real session (rules, turn and journal).
+ */
+class BenchmarkPlayer extends Player {
+
+    /**
+     * Constructor - the player joins a match of Server.matchRegistry like any other player
+     * 
+     * @param connection {Connection} - the (fake) connection of the client
+     */
+    BenchmarkPlayer(Connection connection) {
+        super(connection);
+    }
+
+    /**
+     * Method that creates the two players of a new match.
+     * 
+     * @param connection {NullConnection} - the connection of the first player
+     * @param otherConnection {NullConnection} - the connection of the second player
+     * @return {BenchmarkPlayer[]} - both players
+     */
+    static BenchmarkPlayer[] newMatch(NullConnection connection, NullConnection otherConnection) {
+        return new BenchmarkPlayer[] { new BenchmarkPlayer(connection), new BenchmarkPlayer(otherConnection) };
+    }
+
+    /**
+     * Method that places the units of the fleet of the player, in the order of the fleet.
+     */
+    void placeFleet() {
+        for (int i = 0; i < ScriptedClient.PLACEMENTS.length; i++) {
+            place(i, ScriptedClient.placement(i));
+        }
+    }
+
+    /**
+     * Method that starts the game of the match, once both fleets are placed.
+     * 
+     * @param firstPlayer {int} - the index of the player that has the first turn
+     */
+    void startGame(int firstPlayer) {
+        getMatch().apply(GameAction.start(firstPlayer), new GameEvents());
+    }
+
+    /**
+     * Method that shoots on the given cell of the other player, it must be the turn of this player.
+     * 
+     * @param coord {String} - the coordinate of the shot, ex: "H4"
+     */
+    void shootAt(String coord) {
+        fire(Fleet.SINGLE_SHOT, coord, 0);
+    }
+
+    /**
+     * Method that returns the coordinates of the cells of a unit of the fleet.
+     * 
+     * @param unit {int} - the id of the unit, ex: 0 for the Airport
+     * @return {String[]} - the coordinates of the cells of the unit, ex: "A1"
+     */
+    static String[] coords(int unit) {
+        int[] cells = ScriptedClient.placement(unit);
+        String[] coords = new String[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            coords[i] = CoordCodec.name(cells[i]);
+        }
+        return coords;
+    }
+
+    /**
+     * This class is a PlayerModel on which the benchmarks can publish changes themselves.
+     */
+    static class Model extends PlayerModel {
+
+        Model(Player player) {
+            super(player);
+        }
+
+        @Override
+        public void publish(CellChange change) {
+            super.publish(change);
+        }
+
+    }
+
+}
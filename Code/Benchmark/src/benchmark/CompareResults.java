@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class is executable and compares two JMH result files (JSON) benchmark by benchmark.
+ * 
+ * Usage: java benchmark.CompareResults baseline.json results.json
+ * 
+ * Only the benchmark names, parameters and primary scores are read, 
+ * which is enough to know if a change made the model faster or slower.
+ */
+public class CompareResults {
+
+    private static final Pattern BENCHMARK = Pattern.compile("\"benchmark\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern PARAMS = Pattern.compile("\"params\"\\s*:\\s*\\{([^}]*)\\}");
+    private static final Pattern SCORE = Pattern.compile("\"primaryMetric\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-0-9.Ee]+|\"NaN\")");
+    private static final Pattern UNIT = Pattern.compile("\"scoreUnit\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: java benchmark.CompareResults baseline.json results.json");
+            return;
+        }
+        Map<String, String> baseline = read(args[0]);
+        Map<String, String> results = read(args[1]);
+
+        System.out.println(String.format(Locale.ROOT, "%-60s %22s %22s %9s", "Benchmark", "Baseline", "Now", "Change"));
+        for (Map.Entry<String, String> result : results.entrySet()) {
+            String now = result.getValue();
+            String before = baseline.get(result.getKey());
+            if (before == null) {
+                System.out.println(String.format(Locale.ROOT, "%-60s %22s %22s %9s", result.getKey(), "-", now, "new"));
+                continue;
+            }
+            double change = (score(now) - score(before)) / score(before) * 100;
+            System.out.println(String.format(Locale.ROOT, "%-60s %22s %22s %+8.1f%%", result.getKey(), before, now, change));
+        }
+    }
+
+    /**
+     * Method that reads the primary score of each benchmark of a JMH result file.
+     * 
+     * @param file {String} - the path of the JSON file
+     * @return {Map<String, String>} - for each benchmark (with its parameters): its score and unit, ex: "12.345 ns/op"
+     */
+    private static Map<String, String> read(String file) throws IOException {
+        String json = new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8);
+        Map<String, String> scores = new LinkedHashMap<>();
+        Matcher benchmark = BENCHMARK.matcher(json);
+        int start = benchmark.find() ? benchmark.start() : -1;
+        while (start >= 0) {
+            String name = benchmark.group(1);
+            int end = benchmark.find() ? benchmark.start() : json.length();
+            String entry = json.substring(start, end);
+
+            Matcher params = PARAMS.matcher(entry);
+            if (params.find()) {
+                name += " [" + params.group(1).replaceAll("[\"\\s]", "") + "]";
+            }
+            Matcher score = SCORE.matcher(entry);
+            Matcher unit = UNIT.matcher(entry);
+            if (score.find() && unit.find()) {
+                double value = Double.parseDouble(score.group(1).replace("\"", ""));
+                scores.put(name.replace("benchmark.", ""), String.format(Locale.ROOT, "%.3f %s", value, unit.group(1)));
+            }
+            start = end < json.length() ? end : -1;
+        }
+        return scores;
+    }
+
+    /**
+     * Method that returns the number of a score, ex: 12.345 for "12.345 ns/op".
+     */
+    private static double score(String score) {
+        return Double.parseDouble(score.substring(0, score.indexOf(' ')));
+    }
+
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import model.CoordCodec;
+import model.Grid;
+import model.myGrid;
+
+/**
+ * Benchmarks of the conversions of the coordinates and of the lookups in the grids.
+ * Each operation reads every cell of the grid once, the scores are given per cell.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GridBenchmark {
+
+    private Grid grid;
+    private myGrid placedGrid;
+    private String[] coords;
+
+    @Setup
+    public void setUp() {
+        grid = new Grid();
+        coords = new String[CoordCodec.CELLS];
+        for (int cell = 0; cell < coords.length; cell++) {
+            coords[cell] = new String(CoordCodec.name(cell));     //not the interned name, like a coordinate read from a client
+        }
+        BenchmarkPlayer player = BenchmarkPlayer.newMatch(new NullConnection(), new NullConnection())[0];
+        player.placeFleet();
+        placedGrid = player.getMyGrid();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CoordCodec.CELLS)
+    public void getCoordIndex(Blackhole bh) {
+        for (String coord : coords) {
+            bh.consume(grid.getCoordIndex(coord));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CoordCodec.CELLS)
+    public void getCellIndex(Blackhole bh) {
+        for (String coord : coords) {
+            bh.consume(grid.getCellIndex(coord));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CoordCodec.CELLS)
+    public void myGridGetGridCell(Blackhole bh) {
+        for (String coord : coords) {
+            bh.consume(placedGrid.getGridCell(coord));
+        }
+    }
+
+}
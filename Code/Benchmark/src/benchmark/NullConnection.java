@@ -0,0 +1,68 @@
+package benchmark;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import network.Connection;
+import network.MessageEncoder;
+import network.TextEncoder;
+
+/**
+ * This class is a Connection without any client behind it, used to run the model in the benchmarks.
+ * 
+ * The messages sent to the client are encoded exactly like on a real connection, but the bytes are thrown away.
+ * The messages received from the client are taken, in a loop, from a fixed script of answers.
+ */
+class NullConnection implements Connection {
+
+    private final DataOutputStream out = new DataOutputStream(OutputStream.nullOutputStream());
+    private MessageEncoder encoder = new TextEncoder();
+    private final String[] answers;
+    private int nextAnswer = 0;
+
+    /**
+     * Constructor
+     * 
+     * @param answers {String...} - the answers of the client, repeated in a loop
+     */
+    NullConnection(String... answers) {
+        this.answers = answers;
+    }
+
+    @Override
+    public void send(String str) throws IOException {
+        encoder.encode(str, out);
+    }
+
+    @Override
+    public void sendPair(String type, String arg) throws IOException {
+        encoder.encodePair(type, arg, out);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public String receive() {
+        String answer = answers[nextAnswer];
+        nextAnswer = (nextAnswer + 1) % answers.length;
+        return answer;
+    }
+
+    @Override
+    public void setEncoder(MessageEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return "benchmark";
+    }
+
+}
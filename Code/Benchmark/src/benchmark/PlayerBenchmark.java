@@ -0,0 +1,156 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import controller.PlayerController;
+import model.CellChange;
+import model.CoordCodec;
+import model.PlayerModel;
+import network.BinaryEncoder;
+import network.TextEncoder;
+import test.Server;
+import view.PlayerViewAll;
+
+/**
+ * Benchmarks of the game itself: the shots, the validation of the placement of a unit 
+ * and the notification of a change of the model to the views (and the encoding of the messages for the client).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    //!---------------------------------------------------------------------------------
+    //!                                 States
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * A new match of two players with their fleets placed, for every operation.
+     */
+    @State(Scope.Thread)
+    public static class NewGame {
+        BenchmarkPlayer shooter;
+        BenchmarkPlayer target;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            BenchmarkPlayer[] players = BenchmarkPlayer.newMatch(new NullConnection(), new NullConnection());
+            shooter = players[0];
+            target = players[1];
+            shooter.placeFleet();
+            target.placeFleet();
+            shooter.startGame(0);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            Server.matchRegistry.remove(shooter.getMatch());
+        }
+    }
+
+    /**
+     * A controller that receives the placement of the tank, 
+     * first on the cells of the Airport (overlap) if overlap is true, then on free cells.
+     */
+    @State(Scope.Thread)
+    public static class Placement {
+        @Param({ "false", "true" })
+        boolean overlap;
+        PlayerController controller;
+
+        @Setup
+        public void setUp() {
+            String query = "U-Tank (1x2)-2-NC";
+            NullConnection connection = overlap
+                ? new NullConnection(query, "A1 A2", query, "K1 K2")
+                : new NullConnection(query, "K1 K2");
+            BenchmarkPlayer player = BenchmarkPlayer.newMatch(connection, new NullConnection())[0];
+            player.placeFleet();
+            controller = new PlayerController(new PlayerModel(player));
+        }
+    }
+
+    /**
+     * A model with its view, on a connection using the given protocol.
+     */
+    @State(Scope.Thread)
+    public static class Views {
+        @Param({ "text", "binary" })
+        String protocol;
+        BenchmarkPlayer.Model model;
+        CellChange[] changes;
+
+        @Setup
+        public void setUp() {
+            NullConnection connection = new NullConnection();
+            NullConnection otherConnection = new NullConnection();
+            if (protocol.equals("binary")) {
+                connection.setEncoder(new BinaryEncoder());
+                otherConnection.setEncoder(new BinaryEncoder());
+            } else {
+                connection.setEncoder(new TextEncoder());
+                otherConnection.setEncoder(new TextEncoder());
+            }
+            BenchmarkPlayer[] players = BenchmarkPlayer.newMatch(connection, otherConnection);
+            BenchmarkPlayer player = players[0];
+            BenchmarkPlayer other = players[1];
+            other.placeFleet();
+            model = new BenchmarkPlayer.Model(player);
+            new PlayerViewAll(model, new PlayerController(model));
+
+            String cell = CoordCodec.name(94);
+            changes = new CellChange[] {
+                CellChange.unitPlaced(cell, other.getMyGrid().getGridCell("A1")),
+                CellChange.shot(cell, 0, -1),
+                CellChange.shot(cell, 0, 1),
+                CellChange.shot(cell, 1, 2)
+            };
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                               Benchmarks
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Both players shoot in turn on every cell of the enemy's grid, from the last cell to the first one: 
+     * the last shot of the shooter (A1) destroys the last unit of the target and ends the game.
+     * The score is given per shot.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * CoordCodec.CELLS - 1)
+    public void checkForHit(NewGame game) {
+        for (int cell = CoordCodec.CELLS - 1; cell >= 0; cell--) {
+            game.shooter.shootAt(CoordCodec.name(cell));
+            if (cell > 0) {
+                game.target.shootAt(CoordCodec.name(cell));
+            }
+        }
+    }
+
+    /**
+     * Validates the placement of the tank.
+     */
+    @Benchmark
+    public String[] placeUnitControl(Placement placement) {
+        return placement.controller.PlaceUnitControl();
+    }
+
+    /**
+     * Publishes a change of each kind to the view, the score is given per change.
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void playerViewAllUpdate(Views views, Blackhole bh) {
+        for (CellChange change : views.changes) {
+            views.model.publish(change);
+        }
+        bh.consume(views.model);
+    }
+
+}
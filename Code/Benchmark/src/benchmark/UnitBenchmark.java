@@ -0,0 +1,39 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import model.Unit;
+
+/**
+ * Benchmark of the hits on a unit: each operation places the Airport (8 cells) 
+ * and shoots on each of its cells until it is destroyed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnitBenchmark {
+
+    private Unit unit;
+    private String[] coords;
+
+    @Setup
+    public void setUp() {
+        coords = BenchmarkPlayer.coords(0);
+        unit = new Unit("Airport (2x4)", coords.length, 7);
+    }
+
+    @Benchmark
+    public boolean setCoordStateUntilDestroyed() {
+        unit.initCoordState(coords);
+        for (String coord : coords) {
+            unit.setCoordState(coord);
+        }
+        return unit.getIsAlive();
+    }
+
+}
@@ -3,5 +3,5 @@
 echo Starting GUI...in 3 secs
 echo ------------------------
 javac client/*.java
-java client/ClientGui
+java client/ClientGui "$@"
 
@@ -0,0 +1,6 @@
+#!/bin/bash
+
+echo Starting load generator 
+echo -----------------------
+javac client/*.java
+java client/LoadGenerator "$@"
@@ -0,0 +1,36 @@
+package client;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * This class reads the queries of the server sent with the binary protocol (see Protocol).
+ */
+public class BinaryFrameReader implements FrameReader {
+
+    private DataInputStream in;
+
+    /**
+     * Constructor
+     * 
+     * @param in {DataInputStream} - the input stream of the connection with the server
+     */
+    public BinaryFrameReader(DataInputStream in){
+        this.in = in;
+    }
+
+    @Override
+    public Frame read() throws IOException {
+        int opcode = in.readUnsignedByte();
+        int arg = in.readUnsignedByte();
+        int arg2 = (opcode & Protocol.ARG2) != 0 ? in.readUnsignedByte() : 0;
+        String text = (opcode & Protocol.PAYLOAD) != 0 ? in.readUTF() : "";
+        return new Frame(opcode, arg, arg2, text);
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return in.available() > 0;
+    }
+
+}
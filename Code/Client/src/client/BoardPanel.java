@@ -0,0 +1,145 @@
+package client;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+
+/**
+ * This class is one grid of the GUI-interface, painted as a single component.
+ *
+ * The grid is made of a header row (column numbers), a header column (row letters)
+ * and CoordCodec.ROWS x CoordCodec.COLS cells. The icon displayed on each cell is kept in an array indexed by cell
+ * (see CoordCodec), the whole grid is painted from that array by paintComponent():
+ * there is no button, no listener and no layout per cell.
+ *
+ *  -> a click is converted into a cell with the mouse coordinates divided by the size of a cell
+ *  -> changing a cell only repaints the rectangle of that cell, and paintComponent() only paints
+ *     the cells inside the clip given by Swing
+ *
+ * The size of a cell follows the size of the component, a larger map only needs larger ROWS and COLS.
+ */
+public class BoardPanel extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Font HEADER_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 10);
+    private static final Color CELL_COLOR = new Color(238, 238, 238);
+    private static final Color BORDER_COLOR = new Color(122, 138, 153);
+
+    private final ImageIcon[] cells = new ImageIcon[CoordCodec.CELLS];     //icon displayed on each cell, null if none
+
+    /**
+     * Constructor
+     *
+     * @param kind {GuiInput.Kind} - the input posted when a cell is clicked (MY_CELL or ENEMY_CELL)
+     */
+    public BoardPanel(GuiInput.Kind kind) {
+        setFont(HEADER_FONT);
+        setPreferredSize(new Dimension((CoordCodec.COLS + 1) * (GuiIcons.SIZE + 12), (CoordCodec.ROWS + 1) * (GuiIcons.SIZE + 12)));
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int cell = cellAt(e.getX(), e.getY());
+                if (cell >= 0) {
+                    ClientGui.postInput(new GuiInput(kind, CoordCodec.name(cell)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Method that changes the icon displayed on a cell and repaints only that cell.
+     * Must be called on the event dispatch thread (see GuiRenderQueue).
+     *
+     * @param cell {int} - the index of the cell (see CoordCodec)
+     * @param icon {ImageIcon} - the icon to display, null for an empty cell
+     */
+    public void setCell(int cell, ImageIcon icon) {
+        if (cell < 0 || cell >= CoordCodec.CELLS || cells[cell] == icon) {
+            return;
+        }
+        cells[cell] = icon;
+        repaint(cellBounds(CoordCodec.row(cell) + 1, CoordCodec.col(cell) + 1));
+    }
+
+    /**
+     * Method that returns the cell under the given point of the component.
+     *
+     * @param x {int} - the horizontal position, in pixels
+     * @param y {int} - the vertical position, in pixels
+     * @return {int} - the index of the cell, -1 if the point is on a header or outside of the grid
+     */
+    public int cellAt(int x, int y) {
+        if (x < 0 || y < 0) {
+            return -1;
+        }
+        return CoordCodec.index(y / cellHeight() - 1, x / cellWidth() - 1);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int width = cellWidth();
+        int height = cellHeight();
+
+        // only the lines and columns (headers included) inside the clip are painted
+        int firstRow = Math.max(0, clip.y / height);
+        int lastRow = Math.min(CoordCodec.ROWS, (clip.y + clip.height - 1) / height);
+        int firstCol = Math.max(0, clip.x / width);
+        int lastCol = Math.min(CoordCodec.COLS, (clip.x + clip.width - 1) / width);
+
+        g.setColor(getParent() != null ? getParent().getBackground() : CELL_COLOR);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        FontMetrics metrics = g.getFontMetrics();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                Rectangle r = cellBounds(row, col);
+                if (row == 0 || col == 0) {
+                    String header = row == 0 ? (col == 0 ? "" : String.valueOf(col)) : String.valueOf((char) ('A' + row - 1));
+                    g.setColor(Color.BLACK);
+                    g.drawString(header, r.x + (r.width - metrics.stringWidth(header)) / 2, r.y + (r.height + metrics.getAscent() - metrics.getDescent()) / 2);
+                    continue;
+                }
+                g.setColor(CELL_COLOR);
+                g.fillRect(r.x + 1, r.y + 1, r.width - 2, r.height - 2);
+                g.setColor(BORDER_COLOR);
+                g.drawRect(r.x + 1, r.y + 1, r.width - 3, r.height - 3);
+
+                ImageIcon icon = cells[CoordCodec.index(row - 1, col - 1)];
+                if (icon != null) {
+                    icon.paintIcon(this, g, r.x + (r.width - icon.getIconWidth()) / 2, r.y + (r.height - icon.getIconHeight()) / 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that returns the rectangle of a cell of the component, the headers are the row 0 and the column 0.
+     */
+    private Rectangle cellBounds(int row, int col) {
+        int width = cellWidth();
+        int height = cellHeight();
+        return new Rectangle(col * width, row * height, width, height);
+    }
+
+    private int cellWidth() {
+        return Math.max(1, getWidth() / (CoordCodec.COLS + 1));
+    }
+
+    private int cellHeight() {
+        return Math.max(1, getHeight() / (CoordCodec.ROWS + 1));
+    }
+
+}
@@ -0,0 +1,309 @@
+package client;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Random;
+
+/**
+ * This class inherits from the Client class.
+ * This class is a headless client that plays on its own, used by the LoadGenerator to simulate many players.
+ * 
+ * It answers the queries of the server like a user would:
+ * -> the units are placed on a fixed layout
+ * -> the shots are fired on the cells of the grid in a random order, sometimes with a special shot if it is available
+ * -> before each answer, it "thinks" for a random time between the given minimum and maximum
+ * 
+ * It talks with the server through the methods of Client (sendToServer() and getFrameFromServer()), but unlike 
+ * ClientCmd and ClientGui, a broken connection does not stop the program: 
+ * the error is counted in the LoadStats and only this bot stops.
+ * 
+ * It measures two latencies:
+ * -> the shot reply latency: from the last answer of a shot to the first query of the server that follows
+ * -> the turn latency: from the last answer of a turn to the next shot-type query (S-T) of the server,
+ *    it includes the turn of the other player (and its think time)
+ */
+public class BotClient extends Client implements Runnable {
+
+    //Top-left and bottom-right corners of each unit, the index is the unit id (see Protocol.UNIT_NAMES).
+    //It is the client-side copy of the server's test fixture (junit_tests.ScriptedClient.PLACEMENTS), like Protocol
+    private static final String[] LAYOUT = { "A1 B4", "C1 D3", "E1 F2", "G1 G6", "H1 I2", "J1 J2" };
+
+    //Special shots the bot can use (the radar discovery is not implemented by the server)
+    private static final int[] SPECIAL_SHOTS = { 1, 3, 4 };  //A, B, R in Protocol.SHOT_TYPES
+
+    private final LoadStats stats;
+    private final Random random;
+    private final int thinkMin;
+    private final int thinkMax;
+    private final double specialShotRate;
+    private final int games;
+    private final int timeout;
+
+    private int[] shots;
+    private int nextShot;
+    private final LatencyLog replyLatencies = new LatencyLog();
+    private final LatencyLog turnLatencies = new LatencyLog();
+    private long answerSentAt = 0;
+    private long turnEndedAt = 0;
+
+    /**
+     * Constructor
+     * 
+     * @param id {int} - the number of the bot, used in its name and as seed of its random choices
+     * @param ip {String} - the address of the server
+     * @param port {int} - the port of the server
+     * @param stats {LoadStats} - the statistics shared by all the bots
+     * @param thinkMin {int} - the minimum think time before an answer, in milliseconds
+     * @param thinkMax {int} - the maximum think time before an answer, in milliseconds
+     * @param specialShotRate {double} - the probability to use a special shot when one is available
+     * @param games {int} - the number of games to play one after the other
+     * @param timeout {int} - the maximum time to wait for a query from the server, in milliseconds
+     */
+    public BotClient(int id, String ip, int port, LoadStats stats, int thinkMin, int thinkMax, double specialShotRate, int games, int timeout){
+        this.name = String.format("bot%05d", id);
+        this.ip = ip;
+        this.port = port;
+        this.stats = stats;
+        this.random = new Random(id);
+        this.thinkMin = thinkMin;
+        this.thinkMax = thinkMax;
+        this.specialShotRate = specialShotRate;
+        this.games = games;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Method that plays the given number of games, stops at the first error.
+     */
+    @Override
+    public void run(){
+        try{
+            for(int i = 0; i < games; i++){
+                playGame();
+            }
+        }
+        catch(UncheckedIOException e){
+            countError(e.getCause());
+        }
+        catch(IOException e){
+            countError(e);
+        }
+        catch(InterruptedException e){
+            stats.error("interrupted");
+        }
+        finally{
+            close();
+            stats.addReplyLatencies(replyLatencies.values, replyLatencies.count);
+            stats.addTurnLatencies(turnLatencies.values, turnLatencies.count);
+        }
+    }
+
+    /**
+     * Method that counts an error of the connection in the LoadStats, by kind.
+     * 
+     * @param e {IOException} - the error
+     */
+    private void countError(IOException e){
+        if(e instanceof ConnectException){
+            stats.error("connect");
+        }
+        else if(e instanceof SocketTimeoutException){
+            stats.error("timeout");
+        }
+        else if(e instanceof EOFException){
+            stats.error("closed by server");
+        }
+        else{
+            stats.error(e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Method called by the methods of Client when the connection is broken: 
+     * only this bot stops, the error is thrown up to run().
+     */
+    @Override
+    protected void connectionBroken(IOException e, String message){
+        throw new UncheckedIOException(message, e);
+    }
+
+    /**
+     * Method that connects to the server and plays one game until it is won or lost.
+     * 
+     * @throws IOException if the connection is broken
+     * @throws InterruptedException if the bot is interrupted while thinking
+     */
+    private void playGame() throws IOException, InterruptedException {
+        sock = new Socket(ip, port);
+        sock.setSoTimeout(timeout);
+        in = new DataInputStream(new BufferedInputStream(sock.getInputStream()));
+        out = new DataOutputStream(sock.getOutputStream());
+        sendName();
+        stats.connected();
+        shuffleShots();
+        answerSentAt = 0;
+        turnEndedAt = 0;
+
+        while(true){
+            Frame query = getFrameFromServer();
+            stats.frame();
+            if(answerSentAt != 0){
+                replyLatencies.add(System.nanoTime() - answerSentAt);
+                answerSentAt = 0;
+            }
+
+            switch(query.opcode){
+                case Protocol.OP_PLACE_UNIT:
+                    think();
+                    sendToServer("U-"+Protocol.UNIT_NAMES[query.arg]+"-"+query.arg2);
+                    sendToServer(LAYOUT[query.arg]);
+                    break;
+
+                case Protocol.OP_INPUT:
+                    sendToServer("");
+                    break;
+
+                case Protocol.OP_SHOT_TYPE:
+                    if(turnEndedAt != 0){
+                        turnLatencies.add(System.nanoTime() - turnEndedAt);
+                        turnEndedAt = 0;
+                    }
+                    think();
+                    String shotType = chooseShotType(query.arg);
+                    sendToServer(shotType);
+                    stats.shot();
+                    if(shotType.equals("R")){                    //no coordinate for a rocket strike
+                        shotAnswered();
+                    }
+                    break;
+
+                case Protocol.OP_SHOT_COORD:
+                    think();
+                    sendToServer(CoordCodec.name(shots[nextShot]));
+                    nextShot = (nextShot + 1) % shots.length;
+                    shotAnswered();
+                    break;
+
+                case Protocol.OP_SHOT_DIRECTION:
+                    sendToServer(random.nextBoolean() ? "H" : "V");
+                    shotAnswered();
+                    break;
+
+                case Protocol.OP_WON:
+                case Protocol.OP_LOST:
+                    stats.gameFinished();
+                    close();
+                    return;
+
+                case Protocol.OP_CLOSE:
+                    throw new EOFException("closed by server");
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Method that starts the latencies measured from the last answer of a shot, 
+     * the last answer is the one sent after the previous call.
+     */
+    private void shotAnswered(){
+        answerSentAt = System.nanoTime();
+        turnEndedAt = answerSentAt;
+    }
+
+    /**
+     * Method that chooses the type of the next shot among the available ones.
+     * 
+     * @param mask {int} - the mask of the available shot types (see Protocol.shotTypes)
+     * @return {String} - the chosen shot type, ex: "S"
+     */
+    private String chooseShotType(int mask){
+        if(random.nextDouble() < specialShotRate){
+            int first = random.nextInt(SPECIAL_SHOTS.length);
+            for(int i = 0; i < SPECIAL_SHOTS.length; i++){
+                int shotType = SPECIAL_SHOTS[(first + i) % SPECIAL_SHOTS.length];
+                if((mask & (1 << shotType)) != 0){
+                    return Protocol.SHOT_TYPES[shotType];
+                }
+            }
+        }
+        return "S";
+    }
+
+    /**
+     * Method that puts all the cells of the grid in a random order (Fisher-Yates shuffle).
+     */
+    private void shuffleShots(){
+        shots = new int[CoordCodec.CELLS];
+        for(int i = 0; i < shots.length; i++){
+            shots[i] = i;
+        }
+        for(int i = shots.length - 1; i > 0; i--){
+            int j = random.nextInt(i + 1);
+            int cell = shots[i];
+            shots[i] = shots[j];
+            shots[j] = cell;
+        }
+        nextShot = 0;
+    }
+
+    /**
+     * Method that waits a random time between thinkMin and thinkMax, like a user reading the screen.
+     * 
+     * @throws InterruptedException if the bot is interrupted
+     */
+    private void think() throws InterruptedException {
+        if(thinkMax > 0){
+            Thread.sleep(thinkMin + random.nextInt(thinkMax - thinkMin + 1));
+        }
+    }
+
+
+    /**
+     * Method that closes the connection with the server, if any.
+     */
+    private void close(){
+        if(sock != null){
+            try{
+                sock.close();
+            }
+            catch(IOException e){
+                //Already closed
+            }
+        }
+    }
+
+    /**
+     * This class keeps the latencies measured by a bot, in nanoseconds.
+     */
+    private static class LatencyLog {
+
+        long[] values = new long[256];
+        int count = 0;
+
+        /**
+         * Method that keeps a latency.
+         * 
+         * @param nanos {long} - the latency in nanoseconds
+         */
+        void add(long nanos){
+            if(count == values.length){
+                long[] bigger = new long[values.length * 2];
+                System.arraycopy(values, 0, bigger, 0, values.length);
+                values = bigger;
+            }
+            values[count++] = nanos;
+        }
+
+    }
+
+}
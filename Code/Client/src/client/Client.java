@@ -11,6 +11,9 @@ import java.net.*;
  * 
  * This class is a super-class of which a cmd-line and Gui client will inherit.
  * 
+ * A session can be recorded in a local file (see RecordingFrameReader) and replayed later without server:
+ * while replaying, the queries are read from the file (see ReplayFrameReader) and nothing is sent.
+ * 
  */
 public class Client {
 
@@ -20,21 +23,125 @@ public class Client {
     protected Socket sock;
     protected DataInputStream in;
     protected DataOutputStream out;
+    protected FrameReader reader;
+    protected boolean useBinaryProtocol = true;
+    protected String recordFile = null;         //file in which the session is recorded, null if none
+    protected String replayFile = null;         //recorded session to replay instead of connecting, null if none
+    protected double replaySpeed = 1;
+    protected boolean replaying = false;
+
+    /**
+     * Method that reads the options given to the client.
+     * 
+     * Options:
+     *  --text          : use the historical text protocol instead of the binary protocol
+     *  --record <file> : record the session in the file
+     *  --replay <file> : replay a recorded session instead of connecting to a server
+     *  --speed <x>     : speed of the replay, ex: 2 for twice as fast, max for no delay (default: 1)
+     * 
+     * @param args {String[]} - the arguments of the program
+     */
+    protected void parseOptions(String[] args){
+        for(int i = 0; i < args.length; i++){
+            if(args[i].equals("--text")){
+                useBinaryProtocol = false;
+            }
+            else if(args[i].equals("--record") && i + 1 < args.length){
+                recordFile = args[++i];
+            }
+            else if(args[i].equals("--replay") && i + 1 < args.length){
+                replayFile = args[++i];
+            }
+            else if(args[i].equals("--speed") && i + 1 < args.length){
+                replaySpeed = ReplayFrameReader.parseSpeed(args[++i]);
+            }
+        }
+    }
+
+    /**
+     * Method that starts the replay of the recorded session given with --replay.
+     * 
+     * @throws IOException if the recording can not be read
+     */
+    protected void startReplay() throws IOException {
+        reader = new ReplayFrameReader(replayFile, replaySpeed);
+        replaying = true;
+    }
 
     /**
-     * Method that takes a string and tries to send it to the server.
+     * Method that takes a string and tries to send it to the server (nothing is sent while replaying).
      * If an error occurs, it will be displayed on the cmd-line with no further action.
      * 
      * @param str {String} - A String to send to the server 
      */
     protected void sendToServer(String str){
+        if(replaying){
+            return;
+        }
         try{
             out.writeUTF(str);
         }
         catch(IOException e){
-            System.out.println(e);
-            System.out.println("ERROR - unable to send information to the server");
-            System.exit(0);
+            connectionBroken(e, "ERROR - unable to send information to the server");
+        }
+    }
+
+    /**
+     * Method that negotiates the protocol with the server and then sends it the name of the client.
+     * If the binary protocol is asked and accepted by the server, its queries will be read as binary frames,
+     * otherwise the historical text protocol is used (see Protocol). 
+     * A server that does not answer the negotiation has already sent its first query, it is kept by the TextFrameReader.
+     * If the session is recorded, the queries are recorded as they are read.
+     * 
+     * @throws IOException if the connection is broken or the recording can not be created
+     */
+    protected void sendName() throws IOException {
+        reader = new TextFrameReader(in);
+        if(useBinaryProtocol){
+            out.writeUTF(Protocol.HELLO + " " + name);
+            String answer = in.readUTF();
+            if(answer.equals(Protocol.HELLO)){
+                reader = new BinaryFrameReader(in);
+            }
+            else if(!answer.equals(Protocol.TEXT)){
+                reader = new TextFrameReader(in, answer);   //Server without negotiation: the answer is its first query
+            }
+        }
+        else{
+            out.writeUTF(name);
+        }
+        if(recordFile != null){
+            reader = new RecordingFrameReader(reader, recordFile);
+        }
+    }
+
+    /**
+     * Method that waits for the next query from the server and returns it when received. 
+     * If an error occurs, it will be displayed on the cmd-line with no further action.
+     * 
+     * @return {Frame} - the query received from the server
+     */
+    protected Frame getFrameFromServer(){
+        try{
+            return reader.read();
+        }
+        catch(IOException e){
+            connectionBroken(e, "ERROR - unable to receive information from the server");
+        }
+        return null;
+    }
+
+    /**
+     * Method that tells if the next query of the server has already been received.
+     * 
+     * @return {boolean} - true if getFrameFromServer() would return without waiting
+     */
+    protected boolean frameReady(){
+        try{
+            return reader.ready();
+        }
+        catch(IOException e){
+            return false;
         }
     }
 
@@ -49,12 +156,23 @@ public class Client {
             return in.readUTF();
         }
         catch(IOException e){
-            System.out.println(e);
-            System.out.println("ERROR - unable to receive information from the server");
-            System.exit(0);
+            connectionBroken(e, "ERROR - unable to receive information from the server");
         }
         return "";
     }
+
+    /**
+     * Method called when the connection with the server is broken while sending or receiving:
+     * the error is displayed on the cmd-line and the program stops.
+     * 
+     * @param e {IOException} - the error of the connection
+     * @param message {String} - the message to display
+     */
+    protected void connectionBroken(IOException e, String message){
+        System.out.println(e);
+        System.out.println(message);
+        System.exit(0);
+    }
      
     /**
      * Method that lets this instance sleep for X milliseconds.
@@ -101,10 +101,10 @@ public class ClientCmd extends Client {
         System.out.println("__________________________");
 
         // In and out streams => Information received (inputStream) and sent (outputStream) :
-        in = new DataInputStream(sock.getInputStream()); 
+        in = new DataInputStream(new BufferedInputStream(sock.getInputStream())); 
         out = new DataOutputStream(sock.getOutputStream()); 
 
-        out.writeUTF(name); //Sends client name to server
+        sendName(); //Sends client name to server
 
         }
         catch(Exception e){
@@ -118,79 +118,66 @@ public class ClientCmd extends Client {
     //!---------------------------------------------------------------------------------
 
     /**
-     * Method that gets and processes the queries from the server.
+     * Method that gets and processes the queries from the server (see Frame and Protocol).
      * There are two main kind of queries:
      * 
      *  -> queries where the user is asked to do something 
      *  -> queries only to update the display, no user-interaction needed
+     * 
+     * The updates of the cells are buffered by the grid (see TerminalRenderer) and displayed with a single write
+     * at the end of each burst: when no other query has been received yet, or before any other kind of query.
      */
     private void listenToServer(){
-        String[] queryFromServer;
-        String command = "";
-        String comment = "";
+        Frame query;
         String strToServer ="";
 
         while (true)  { 
 
-            queryFromServer = getFromServer().split("-"); 
-            command = queryFromServer[0];
-            switch(command){
+            query = getFrameFromServer(); 
+            boolean cellUpdate = isCellUpdate(query.opcode);
+            if(!cellUpdate){
+                gridDisplay.flush();
+            }
+            switch(query.opcode){
                 
                 //!---------------------------
                 //!  Interactions with user 
                 //!---------------------------
 
-                case "U":   //Placing of units -> queryFromServer format : U-<unitName>-<unitSize>-<Comment>
-                    String unitName = queryFromServer[1];
-                    comment = queryFromServer[3];
+                case Protocol.OP_PLACE_UNIT:   //Placing of units -> unit id, unit size, comment
+                    String unitName = Protocol.UNIT_NAMES[query.arg];
                     System.out.print("\nWhere do you want to place the " + unitName + "? Enter top-left and bottom-right coordinates separated by a whitespace.\n");
-                    if(!comment.equals("NC")){
-                        System.out.print(comment);
-                    }
-                    sendToServer("U-"+unitName+"-"+queryFromServer[2]);
-                    strToServer = scn.nextLine();
+                    System.out.print(query.text);
+                    sendToServer("U-"+unitName+"-"+query.arg2);
+                    strToServer = readInput();
+                    sendToServer(strToServer);
+                    break;
+                
+                case Protocol.OP_SHOT_TYPE:   //shot Type -> available shot types mask, comment
+                    System.out.print("What type of shot do you want to use?     Available: "+ Protocol.shotTypes(query.arg) +"\n"+
+                    "S : Singleshot; A : Airstrike; D : Radar discovery; B : Bigshot; R : Rocketstrike\n");
+                    System.out.print(query.text);
+                    strToServer = readInput();
                     sendToServer(strToServer);
                     break;
                 
-                case "S": //Shooting -> queryFromServer format : S-<commandType>-<data>-<Comment>
-                    String commandType = queryFromServer[1];
-                    comment = queryFromServer[3];
-                    switch(commandType){
-                        case "T":   //shot Type
-                            String availableShotTypes = queryFromServer[2];
-                            System.out.print("What type of shot do you want to use?     Available: "+ availableShotTypes +"\n"+
-                            "S : Singleshot; A : Airstrike; D : Radar discovery; B : Bigshot; R : Rocketstrike\n");
-                            if(!comment.equals("NC")){
-                                System.out.print(comment);
-                            }
-                            strToServer = scn.nextLine();
-                            sendToServer(strToServer);
-                            break;
-                        
-                        case "C":   //shot center Coord
-                            System.out.print("Enter the coordinate of the center of the shot. Ex: H4 \n");
-                            if(!comment.equals("NC")){
-                                System.out.print(comment);
-                            }
-                            strToServer = scn.nextLine();
-                            sendToServer(strToServer);
-                            break;
-
-                        case "D":   //direction
-                            System.out.print("Enter the direction of the airstrike. H : Horizontal;  any other key : Vertical \n");
-                            if(!comment.equals("NC")){
-                                System.out.print(comment);
-                            }
-                            strToServer = scn.nextLine();
-                            sendToServer(strToServer);
-                            break;
-                    }
+                case Protocol.OP_SHOT_COORD:   //shot center Coord
+                    System.out.print("Enter the coordinate of the center of the shot. Ex: H4 (? for targeting hints)\n");
+                    System.out.print(query.text);
+                    strToServer = readInput();
+                    sendToServer(strToServer);
                     break;
 
-                case "I": //Comment with input from client
-                    comment = queryFromServer[1];
-                    System.out.print(comment);
-                    strToServer = scn.nextLine();
+                case Protocol.OP_SHOT_DIRECTION:   //direction
+                    System.out.print("Enter the direction of the airstrike. H : Horizontal;  any other key : Vertical \n");
+                    System.out.print(query.text);
+                    strToServer = readInput();
+                    sendToServer(strToServer);
+                    break;
+
+                case Protocol.OP_INPUT: //Comment with input from client
+                    System.out.print(query.text);
+                    strToServer = readInput();
                     sendToServer(strToServer);
                     break;
 
@@ -200,88 +187,128 @@ public class ClientCmd extends Client {
                 //!---------------------------
 
 
-                case "C": //Comment without input from client
-                    comment = queryFromServer[1];
-                    System.out.print(comment);
+                case Protocol.OP_COMMENT: //Comment without input from client
+                    System.out.print(query.text);
                     break;
 
-                case "displayGrid":
+                case Protocol.OP_DISPLAY_GRID:
                     System.out.print("disp"); 
                     gridDisplay.displayGrid();
                     break;
 
-                case "insertUnit":
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("Unit", command, false);
+                case Protocol.OP_INSERT_UNIT:
+                    gridDisplay.insertInGrid("Unit", query.cell()+"/"+Protocol.UNIT_NAMES[query.arg2], false);
                     break;
                 
-                case "Hit": 
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("Hit", command, true);
+                case Protocol.OP_HIT: 
+                    gridDisplay.insertInGrid("Hit", query.cell(), true);
                     break;
 
-                case "noHit":
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("noHit", command, true);
+                case Protocol.OP_NO_HIT:
+                    gridDisplay.insertInGrid("noHit", query.cell(), true);
                     break;
                 
-                case "Destroyed":
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("Destroyed", command, true);
+                case Protocol.OP_DESTROYED:
+                    gridDisplay.insertInGrid("Destroyed", query.cell(), true);
                     break;
                 
-                case "myDestroyed":
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("Destroyed", command, false);
+                case Protocol.OP_MY_DESTROYED:
+                    gridDisplay.insertInGrid("Destroyed", query.cell(), false);
                     break;
                 
-                case "myHit": 
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("Hit", command, false);
+                case Protocol.OP_MY_HIT: 
+                    gridDisplay.insertInGrid("Hit", query.cell(), false);
+                    break;
+
+                case Protocol.OP_MY_NO_HIT:
+                    gridDisplay.insertInGrid("noHit", query.cell(), false);
                     break;
 
-                case "myNoHit":
-                    command = getFromServer();
-                    gridDisplay.insertInGrid("noHit", command, false);
+                case Protocol.OP_REMOVE_LINES: //remove lines
+                    gridDisplay.removeLines(query.arg);
                     break;
 
-                case "Rem": //remove lines
-                    command = getFromServer();
-                    gridDisplay.removeLines(Integer.parseInt(command));
+                case Protocol.OP_WAIT: //pause between the cells of an airstrike or a rocket strike
+                    sleep(query.arg * 10);
                     break;
                     
-                case "WON":
+                case Protocol.OP_WON:
                     System.out.print(GREEN_FG + "\n    YOU WON!    \n\n"+ RESET_COLOR);
                     System.exit(0);
                     break;
                 
-                case "LOST":
+                case Protocol.OP_LOST:
                     System.out.print(RED_FG + "\n    YOU LOST!    \n\n"+ RESET_COLOR);
                     System.exit(0);
                     break;
 
-                case "CLOSE":
+                case Protocol.OP_CLOSE:
                     System.exit(0);
                     break;
 
                 default:
-                    System.out.print(command);
+                    System.out.print(query.text);
+            }
+            if(cellUpdate && !frameReady()){
+                gridDisplay.flush();
             }
         }
 
     }
 
+    /**
+     * Method that tells if a query only changes a cell of the grids.
+     * 
+     * @param opcode {int} - the opcode of the query (see Protocol)
+     * @return {boolean} - true for the queries displaying a unit or a shot
+     */
+    private boolean isCellUpdate(int opcode){
+        switch(opcode){
+            case Protocol.OP_INSERT_UNIT:
+            case Protocol.OP_HIT:
+            case Protocol.OP_NO_HIT:
+            case Protocol.OP_DESTROYED:
+            case Protocol.OP_MY_DESTROYED:
+            case Protocol.OP_MY_HIT:
+            case Protocol.OP_MY_NO_HIT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+
+    /**
+     * Method that reads the answer of the user, nothing is read while replaying a recorded session.
+     * 
+     * @return {String} - the line entered by the user
+     */
+    private String readInput(){
+        return replaying ? "" : scn.nextLine();
+    }
+
 
     //!---------------------------------------------------------------------------------
     //!                                     MAIN
     //!---------------------------------------------------------------------------------
     /**
      * Run main to start client in cmd-line display mode
+     * 
+     * Options (see Client.parseOptions()):
+     *  --text          : use the historical text protocol instead of the binary protocol
+     *  --record <file> : record the session in the file
+     *  --replay <file> : replay a recorded session instead of connecting to a server (--speed <x|max>)
      */
     public static void main(String[] args){
     	try {
     		ClientCmd client = new ClientCmd();
-            client.InitConnection();
+            client.parseOptions(args);
+            if(client.replayFile != null){
+                client.startReplay();
+            }
+            else{
+                client.InitConnection();
+            }
             client.listenToServer();
     	}
         catch(NumberFormatException a) {
@@ -290,6 +317,9 @@ public class ClientCmd extends Client {
     	catch(NullPointerException a) {
             System.out.println(RED_FG+"Can't reach server...Check Ip/port and connectivity"+RESET_COLOR);
     	}
+        catch(IOException e) {
+            System.out.println(RED_FG+"Unable to replay the session: "+e.getMessage()+RESET_COLOR);
+        }
     } 
 
 }
\ No newline at end of file
@@ -2,11 +2,12 @@ package client;
 
 import java.io.*;
 import java.net.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 
@@ -34,15 +35,22 @@ import javax.swing.UIManager;
  * 
  *  3) Once connected, the class will wait for a query from the server,
  *     process the incoming data and act accordingly.
+ * 
+ * The clicks of the user (on the cells and on the shot-buttons) are handed by the Swing listeners 
+ * to the thread that talks with the server through a blocking queue of GuiInput:
+ * that thread sleeps until the input it waits for is clicked, instead of checking every 100 ms.
+ * 
+ * In the other direction, the updates of the display received from the server (cells, text, shot-buttons)
+ * are never applied by the thread that talks with the server: they are posted to a GuiRenderQueue,
+ * which applies them on the event dispatch thread, a whole burst of updates in one batch and one repaint.
  */
 public class ClientGui extends Client {
 
-    private static String[] clickedCoords = new String[2];
-    protected static String clickedEnemyCoord = "";
+    private static final BlockingQueue<GuiInput> inputs = new LinkedBlockingQueue<>();
 
+    private final GuiRenderQueue render = new GuiRenderQueue();
     private JTextArea outputText = new JTextArea();
     private JButton btnPrecision, btnMissile, btnAirstrike, btnRadar, btnBigshot;
-    private String shotBtnPressed = "";
 
 
     //!---------------------------------------------------------------------------------
@@ -68,10 +76,9 @@ public class ClientGui extends Client {
         //!-----------------
         //! myGrid creation
         //!-----------------
-        JPanel myGrid = new JPanel();
+        GuiIcons.load();        //every icon of the cells is read and scaled once, before the grids are created
+        BoardPanel myGrid = GuiGrid.createYourGrid();
         myGrid.setBounds(5, 25, 520, 515);
-        myGrid.setLayout(new GridLayout(14, 14));
-        GuiGrid.createYourGrid(myGrid);
 
         JTextPane myGridTitle = new JTextPane();
         myGridTitle.setBounds(180, 0, 231, 25);
@@ -83,10 +90,8 @@ public class ClientGui extends Client {
         //!--------------------
         //! enemyGrid creation
         //!--------------------
-        JPanel enemyGrid = new JPanel();
+        BoardPanel enemyGrid = GuiGrid.createEnnemyGrid();
         enemyGrid.setBounds(540, 25, 510, 515);
-        enemyGrid.setLayout(new GridLayout(14, 14));
-        GuiGrid.createEnnemyGrid(enemyGrid);
 
         JTextPane enemyGridTitle = new JTextPane();
         enemyGridTitle.setBounds(650, 0, 290, 25);
@@ -188,7 +193,7 @@ public class ClientGui extends Client {
 
     /**
      * Method that listens to all of the shot-buttons,
-     * If a button is pressed, the associated string is saved into a global variable.
+     * If a button is pressed, the associated shot type is handed to the thread that talks with the server.
      * 
      * @param but {JButton} - the button type that is checked
      */
@@ -199,22 +204,22 @@ public class ClientGui extends Client {
             public void actionPerformed(ActionEvent e) {
                 switch (but.getText()) {
                 case " Precision shoot (S) ":
-                    shotBtnPressed = "S";
+                    postInput(new GuiInput(GuiInput.Kind.SHOT_TYPE, "S"));
                     break;
                 case " Missile barage (R)   ":
-                    shotBtnPressed = "R";
+                    postInput(new GuiInput(GuiInput.Kind.SHOT_TYPE, "R"));
                     but.setEnabled(false);
                     break;
                 case " Airstrike (A)             ":
-                    shotBtnPressed = "A";
+                    postInput(new GuiInput(GuiInput.Kind.SHOT_TYPE, "A"));
                     but.setEnabled(false);
                     break;
                 case " Radar discovery (D)":
-                    shotBtnPressed = "D";
+                    postInput(new GuiInput(GuiInput.Kind.SHOT_TYPE, "D"));
                     break;
 
                 case " Big Shoot (B)           ":
-                    shotBtnPressed = "B";
+                    postInput(new GuiInput(GuiInput.Kind.SHOT_TYPE, "B"));
                     but.setEnabled(false);
                     break;
                 }
@@ -226,40 +231,38 @@ public class ClientGui extends Client {
      * Method that waits until a shot-button is pressed,
      * if a shot-button is pressed, the method returns the corresponding string.
      * 
+     * The clicks made before the turn of the player are stale, they are forgotten.
+     * 
      * @return {String} - the string corresponding to the button that was pressed
      */
     private String getButtonPressed() {
-        
-        shotBtnPressed = "";
-        while(shotBtnPressed.equals("")){
-            sleep(100);
-        }
-        String btn = shotBtnPressed;
-        shotBtnPressed = "";
-        return btn;
+        inputs.clear();
+        return takeInput(GuiInput.Kind.SHOT_TYPE);
     }
 
     /**
      * This method checks if a shot-type is available or not and 
      * disables/enables the corresponding shot-buttons accordingly. 
+     * The buttons are changed on the event dispatch thread, with the next batch of the render queue.
      * 
      * @param avShots {String} - a string containing all the available shot-types,
      *                           previously received from the server
      */
     private void setShotAvailability(String avShots) {
-
-        if (avShots.contains("A")) {
-            btnAirstrike.setEnabled(true);
-        }
-        if (avShots.contains("D")) {
-            btnRadar.setEnabled(true);
-        }
-        if (avShots.contains("B")) {
-            btnBigshot.setEnabled(true);
-        }
-        if (avShots.contains("R")) {
-            btnMissile.setEnabled(true);
-        }
+        render.post(() -> {
+            if (avShots.contains("A")) {
+                btnAirstrike.setEnabled(true);
+            }
+            if (avShots.contains("D")) {
+                btnRadar.setEnabled(true);
+            }
+            if (avShots.contains("B")) {
+                btnBigshot.setEnabled(true);
+            }
+            if (avShots.contains("R")) {
+                btnMissile.setEnabled(true);
+            }
+        });
     }
 
     /**
@@ -283,7 +286,7 @@ public class ClientGui extends Client {
      * @param text {String} - the text to print
      */
     protected void setText(String text) {
-        outputText.setText(text);
+        render.post(() -> outputText.setText(text));
     }
 
     /**
@@ -293,14 +296,14 @@ public class ClientGui extends Client {
      * @param text {String} - the text to print
      */
     protected void addText(String text) {
-        outputText.append(text);
+        render.post(() -> outputText.append(text));
     }
 
     /**
      * Method that clears the whole text-area. 
      */
     protected void removeLines() {
-        outputText.setText(null);
+        render.post(() -> outputText.setText(null));
     }
 
 
@@ -353,10 +356,10 @@ public class ClientGui extends Client {
             setText("Connected!\n");
 
             // In and out streams => Information received (inputStream) and sent (outputStream):
-            in = new DataInputStream(sock.getInputStream());
+            in = new DataInputStream(new BufferedInputStream(sock.getInputStream()));
             out = new DataOutputStream(sock.getOutputStream());
 
-            out.writeUTF(name);// Sends client name to server
+            sendName();// Sends client name to server
 
         } catch (Exception e) {
             System.out.println(e);
@@ -374,74 +377,57 @@ public class ClientGui extends Client {
     // !---------------------------------------------------------------------------------
 
     /**
-     * Method that gets and processes the queries from the server.
+     * Method that gets and processes the queries from the server (see Frame and Protocol).
      * There are two main kind of queries:
      * 
      *  -> queries where the user is asked to do something 
      *  -> queries only to update the display, no user-interaction needed
+     * 
+     * The updates of the display are posted to the render queue, see GuiRenderQueue.
      */
     private void listenToServer() {
-        String[] queryFromServer;
-        String command = "";
-        String comment = "";
         String strToServer = "";
 
         while (true) {
 
-            queryFromServer = getFromServer().split("-");
-            command = queryFromServer[0];
-            switch (command) {
+            Frame query = getFrameFromServer();
+            switch (query.opcode) {
 
                 //!---------------------------
                 //!  Interactions with user 
                 //!---------------------------
 
-                case "U": // Placing of units -> queryFromServer format : U-<unitName>-<unitSize>-<Comment>
-                    String unitName = queryFromServer[1];
-                    comment = queryFromServer[3];
+                case Protocol.OP_PLACE_UNIT: // Placing of units -> unit id, unit size, comment
+                    String unitName = Protocol.UNIT_NAMES[query.arg];
                     addText("\nWhere do you want to place the " + unitName + "? Click on top-left and bottom-right coordinates.\n");
-                    if (!comment.equals("NC")) {
-                        addText(comment);
-                    }
-                    sendToServer("U-" + unitName + "-" + queryFromServer[2]);
-                    strToServer = getClickedCoords();
+                    addText(query.text);
+                    sendToServer("U-" + unitName + "-" + query.arg2);
+                    strToServer = replaying ? "" : getClickedCoords();
+                    sendToServer(strToServer);
+                    break;
+
+                case Protocol.OP_SHOT_TYPE: // shot Type -> available shot types mask, comment
+                    setShotAvailability(Protocol.shotTypes(query.arg));
+                    setText("It's your turn to shoot, choose an available shot type!\n");
+                    addText(query.text);
+                    strToServer = replaying ? "" : getButtonPressed();
+                    sendToServer(strToServer);
+                    break;
+
+                case Protocol.OP_SHOT_COORD: // shot center Coord
+                    addText("Click the coordinate of the center of the shot. (on the enemy's grid!)\n");
+                    addText(query.text);
+                    strToServer = replaying ? "" : getClickedEnemyCoord();
                     sendToServer(strToServer);
                     break;
 
-                case "S": // Shooting -> queryFromServer format : S-<commandType>-<data>-<Comment>
-                    String commandType = queryFromServer[1];
-                    comment = queryFromServer[3];
-                    switch (commandType) {
-                    case "T": // shot Type
-                        String availableShotTypes = queryFromServer[2];
-                        setShotAvailability(availableShotTypes);
-                        setText("It's your turn to shoot, choose an available shot type!\n");
-                        if (!comment.equals("NC")) {
-                            addText(comment);
-                        }
-                        strToServer = getButtonPressed();
-                        sendToServer(strToServer);
-                        break;
-
-                    case "C": // shot center Coord
-                        addText("Click the coordinate of the center of the shot. (on the enemy's grid!)\n");
-                        if (!comment.equals("NC")) {
-                            addText(comment);
-                        }
-                        strToServer = getClickedEnemyCoord();
-                        sendToServer(strToServer);
-                        break;
-
-                    case "D": // direction
-                        strToServer = GuiPopups.getShotDirection();
-                        sendToServer(strToServer);
-                        break;
-                    }
+                case Protocol.OP_SHOT_DIRECTION: // direction
+                    strToServer = replaying ? "" : GuiPopups.getShotDirection();
+                    sendToServer(strToServer);
                     break;
 
-                case "I": // Comment with input from client
-                    comment = queryFromServer[1];
-                    addText(comment);
+                case Protocol.OP_INPUT: // Comment with input from client
+                    addText(query.text);
                     // strToServer = scn.nextLine();
                     sendToServer(strToServer);
                     break;
@@ -450,65 +436,60 @@ public class ClientGui extends Client {
                 //!    display management  
                 //!---------------------------
 
-                case "C": // Comment without input from client
-                    comment = queryFromServer[1];    
-                    addText(comment);
+                case Protocol.OP_COMMENT: // Comment without input from client
+                    addText(query.text);
                     break;
 
-                case "displayGrid":
+                case Protocol.OP_DISPLAY_GRID:
                     break;
 
-                case "insertUnit":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("Unit", command, false);
+                case Protocol.OP_INSERT_UNIT:
+                    render.post(() -> GuiGrid.insertUnitInGrid(query.arg, query.arg2, false));
                     break;
 
-                case "Hit":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("Hit", command, true);
+                case Protocol.OP_HIT:
+                    render.post(() -> GuiGrid.insertInGrid("Hit", query.cell(), true));
                     break;
 
-                case "noHit":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("noHit", command, true);
+                case Protocol.OP_NO_HIT:
+                    render.post(() -> GuiGrid.insertInGrid("noHit", query.cell(), true));
                     break;
 
-                case "Destroyed":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("Destroyed", command, true);
+                case Protocol.OP_DESTROYED:
+                    render.post(() -> GuiGrid.insertInGrid("Destroyed", query.cell(), true));
                     break;
 
-                case "myDestroyed":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("Destroyed", command, false);
+                case Protocol.OP_MY_DESTROYED:
+                    render.post(() -> GuiGrid.insertInGrid("Destroyed", query.cell(), false));
                     break;
 
-                case "myHit":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("Hit", command, false);
+                case Protocol.OP_MY_HIT:
+                    render.post(() -> GuiGrid.insertInGrid("Hit", query.cell(), false));
                     break;
 
-                case "myNoHit":
-                    command = getFromServer();
-                    GuiGrid.insertInGrid("noHit", command, false);
+                case Protocol.OP_MY_NO_HIT:
+                    render.post(() -> GuiGrid.insertInGrid("noHit", query.cell(), false));
                     break;
 
-                case "Rem":
-                    command = getFromServer();
+                case Protocol.OP_REMOVE_LINES:
                     removeLines();
                     break;
 
-                case "WON":
+                case Protocol.OP_WAIT: // pause between the cells of an airstrike or a rocket strike
+                    sleep(query.arg * 10);
+                    break;
+
+                case Protocol.OP_WON:
                     GuiPopups.youWon();
                     System.exit(0);
                     break;
                 
-                case "LOST":
+                case Protocol.OP_LOST:
                     GuiPopups.youLost();
                     System.exit(0);
                     break;
 
-                case "CLOSE":
+                case Protocol.OP_CLOSE:
                     System.exit(0);
                     break;
 
@@ -524,59 +505,64 @@ public class ClientGui extends Client {
     // !---------------------------------------------------------------------------------
 
     /**
-     * Method that adds a given coordinate to a list of coords.
-     * This method is as a buffer to get the two coordinates needed for the 
-     * placing of the units on the grid. 
+     * Method called by the Swing listeners (on the event dispatch thread) when the user clicks on the interface:
+     * the input is queued until the thread that talks with the server takes it.
      * 
-     * @param coord {String} - the coordinated that pas clicked 
+     * @param input {GuiInput} - the click of the user
      */
-    public static void addToClickedCoords(String coord) {
-        if (clickedCoords[0] == null) {
-            clickedCoords[0] = coord;
-        } 
-        else {
-            clickedCoords[1] = coord;
-        }
+    protected static void postInput(GuiInput input) {
+        inputs.add(input);
     }
 
     /**
-     * Method that resets the array of coordinates for the
-     * placing of the units. 
+     * Method that waits until the user clicks the given kind of input and returns its value,
+     * the inputs of another kind clicked meanwhile are ignored.
+     * 
+     * @param kind {GuiInput.Kind} - the kind of input expected
+     * @return {String} - the value of the input (name of the cell or shot type)
      */
-    private void emptyClickedCoords() {
-        clickedCoords[0] = null;
-        clickedCoords[1] = null;
+    private String takeInput(GuiInput.Kind kind) {
+        try {
+            while (true) {
+                GuiInput input = inputs.take();
+                if (input.kind == kind) {
+                    return input.value;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            System.out.println(e);
+            System.out.println("ERROR - Thread could not wait for the user");
+            System.exit(0);
+        }
+        return "";
     }
 
     /**
-     * Method that waits until a two coordinates where chosen,
-     * if both are chosen, the method returns their names separated by a whitespace.
+     * Method that waits until two coordinates are clicked on the user's grid,
+     * the method returns their names separated by a whitespace.
+     * 
+     * The clicks made before the question of the server are stale, they are forgotten.
      * 
      * @return {String} - the names of the two coordinates separated by a whitespace
      */
     private String getClickedCoords() {
-        String coords;
-        while (clickedCoords[1] == null) {
-            sleep(100);
-        }
-        coords = clickedCoords[0] + " " + clickedCoords[1];
-        emptyClickedCoords();
-        return coords;
+        inputs.clear();
+        String topLeft = takeInput(GuiInput.Kind.MY_CELL);
+        return topLeft + " " + takeInput(GuiInput.Kind.MY_CELL);
     }
 
     /**
      * Method that waits until a coordinate is clicked from the enemy's grid,
      * if a coordinated is clicked, it's name is returned. 
      * 
+     * The clicks made before the question of the server are stale, they are forgotten.
+     * 
      * @return {String} - the name of the clicked coordinate
      */
     private String getClickedEnemyCoord() {
-        while (clickedEnemyCoord.equals("")) {
-            sleep(100);
-        }
-        String coord = clickedEnemyCoord;
-        clickedEnemyCoord = "";
-        return coord;
+        inputs.clear();
+        return takeInput(GuiInput.Kind.ENEMY_CELL);
     }
 
     /**
@@ -602,12 +588,30 @@ public class ClientGui extends Client {
     // !---------------------------------------------------------------------------------
     /**
      * Run main to start client in GUI display mode
+     * 
+     * Options (see Client.parseOptions()):
+     *  --text          : use the historical text protocol instead of the binary protocol
+     *  --record <file> : record the session in the file
+     *  --replay <file> : replay a recorded session instead of connecting to a server (--speed <x|max>)
      */
     public static void main(String args[]) {
         setCrossPlatformLook();
         ClientGui gui = new ClientGui();
-        gui.InitConnection();
+        gui.parseOptions(args);
+        if(gui.replayFile != null){
+            try{
+                gui.startReplay();
+            }
+            catch(IOException e){
+                System.out.println(e);
+                System.out.println("ERROR - unable to replay the session");
+                System.exit(0);
+            }
+        }
+        else{
+            gui.InitConnection();
+        }
         gui.listenToServer();
     }
 
-}
\ No newline at end of file
+}
@@ -17,8 +17,6 @@ public class CmdGrid {
 	protected final short rows = 13;
 	protected final short cols = rows;
 
-	private Grid grid = new Grid();
-
 	protected final String[] rowNames = { "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M" };
 	private final String gridHeader = "     1   2   3   4   5   6   7   8   9   10  11  12  13";
 	private final String gridTop =    "   ┌───┬───┬───┬───┬───┬───┬───┬───┬───┬───┬───┬───┬───┐";
@@ -53,54 +51,66 @@ public class CmdGrid {
 	public static final String TO_SAVED_CURSOR  = "\u001B8";
 	public static final String MOVE_1_UP    = "\u001B[1A";
 
+	private final TerminalRenderer renderer = new TerminalRenderer(rows, cols, System.out);
+
 	/**
 	 * Method that displays a AxA grid with row and column headers.
+	 * The whole screen is built first and then written at once.
 	 */
 	protected void displayGrid() {
-		System.out.print(CLEAR_SCREEN); 		//Clear the whole screen
-		System.out.print(HOME_CURSOR);  		//set cursor to home 
-		System.out.println("");
-		System.out.println(GREEN_FG+"		     YOUR BATTLEGROUND"+RESET_COLOR); 	
-		System.out.println(gridHeader);
-		System.out.println(gridTop);
+		String toEnemyGrid = String.format("\u001B[%dC", TerminalRenderer.ENEMY_OFFSET); 	// move cursor to column position
+		StringBuilder screen = new StringBuilder(8192);
+
+		screen.append(CLEAR_SCREEN); 		//Clear the whole screen
+		screen.append(HOME_CURSOR);  		//set cursor to home 
+		screen.append("\n");
+		screen.append(GREEN_FG+"		     YOUR BATTLEGROUND"+RESET_COLOR+"\n"); 	
+		screen.append(gridHeader).append("\n");
+		screen.append(gridTop).append("\n");
 		for (int i = 0; i < rows; i++) {
-			System.out.print(String.format("%s  |", rowNames[i]));
-			for (int j = 0; j < cols - 1; j++) {
-				System.out.print(gridCase);
-			}
-			System.out.println(gridCase);
+			appendGridRow(screen, i);
 			if (i != rows - 1) {
-				System.out.println(gridLine);
+				screen.append(gridLine).append("\n");
 			}
 		}
-		System.out.println(this.gridBottom);
-
-		System.out.print(String.format("\u001B[%dA", 29)); 	// move cursor to row position
-		System.out.print(String.format("\u001B[%dC", 60)); 	// move cursor to column position
-		System.out.println(RED_FG+"		       ENEMY'S BATTLEGROUND"+RESET_COLOR);
-		System.out.print(String.format("\u001B[%dC", 60)); 	// move cursor to column position
-		System.out.println(gridHeader);
-		System.out.print(String.format("\u001B[%dC", 60));	// move cursor to column position
-		System.out.println(gridTop);
-		System.out.print(String.format("\u001B[%dC", 60)); 	// move cursor to column position
+		screen.append(this.gridBottom).append("\n");
+
+		screen.append(String.format("\u001B[%dA", 29)); 	// move cursor to row position
+		screen.append(toEnemyGrid);
+		screen.append(RED_FG+"		       ENEMY'S BATTLEGROUND"+RESET_COLOR+"\n");
+		screen.append(toEnemyGrid).append(gridHeader).append("\n");
+		screen.append(toEnemyGrid).append(gridTop).append("\n");
+		screen.append(toEnemyGrid);
 		for (int i = 0; i < rows; i++) {
-			System.out.print(String.format("%s  |", rowNames[i]));
-			for (int j = 0; j < cols - 1; j++) {
-				System.out.print(gridCase);
-			}
-			System.out.println(gridCase);
-			System.out.print(String.format("\u001B[%dC", 60)); 	 // move cursor to column position
+			appendGridRow(screen, i);
+			screen.append(toEnemyGrid);
 			if (i != rows - 1) {
-				System.out.println(gridLine);
-				System.out.print(String.format("\u001B[%dC", 60)); // move cursor to column position
+				screen.append(gridLine).append("\n");
+				screen.append(toEnemyGrid);
 			}
 		}
-		System.out.println(this.gridBottom);
-		System.out.print(SAVE_CURSOR); // Save cursor position
+		screen.append(this.gridBottom).append("\n");
+		screen.append(SAVE_CURSOR); // Save cursor position
+
+		System.out.print(screen);
+		System.out.flush();
+		renderer.cleared();		// the cells already known are displayed again by the next flush()
 	}
 
 	/**
-	 * Method that displays elements on a given grid based on the given parameters:
+	 * Method that appends an empty row of cells of a grid to the screen.
+	 */
+	private void appendGridRow(StringBuilder screen, int i) {
+		screen.append(rowNames[i]).append("  |");
+		for (int j = 0; j < cols; j++) {
+			screen.append(gridCase);
+		}
+		screen.append("\n");
+	}
+
+	/**
+	 * Method that changes an element of a given grid based on the given parameters,
+	 * the change is displayed by the next flush() (see TerminalRenderer):
 	 * 
 	 * @param val {String} - The type of the element to display, this will affect what the user will see
 	 * @param data {String} - The coordinate of where the element should be placed
@@ -110,44 +120,35 @@ public class CmdGrid {
 	protected void insertInGrid(String val, String data, boolean isOutGoing) {
 		String coord = data.split("/")[0];
 		
-		int rowIndex = grid.getCoordIndex(coord)[0];
-		int colIndex = grid.getCoordIndex(coord)[1];
-		int gridSelect = 0;
-		String str = String.format("");
+		int cell = CoordCodec.index(coord);
+		if (cell < 0) {
+			return;
+		}
 
 		switch (val) {
 			case "Unit":
-				str = GREEN_BG + BLACK_FG + String.format(" %-2c", '۩');
+				renderer.set(isOutGoing, cell, TerminalRenderer.UNIT);
 				break;
 			case "Hit":
-				str = YELLOW_BG + BLACK_FG + String.format(" %-2c", '✠');
+				renderer.set(isOutGoing, cell, TerminalRenderer.HIT);
 				break;
 			case "noHit":
-				str = BLUE_BG + BLACK_FG + String.format(" %-2c", '✽');
+				renderer.set(isOutGoing, cell, TerminalRenderer.NO_HIT);
 				break;
 			case "Destroyed":
-				str = RED_BG + BLACK_FG + String.format(" %-2c", '♰');
+				renderer.set(isOutGoing, cell, TerminalRenderer.DESTROYED);
 				break;
 			default:
 				break;
 		}
+	}
 
-		// insert in the enemy's grid
-		if (isOutGoing) {
-			gridSelect = 60;
-		}
-		// insert in your grid
-		else {
-			gridSelect = 0;
-		}
-
-		System.out.print(TO_SAVED_CURSOR); 									 				// move to saved cursor position
-		System.out.print(String.format("\u001B[%dA", (2 * rows) - (2 * rowIndex)));    		// move cursor to row position
-		System.out.print(String.format("\u001B[%dC", 4 + (4 * colIndex) + gridSelect)); 	// move cursor to column position
-		System.out.print(str);
-		System.out.print(RESET_COLOR); 														// reset color
-		System.out.print(String.format("|"));
-		System.out.print(TO_SAVED_CURSOR);													// move to saved cursor position
+	/**
+	 * Method that displays, with a single write, all the cells changed since the previous call.
+	 * It is called at the end of each burst of updates received from the server.
+	 */
+	protected void flush() {
+		renderer.flush();
 	}
 
 	/**
@@ -157,10 +158,12 @@ public class CmdGrid {
      * @param numberOfLines {int} - the number of lines to delete
      */
     protected void removeLines(int numberOfLines) {
+        StringBuilder lines = new StringBuilder(numberOfLines * (MOVE_1_UP.length() + CLEAR_LINE.length()));
         for (int i = 0; i < numberOfLines; i++) {
-            System.out.print(MOVE_1_UP); 	// Move Up 1 line
-            System.out.print(CLEAR_LINE); 	// clear the current line
+            lines.append(MOVE_1_UP); 	// Move Up 1 line
+            lines.append(CLEAR_LINE); 	// clear the current line
         }
+        System.out.print(lines);
 	}
 	
 	/**
@@ -168,9 +171,7 @@ public class CmdGrid {
 	 * to the bottom of the cmd-line interface.
      */
     protected void clearDown() {
-		System.out.print(TO_SAVED_CURSOR); 
-		System.out.print(CLEAR_DOWN);
-		System.out.print(TO_SAVED_CURSOR);
+		System.out.print(TO_SAVED_CURSOR + CLEAR_DOWN + TO_SAVED_CURSOR);
     }
 
 }
@@ -0,0 +1,40 @@
+package client;
+
+/**
+ * This class represents one query received from the server, whatever the protocol used to receive it.
+ * 
+ * Example: the text query "Hit" + "H4" and the binary frame [OP_HIT][94] both give
+ * a Frame with opcode OP_HIT and argument 94.
+ */
+public class Frame {
+
+    public final int opcode;
+    public final int arg;
+    public final int arg2;
+    public final String text;
+
+    /**
+     * Constructor
+     * 
+     * @param opcode {int} - the kind of query, see Protocol
+     * @param arg {int} - the first argument (cell, unit id, shot types mask, ...)
+     * @param arg2 {int} - the second argument (unit id, unit size, ...)
+     * @param text {String} - the text of the query (comment, raw text, ...), empty if none
+     */
+    public Frame(int opcode, int arg, int arg2, String text){
+        this.opcode = opcode;
+        this.arg = arg;
+        this.arg2 = arg2;
+        this.text = text;
+    }
+
+    /**
+     * Method that returns the name of the cell given as first argument.
+     * 
+     * @return {String} - the name of the cell, ex: "H4"
+     */
+    public String cell(){
+        return Protocol.cellName(arg);
+    }
+
+}
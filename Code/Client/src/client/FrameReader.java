@@ -0,0 +1,28 @@
+package client;
+
+import java.io.IOException;
+
+/**
+ * This interface describes how the queries of the server are read from the connection.
+ */
+public interface FrameReader {
+
+    /**
+     * Method that waits for the next query of the server and returns it.
+     * 
+     * @return {Frame} - the query received from the server
+     * @throws IOException if the connection is broken
+     */
+    Frame read() throws IOException;
+
+    /**
+     * Method that tells if the next query has already been received, so that read() would not wait for it.
+     * 
+     * @return {boolean} - true if the next query can be read without waiting
+     * @throws IOException if the connection is broken
+     */
+    default boolean ready() throws IOException {
+        return false;
+    }
+
+}
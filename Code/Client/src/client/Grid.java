@@ -6,6 +6,7 @@ package client;
  * Each cell is therefor represented by a combination of a row-name and a column-name which correspond to a row-index and column-index.
  * 
  * Example: cell "H4" is located in row "H" at column "4" which are respectively at row index 7 and column-index 3 (index start at 0)
+ * The conversions between the coordinates and the indexes are done by CoordCodec.
  *  
  */
 public class Grid {
@@ -22,25 +23,11 @@ public class Grid {
      */
     protected int[] getCoordIndex(String str) {
 
-        String rowName = str.substring(0, 1);// "H4" => Takes from index 0 until 1 not included => "H"
-        String colName = str.substring(1);// "H4" => Takes from index 1 until end => "4"
-        int[] coordIndex = { -1, -1 };// initialized to {-1,-1} => if user enters incorrect row and colum => Error catched if coordIndex has -1 in it.
-
-        for (int i = 0; i < rowNames.length; i++) {
-            if (rowName.compareTo(rowNames[i]) == 0) {//If "H" == line "H" (example)
-                coordIndex[0] = i;
-                break;
-            }
-        }
-
-        for (int i = 0; i < colNames.length; i++) {
-            if (colName.compareTo(colNames[i]) == 0) {//if "4" == col "4" (example)
-                coordIndex[1] = i;
-                break;
-            }
+        int cell = CoordCodec.index(str);// -1 if user enters incorrect row or column => Error catched if coordIndex has -1 in it.
+        if (cell < 0) {
+            return new int[] { -1, -1 };
         }
-
-        return coordIndex;
+        return new int[] { CoordCodec.row(cell), CoordCodec.col(cell) };
     }
 
 }
@@ -1,154 +1,34 @@
 package client;
 
-import java.util.HashMap;
-
-import java.awt.*;
-import java.awt.event.*;
-
-import javax.swing.ImageIcon;
-import javax.swing.JButton;
-import javax.swing.JPanel;
-
 /**
  * This class is used to create, display and manipulate the GUI-interface of the game.
+ * 
+ * Each grid is a single BoardPanel painted from the icons of its cells,
+ * the cells are changed on the event dispatch thread (see GuiRenderQueue).
  */
 public class GuiGrid {
 
-	private static Font miniFont = new Font(Font.SANS_SERIF,Font.BOLD,10);
-	private static final String[] row = {"A","B","C","D","E","F","G","H","I","J","K","L","M"};
-	private static final String[] col = {"1","2","3","4","5","6","7","8","9","10","11","12","13"};
-	public static HashMap<String,JButton> myGridButtons = new HashMap<>();
-	public static HashMap<String,JButton> enemyGridButtons = new HashMap<>();
-    static Color background = null;
+	public static BoardPanel myBoard = null;
+	public static BoardPanel enemyBoard = null;
 	
 	/**
-	 * Method that creates and adds the user's grid to the GUI-interface 
+	 * Method that creates the user's grid of the GUI-interface 
 	 * 
-	 * @param grid {JPanel} - the panel in which the buttons need to be placed
+	 * @return {BoardPanel} - the grid, a click on a cell posts a MY_CELL input
 	 */
-	protected static void createYourGrid(JPanel grid) {
-		for (int i=0; i<=row.length;i++) {
-			for (int j=0;j<=col.length;j++) {
-				if (i==0) {	
-					if (j==0) {
-					grid.add(mkButDisabled("  "));} 		//creates top left corner as a blank button
-					else {
-						grid.add(mkButDisabled(j+"  "));	//creates the column headers
-					}
-				}
-				else{
-					if (j==0) {
-						grid.add(mkButDisabled(row[i-1] + " "));}	//creates the row headers
-					else {
-						String key = row[i-1] + j;					//creates the cells
-						JButton currentButton = mkBut("");	
-						currentButton.setName(key);
-						grid.add(currentButton);
-						myGridButtons.put(key,currentButton);
-					}
-				}
-			}
-		}
+	protected static BoardPanel createYourGrid() {
+		myBoard = new BoardPanel(GuiInput.Kind.MY_CELL);
+		return myBoard;
 	}
 
 	/**
-	 * Method that creates and adds the enemy's grid to the GUI-interface 
+	 * Method that creates the enemy's grid of the GUI-interface 
 	 * 
-	 * @param grid {JPanel} - the panel in which the buttons need to be placed
+	 * @return {BoardPanel} - the grid, a click on a cell posts an ENEMY_CELL input
 	 */
-	protected static void createEnnemyGrid(JPanel grid) {
-		for (int i=0; i<=row.length;i++) {
-			for (int j=0;j<=col.length;j++) {
-				if (i==0) {	
-					if (j==0) {
-					grid.add(mkButDisabled("  "));}			//creates top left corner as a blank button
-					else {
-						grid.add(mkButDisabled(j+"  "));	//creates the column headers
-					}
-				}
-				else{
-					if (j==0) {
-						grid.add(mkButDisabled(row[i-1] + " "));}	//creates the row headers
-					else {
-						String key = row[i-1] + j;					//creates the cells
-						JButton currentButton = mkBut2("");
-						currentButton.setName(key);
-						grid.add(currentButton);
-						enemyGridButtons.put(key,currentButton);
-					}
-				}
-			}
-		}
-	}
-
-	/**
-	 * Method that creates a button with a specific name and properties.
-	 * The button created is a user's grid button that represents a cell. 
-	 * 
-	 * @param text {String} - the text that should be displayed on the button
-	 * 
-	 * @return {JButton} - the just created button
-	 */
-	private static JButton mkBut (String text) {
-   	 	JButton b = new JButton(text);
-   	 	
-   	 	b.setMargin(new Insets(0, 0, 0, 0));
-   	 	b.setFont(miniFont);
-   	 	b.setPreferredSize(new Dimension(25,25));
-   	 	b.setFocusPainted(false);
-
-		b.addActionListener(new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-				ClientGui.addToClickedCoords(b.getName());
-            }
-         });
-
-   	 	return b;
-	}
-	
-	/**
-	 * Method that creates a button with a specific name and properties.
-	 * The button created is a enemy's grid button that represents a cell. 
-	 * 
-	 * @param text {String} - the text that should be displayed on the button
-	 * 
-	 * @return {JButton} - the just created button
-	 */
-	private static JButton mkBut2 (String text) {
-   	 	JButton b = new JButton(text);
-   	 	
-   	 	b.setMargin(new Insets(0, 0, 0, 0));
-   	 	b.setFont(miniFont);
-   	 	b.setPreferredSize(new Dimension(25,25));
-   	 	b.setFocusPainted(false);
-		b.addActionListener(new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-				ClientGui.clickedEnemyCoord = b.getName();
-            }
-         });
-			
-   	 	return b;
-	}
-	
-	/**
-	 * Method that creates a button with a specific name and properties.
-	 * The button that is created is disabled!  
-	 * 
-	 * @param text {String} - the text that should be displayed on the button
-	 * 
-	 * @return {JButton} - the just created button
-	 */
-	private static JButton mkButDisabled (String text) {
-		JButton b = new JButton(text);
-		b.setMargin(new Insets(0, 0, 0, 0));
-   	 	b.setFont(miniFont);
-   	 	b.setPreferredSize(new Dimension(25,25));
-   	 	b.setFocusPainted(false);
-   	 	b.setContentAreaFilled(false);
-   	 	b.setRolloverEnabled(false);
-   	 	return b;
+	protected static BoardPanel createEnnemyGrid() {
+		enemyBoard = new BoardPanel(GuiInput.Kind.ENEMY_CELL);
+		return enemyBoard;
 	}
 
 	/**
@@ -162,57 +42,46 @@ public class GuiGrid {
 	 */
 	protected static void insertInGrid(String val, String data, boolean isOutGoing) {
 		
-		JButton thisButton;
-		String coord = data.split("/")[0];
-
-		// insert in the ennemy's grid
-		if (isOutGoing) {
-			thisButton = enemyGridButtons.get(coord);
-		}
-		// insert in your grid
-		else {
-			thisButton = myGridButtons.get(coord);
+		int cell = CoordCodec.index(data.split("/")[0]);
+		if (cell < 0) {
+			return;
 		}
-		
+
 		switch (val) {
 			case "Unit":
-				switch(data.split("/")[1]){
-					case "Airport (2x4)":
-						thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Units/Airport.png")));
-						break;
-					case "Radar Tower (2x3)":
-						thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Units/Radar.png")));
-						break;
-					case "HeadQuarter (2x2)":
-						thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Units/HQ.png")));
-						break;
-					case "Railway Gun (1x6)":
-						thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Units/RailwayGun.png")));
-						break;
-					case "MMRL (2x2)":
-						thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Units/MMRL.png")));
-						break;
-					case "Tank (1x2)":
-						thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Units/Tank.png")));
-						break;
-				}
-				//thisButton.setBackground(Color.GREEN);
+				insertUnitInGrid(cell, Protocol.unitId(data.split("/")[1]), isOutGoing);
 				break;
 			case "Hit":
-				//thisButton.setBackground(Color.YELLOW);
-				thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Shots/Hit.png")));
+				board(isOutGoing).setCell(cell, GuiIcons.hit());
 				break;
 			case "noHit":
-				//thisButton.setBackground(Color.BLUE);
-				thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Shots/noHit.png")));
+				board(isOutGoing).setCell(cell, GuiIcons.noHit());
 				break;
 			case "Destroyed":
-				//thisButton.setBackground(Color.RED);
-				thisButton.setIcon(new ImageIcon(GuiGrid.class.getResource("/img/Shots/Dead.png")));
+				board(isOutGoing).setCell(cell, GuiIcons.dead());
 				break;
 			default:
 				break;
 		}
 	}
 
+	/**
+	 * Method that displays a unit on a cell of a given grid, with the shared icon of its type (see GuiIcons).
+	 * 
+	 * @param cell {int} - The index of the cell (see CoordCodec)
+	 * @param unitId {int} - The unit type id (see Protocol.UNIT_NAMES)
+	 * @param isOutGoing {boolean} - the grid in which the unit should be placed,
+	 * 								 true: enemyGrid, false: myGrid
+	 */
+	protected static void insertUnitInGrid(int cell, int unitId, boolean isOutGoing) {
+		board(isOutGoing).setCell(cell, GuiIcons.unit(unitId));
+	}
+
+	/**
+	 * Method that returns a given grid.
+	 */
+	private static BoardPanel board(boolean isOutGoing) {
+		return isOutGoing ? enemyBoard : myBoard;
+	}
+
 }
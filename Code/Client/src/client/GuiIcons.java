@@ -0,0 +1,114 @@
+package client;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * This class holds the icons displayed in the cells of the grids of the GUI-interface.
+ *
+ * Every icon is read once by load(), scaled to the size of a cell button (SIZE x SIZE) and then shared by all the cells:
+ * displaying a unit or a shot on a cell does not read nor decode any image.
+ *
+ * The icons of the units are indexed by the unit type id sent by the server (see Protocol.UNIT_NAMES).
+ */
+public final class GuiIcons {
+
+    public static final int SIZE = 25;      //size of a cell button, in pixels
+
+    //Images of the units, in the order of Protocol.UNIT_NAMES
+    private static final String[] UNIT_IMAGES = {
+        "/img/Units/Airport.png", "/img/Units/Radar.png", "/img/Units/HQ.png",
+        "/img/Units/RailwayGun.png", "/img/Units/MMRL.png", "/img/Units/Tank.png"
+    };
+
+    private static ImageIcon[] units = null;
+    private static ImageIcon hit, noHit, dead;
+
+    private GuiIcons(){
+    }
+
+    /**
+     * Method that reads and scales every icon, only the first call has an effect.
+     */
+    public static synchronized void load(){
+        if(units != null){
+            return;
+        }
+        ImageIcon[] loaded = new ImageIcon[UNIT_IMAGES.length];
+        for(int i = 0; i < UNIT_IMAGES.length; i++){
+            loaded[i] = scaledIcon(UNIT_IMAGES[i]);
+        }
+        hit = scaledIcon("/img/Shots/Hit.png");
+        noHit = scaledIcon("/img/Shots/noHit.png");
+        dead = scaledIcon("/img/Shots/Dead.png");
+        units = loaded;
+    }
+
+    /**
+     * Method that reads an image and scales it to the size of a cell button.
+     *
+     * @param path {String} - the path of the image in the resources, ex: "/img/Shots/Hit.png"
+     * @return {ImageIcon} - the scaled icon, null if the image can not be read
+     */
+    private static ImageIcon scaledIcon(String path){
+        try{
+            URL url = GuiIcons.class.getResource(path);
+            BufferedImage image = url == null ? null : ImageIO.read(url);
+            if(image == null){
+                throw new IOException(path + " not found");
+            }
+            BufferedImage scaled = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, SIZE, SIZE, null);
+            g.dispose();
+            return new ImageIcon(scaled);
+        }
+        catch(IOException e){
+            System.out.println(e);
+            System.out.println("ERROR - unable to load the image " + path + ", the cells will be displayed without it");
+            return null;
+        }
+    }
+
+    /**
+     * @param unitId {int} - the unit type id (see Protocol.UNIT_NAMES)
+     * @return {ImageIcon} - the icon of the unit, null if the id is unknown
+     */
+    public static ImageIcon unit(int unitId){
+        load();
+        return unitId >= 0 && unitId < units.length ? units[unitId] : null;
+    }
+
+    /**
+     * @return {ImageIcon} - the icon of a cell of a unit that has been hit
+     */
+    public static ImageIcon hit(){
+        load();
+        return hit;
+    }
+
+    /**
+     * @return {ImageIcon} - the icon of a cell without unit that has been shot
+     */
+    public static ImageIcon noHit(){
+        load();
+        return noHit;
+    }
+
+    /**
+     * @return {ImageIcon} - the icon of a cell of a destroyed unit
+     */
+    public static ImageIcon dead(){
+        load();
+        return dead;
+    }
+
+}
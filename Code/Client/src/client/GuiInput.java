@@ -0,0 +1,27 @@
+package client;
+
+/**
+ * This class represents one input of the user on the GUI-interface (a click on a cell or on a shot-button).
+ *
+ * The inputs are created by the Swing listeners on the event dispatch thread and handed to the thread
+ * that talks with the server through the queue of the ClientGui (see ClientGui.postInput()).
+ */
+public class GuiInput {
+
+    public enum Kind { MY_CELL, ENEMY_CELL, SHOT_TYPE }
+
+    public final Kind kind;
+    public final String value;
+
+    /**
+     * Constructor
+     *
+     * @param kind {Kind} - what has been clicked
+     * @param value {String} - the name of the cell (ex: "H4") or the shot type (ex: "A")
+     */
+    public GuiInput(Kind kind, String value){
+        this.kind = kind;
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,46 @@
+package client;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * This class hands the updates of the GUI-interface (cells of the grids, text-area, shot-buttons)
+ * from the thread that talks with the server to the Event Dispatch Thread, the only thread allowed to change Swing components.
+ *
+ * The updates are queued in the order in which they arrive and applied in batches:
+ * the first update of a batch schedules a single SwingUtilities.invokeLater(),
+ * every update that arrives before the EDT runs it joins the same batch.
+ * A burst of updates (ex: the cells of a rocket barrage) is then applied at once and repainted once,
+ * instead of one repaint per update.
+ */
+public class GuiRenderQueue {
+
+    private final ConcurrentLinkedQueue<Runnable> updates = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);   //a batch is waiting for the EDT
+
+    /**
+     * Method that queues an update, it will be applied on the EDT with the next batch.
+     *
+     * @param update {Runnable} - the change of the Swing components
+     */
+    public void post(Runnable update){
+        updates.add(update);
+        if(scheduled.compareAndSet(false, true)){
+            SwingUtilities.invokeLater(this::applyBatch);
+        }
+    }
+
+    /**
+     * Method executed on the EDT that applies every queued update, in order.
+     */
+    private void applyBatch(){
+        scheduled.set(false);
+        Runnable update;
+        while((update = updates.poll()) != null){
+            update.run();
+        }
+    }
+
+}
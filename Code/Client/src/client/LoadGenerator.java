@@ -0,0 +1,105 @@
+package client;
+
+/**
+ * This class is executable and is used to load-test the server with many headless players (see BotClient).
+ * 
+ * It opens N connections (two by two they are paired into a match by the server), 
+ * each played by a bot on its own thread, prints the progress every few seconds 
+ * and, once every bot has stopped, the throughput, the shot reply and turn latency percentiles and the errors.
+ * 
+ * Options (all optional):
+ *  --host localhost   address of the server
+ *  --port 5555        port of the server
+ *  --bots 100         number of connections (use an even number, players are paired two by two)
+ *  --think 50-200     think time of the bots before each answer, in milliseconds (min-max with min <= max, or a single value)
+ *  --ramp 10          delay between two new connections, in milliseconds
+ *  --games 1          number of games played by each bot one after the other
+ *  --specials 0.2     probability to use a special shot when one is available
+ *  --timeout 120      maximum time to wait for a query from the server, in seconds
+ *  --report 5         time between two progress lines, in seconds
+ *  --text             use the historical text protocol instead of the binary protocol
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = "localhost";
+        int port = 5555, bots = 100, thinkMin = 50, thinkMax = 200, ramp = 10, games = 1, timeout = 120, reportEvery = 5;
+        double specials = 0.2;
+        boolean text = false;
+
+        try{
+            for(int i = 0; i < args.length; i++){
+                switch(args[i]){
+                    case "--host":     host = args[++i]; break;
+                    case "--port":     port = Integer.parseInt(args[++i]); break;
+                    case "--bots":     bots = Integer.parseInt(args[++i]); break;
+                    case "--ramp":     ramp = Integer.parseInt(args[++i]); break;
+                    case "--games":    games = Integer.parseInt(args[++i]); break;
+                    case "--specials": specials = Double.parseDouble(args[++i]); break;
+                    case "--timeout":  timeout = Integer.parseInt(args[++i]); break;
+                    case "--report":   reportEvery = Integer.parseInt(args[++i]); break;
+                    case "--text":     text = true; break;
+                    case "--think":
+                        String[] think = args[++i].split("-");
+                        thinkMin = Integer.parseInt(think[0]);
+                        thinkMax = Integer.parseInt(think[think.length - 1]);
+                        break;
+                    default:
+                        System.out.println("Unknown option: " + args[i]);
+                        return;
+                }
+            }
+        }
+        catch(NumberFormatException | ArrayIndexOutOfBoundsException e){
+            System.out.println("Invalid options, see the LoadGenerator class for their description");
+            return;
+        }
+        if(thinkMin < 0 || thinkMin > thinkMax){
+            System.out.println("Invalid think time: " + thinkMin + "-" + thinkMax + ", the minimum must be between 0 and the maximum");
+            return;
+        }
+        if(bots < 1 || games < 1 || ramp < 0 || timeout < 1 || reportEvery < 1 || specials < 0 || specials > 1){
+            System.out.println("Invalid options, see the LoadGenerator class for their description");
+            return;
+        }
+
+        System.out.println(String.format("Starting %d bots on %s:%d (think %d-%d ms, %d game(s) each, %s protocol)",
+            bots, host, port, thinkMin, thinkMax, games, text ? "text" : "binary"));
+
+        LoadStats stats = new LoadStats();
+        long reportPeriod = reportEvery * 1000L;
+        Thread reporter = new Thread(() -> {
+            try{
+                while(true){
+                    Thread.sleep(reportPeriod);
+                    System.out.println(stats.progress());
+                }
+            }
+            catch(InterruptedException e){
+                //Every bot has stopped
+            }
+        });
+        reporter.setDaemon(true);
+        reporter.start();
+
+        Thread[] threads = new Thread[bots];
+        for(int i = 0; i < bots; i++){
+            BotClient bot = new BotClient(i, host, port, stats, thinkMin, thinkMax, specials, games, timeout * 1000);
+            bot.useBinaryProtocol = !text;
+            threads[i] = new Thread(bot, "bot-" + i);
+            threads[i].start();
+            if(ramp > 0){
+                Thread.sleep(ramp);
+            }
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        reporter.interrupt();
+
+        System.out.println(stats.progress());
+        System.out.println("__________________________");
+        System.out.print(stats.report());
+    }
+
+}
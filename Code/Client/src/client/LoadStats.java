@@ -0,0 +1,142 @@
+package client;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class collects the statistics of all the bots of the LoadGenerator:
+ * connections, games, shots and frames counters, shot reply and turn latencies (see BotClient) and errors.
+ * 
+ * The counters are updated by every bot at the same time, the latencies are kept by each bot 
+ * and only added here when the bot stops.
+ */
+public class LoadStats {
+
+    private final long startTime = System.nanoTime();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder shots = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private long[] replyLatencies = new long[0];
+    private long[] turnLatencies = new long[0];
+
+    public void connected()    { connections.increment(); }
+    public void gameFinished() { gamesFinished.increment(); }
+    public void shot()         { shots.increment(); }
+    public void frame()        { frames.increment(); }
+
+    /**
+     * Method that counts an error.
+     * 
+     * @param kind {String} - the kind of error, ex: "timeout"
+     */
+    public void error(String kind){
+        errors.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Method that adds the shot reply latencies measured by a bot.
+     * 
+     * @param values {long[]} - the latencies in nanoseconds
+     * @param count {int} - the number of latencies in the array
+     */
+    public synchronized void addReplyLatencies(long[] values, int count){
+        replyLatencies = append(replyLatencies, values, count);
+    }
+
+    /**
+     * Method that adds the turn latencies measured by a bot.
+     * 
+     * @param values {long[]} - the latencies in nanoseconds
+     * @param count {int} - the number of latencies in the array
+     */
+    public synchronized void addTurnLatencies(long[] values, int count){
+        turnLatencies = append(turnLatencies, values, count);
+    }
+
+    private static long[] append(long[] latencies, long[] values, int count){
+        long[] all = Arrays.copyOf(latencies, latencies.length + count);
+        System.arraycopy(values, 0, all, latencies.length, count);
+        return all;
+    }
+
+    /**
+     * Method that returns a one-line summary of the counters, printed while the bots are playing.
+     * 
+     * @return {String} - the summary
+     */
+    public String progress(){
+        double seconds = elapsedSeconds();
+        return String.format("[%6.1fs] connections: %d  games finished: %d  shots: %d (%.1f/s)  frames: %d (%.1f/s)  errors: %d",
+            seconds, connections.sum(), gamesFinished.sum(), shots.sum(), shots.sum() / seconds, 
+            frames.sum(), frames.sum() / seconds, numberOfErrors());
+    }
+
+    /**
+     * Method that returns the final report: throughput, latency percentiles and errors.
+     * 
+     * @return {String} - the report
+     */
+    public synchronized String report(){
+        double seconds = elapsedSeconds();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Duration      : %.1f s%n", seconds));
+        report.append(String.format("Connections   : %d%n", connections.sum()));
+        report.append(String.format("Games finished: %d (%.2f/s)%n", gamesFinished.sum(), gamesFinished.sum() / seconds));
+        report.append(String.format("Shots         : %d (%.1f/s)%n", shots.sum(), shots.sum() / seconds));
+        report.append(String.format("Frames        : %d (%.1f/s)%n", frames.sum(), frames.sum() / seconds));
+        report.append(latencyLine("Reply", replyLatencies));
+        report.append(latencyLine("Turn", turnLatencies));
+        report.append(String.format("Errors        : %d%n", numberOfErrors()));
+        for(Map.Entry<String, LongAdder> error : new TreeMap<>(errors).entrySet()){
+            report.append(String.format("    %-20s %d%n", error.getKey(), error.getValue().sum()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Method that returns the line of the report that gives the percentiles of latencies.
+     * 
+     * @param name {String} - the kind of latencies, ex: "Turn"
+     * @param latencies {long[]} - the latencies in nanoseconds
+     * @return {String} - the line of the report
+     */
+    private static String latencyLine(String name, long[] latencies){
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return String.format("%-14s: p50 %.2f ms  p90 %.2f ms  p99 %.2f ms  max %.2f ms  (%d samples)%n", name + " latency",
+            percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 100), sorted.length);
+    }
+
+    /**
+     * Method that returns a percentile of sorted latencies (nearest-rank method).
+     * 
+     * @param sorted {long[]} - the latencies in nanoseconds, sorted
+     * @param percent {int} - the percentile, ex: 99
+     * @return {double} - the latency in milliseconds, 0 if there are no latencies
+     */
+    private static double percentile(long[] sorted, int percent){
+        if(sorted.length == 0){
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    private long numberOfErrors(){
+        long count = 0;
+        for(LongAdder error : errors.values()){
+            count += error.sum();
+        }
+        return count;
+    }
+
+    private double elapsedSeconds(){
+        return (System.nanoTime() - startTime) / 1e9;
+    }
+
+}
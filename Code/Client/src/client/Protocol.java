@@ -0,0 +1,133 @@
+package client;
+
+/**
+ * This class describes the binary protocol used by the server to send its queries to the client.
+ * It is the client-side copy of the server's network.Protocol class, both must be kept identical.
+ * 
+ * Each query is a single compact frame:
+ * 
+ *  | opcode (1 byte) | argument (1 byte) | [argument 2 (1 byte)] | [payload (2 bytes length + UTF-8)] |
+ * 
+ *  -> argument 2 is only present if the opcode has the ARG2 flag
+ *  -> the payload is only present if the opcode has the PAYLOAD flag
+ * 
+ * Cells are sent as their index in the grid (row * 13 + column), ex: "H4" -> 7 * 13 + 3 = 94.
+ * 
+ * The binary protocol is negotiated: the client sends HELLO and its name in a single string ("#BG-BINARY-1 Alice"),
+ * the server answers HELLO to accept (or TEXT to refuse) before anything else and then switches to binary frames.
+ * A server that does not know the binary protocol takes the whole string as the name and directly sends its first query:
+ * the client keeps it as the first query of the text protocol (see TextFrameReader), nothing is lost.
+ */
+public final class Protocol {
+
+    public static final int VERSION = 1;
+    public static final String HELLO = "#BG-BINARY-" + VERSION;
+    public static final String TEXT = "#BG-TEXT";
+
+    //Opcode flags
+    public static final int ARG2    = 0x40;
+    public static final int PAYLOAD = 0x80;
+
+    //Queries with user interaction
+    public static final int OP_PLACE_UNIT     = 0x01 | ARG2 | PAYLOAD;  // unit id, unit size, comment
+    public static final int OP_SHOT_TYPE      = 0x02 | PAYLOAD;         // available shot types mask, comment
+    public static final int OP_SHOT_COORD     = 0x03 | PAYLOAD;         // -, comment
+    public static final int OP_SHOT_DIRECTION = 0x04 | PAYLOAD;         // -, comment
+    public static final int OP_INPUT          = 0x05 | PAYLOAD;         // -, text
+
+    //Display queries
+    public static final int OP_COMMENT        = 0x06 | PAYLOAD;         // -, text
+    public static final int OP_TEXT           = 0x07 | PAYLOAD;         // -, raw text (escape sequences, ...)
+    public static final int OP_DISPLAY_GRID   = 0x08;
+    public static final int OP_INSERT_UNIT    = 0x09 | ARG2;            // cell, unit id
+    public static final int OP_HIT            = 0x0A;                   // cell
+    public static final int OP_NO_HIT         = 0x0B;                   // cell
+    public static final int OP_DESTROYED      = 0x0C;                   // cell
+    public static final int OP_MY_HIT         = 0x0D;                   // cell
+    public static final int OP_MY_NO_HIT      = 0x0E;                   // cell
+    public static final int OP_MY_DESTROYED   = 0x0F;                   // cell
+    public static final int OP_REMOVE_LINES   = 0x10;                   // number of lines
+    public static final int OP_WON            = 0x11;
+    public static final int OP_LOST           = 0x12;
+    public static final int OP_CLOSE          = 0x13;
+    public static final int OP_WAIT           = 0x14;                   // duration in tens of milliseconds
+
+    //Unit type ids, the index in this array is the id sent on the wire
+    public static final String[] UNIT_NAMES = { 
+        "Airport (2x4)", "Radar Tower (2x3)", "HeadQuarter (2x2)", "Railway Gun (1x6)", "MMRL (2x2)", "Tank (1x2)"
+    };
+
+    //Shot types, the bit (1 << index) is set in the mask of the available shot types
+    public static final String[] SHOT_TYPES = { "S", "A", "D", "B", "R" };
+
+    private Protocol(){
+    }
+
+    /**
+     * Method that returns the id of a unit type.
+     * 
+     * @param unitName {String} - the name of the unit, ex: "Tank (1x2)"
+     * @return {int} - the id of the unit type, -1 if unknown
+     */
+    public static int unitId(String unitName){
+        for(int i = 0; i < UNIT_NAMES.length; i++){
+            if(UNIT_NAMES[i].equals(unitName)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method that converts a list of available shot types into a mask.
+     * 
+     * @param shotTypes {String} - the available shot types, ex: "S / A / R "
+     * @return {int} - the mask of the available shot types
+     */
+    public static int shotTypesMask(String shotTypes){
+        int mask = 0;
+        for(int i = 0; i < SHOT_TYPES.length; i++){
+            if(shotTypes.contains(SHOT_TYPES[i])){
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Method that converts a mask of shot types into the list displayed to the user.
+     * 
+     * @param mask {int} - the mask of the available shot types
+     * @return {String} - the available shot types, ex: "S / A / R "
+     */
+    public static String shotTypes(int mask){
+        String shotTypes = "";
+        for(int i = 0; i < SHOT_TYPES.length; i++){
+            if((mask & (1 << i)) != 0){
+                shotTypes += (shotTypes.isEmpty() ? "" : "/ ") + SHOT_TYPES[i] + " ";
+            }
+        }
+        return shotTypes;
+    }
+
+    /**
+     * Method that converts the index of a cell into its name.
+     * 
+     * @param cell {int} - the index of the cell, ex: 94
+     * @return {String} - the name of the cell, ex: "H4"
+     */
+    public static String cellName(int cell){
+        return CoordCodec.name(cell);
+    }
+
+    /**
+     * Method that converts the name of a cell into its index.
+     * 
+     * @param coord {String} - the name of the cell, ex: "H4"
+     * @return {int} - the index of the cell, ex: 94, -1 if the name is not valid
+     */
+    public static int cellIndex(String coord){
+        return CoordCodec.index(coord);
+    }
+
+}
@@ -0,0 +1,72 @@
+package client;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * This class reads the queries of the server with another FrameReader and records each of them in a local file,
+ * so that the session can be replayed later (see ReplayFrameReader).
+ *
+ * Recording format:
+ *
+ *  header : | magic "BGR1" (4 bytes) |
+ *  frames : | time since the previous frame in ms (2 bytes, at most 65535) | frame of the binary protocol (see Protocol) |
+ *
+ * The frames are always recorded with the binary protocol, whatever the protocol used with the server.
+ * The file is buffered: it is written after each frame with a text (every query with user interaction has one)
+ * and at the end of the game, not after each update of the grids.
+ */
+public class RecordingFrameReader implements FrameReader {
+
+    public static final int MAGIC = 0x42475231;        // "BGR1"
+    public static final int MAX_DELAY = 0xFFFF;
+
+    private FrameReader source;
+    private DataOutputStream file;
+    private long lastFrame = System.currentTimeMillis();
+
+    /**
+     * Constructor - creates the recording (an existing file is replaced).
+     *
+     * @param source {FrameReader} - the reader of the connection with the server
+     * @param fileName {String} - the file in which the session is recorded
+     * @throws IOException if the file can not be created
+     */
+    public RecordingFrameReader(FrameReader source, String fileName) throws IOException {
+        this.source = source;
+        this.file = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)));
+        file.writeInt(MAGIC);
+    }
+
+    @Override
+    public Frame read() throws IOException {
+        Frame frame = source.read();
+        long now = System.currentTimeMillis();
+        file.writeShort((int) Math.min(now - lastFrame, MAX_DELAY));
+        lastFrame = now;
+
+        file.writeByte(frame.opcode);
+        file.writeByte(frame.arg);
+        if((frame.opcode & Protocol.ARG2) != 0){
+            file.writeByte(frame.arg2);
+        }
+        if((frame.opcode & Protocol.PAYLOAD) != 0){
+            file.writeUTF(frame.text);
+        }
+
+        //Text and end of the game: the client may wait for the user (or exit) after this frame
+        if((frame.opcode & Protocol.PAYLOAD) != 0 || frame.opcode == Protocol.OP_WON
+                || frame.opcode == Protocol.OP_LOST || frame.opcode == Protocol.OP_CLOSE){
+            file.flush();
+        }
+        return frame;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return source.ready();
+    }
+
+}
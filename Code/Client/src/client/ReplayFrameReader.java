@@ -0,0 +1,134 @@
+package client;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * This class reads the queries of a session recorded by RecordingFrameReader, as if they came from the server.
+ *
+ * The file is read frame by frame through a buffered stream, it is never loaded as a whole:
+ * a very long recording costs no more memory than a short one.
+ *
+ * The frames are given back with the delays recorded between them, divided by the speed of the replay
+ * (2 = twice as fast, MAX_SPEED = no delay at all, to measure how fast the grids can be rendered).
+ * The WAIT frames are skipped: the pauses they caused are already part of the recorded delays.
+ *
+ * At the end of the recording a CLOSE frame is given back, and the number of replayed frames per second is printed.
+ */
+public class ReplayFrameReader implements FrameReader {
+
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+
+    private DataInputStream file;
+    private BinaryFrameReader frames;
+    private double speed;
+    private long start = 0;
+    private int numberOfFrames = 0;
+    private boolean summaryPrinted = false;
+
+    /**
+     * Constructor
+     *
+     * @param fileName {String} - the recorded session
+     * @param speed {double} - the speed of the replay, 1 for the recorded speed, MAX_SPEED for no delay
+     * @throws IOException if the file can not be opened or is not a recording
+     */
+    public ReplayFrameReader(String fileName, double speed) throws IOException {
+        this.file = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName)));
+        this.frames = new BinaryFrameReader(file);
+        this.speed = speed;
+        if(file.readInt() != RecordingFrameReader.MAGIC){
+            file.close();
+            throw new IOException(fileName + " is not a recorded session");
+        }
+    }
+
+    @Override
+    public Frame read() throws IOException {
+        if(start == 0){
+            start = System.nanoTime();
+        }
+        while(true){
+            Frame frame;
+            int delay;
+            try{
+                delay = file.readUnsignedShort();
+                frame = frames.read();
+            }
+            catch(EOFException e){
+                file.close();
+                printSummary();
+                return new Frame(Protocol.OP_CLOSE, 0, 0, "");
+            }
+            if(speed != MAX_SPEED && delay > 0){
+                pause((long) (delay / speed));
+            }
+            if(frame.opcode == Protocol.OP_WAIT){
+                continue;
+            }
+            numberOfFrames++;
+            if(frame.opcode == Protocol.OP_WON || frame.opcode == Protocol.OP_LOST || frame.opcode == Protocol.OP_CLOSE){
+                printSummary();
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * The next frame is ready if it was recorded without delay after the previous one (or if the replay has no delay).
+     */
+    @Override
+    public boolean ready() throws IOException {
+        if(speed == MAX_SPEED){
+            return true;
+        }
+        file.mark(2);
+        try{
+            return file.readUnsignedShort() == 0;
+        }
+        catch(EOFException e){
+            return true;
+        }
+        finally{
+            file.reset();
+        }
+    }
+
+    /**
+     * Method that prints the number of frames replayed and their rate, once.
+     */
+    private void printSummary(){
+        if(summaryPrinted){
+            return;
+        }
+        summaryPrinted = true;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format("\nReplayed %d frames in %.3f s (%.0f frames/s)", numberOfFrames, seconds, numberOfFrames / Math.max(seconds, 1e-9)));
+    }
+
+    /**
+     * Method that waits between two frames.
+     */
+    private void pause(long ms) throws IOException {
+        try{
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException e){
+            throw new IOException("Replay interrupted", e);
+        }
+    }
+
+    /**
+     * Method that converts the value of the --speed option into a speed.
+     *
+     * @param speed {String} - "max" or a factor, ex: "2" or "0.5"
+     * @return {double} - the speed of the replay
+     */
+    public static double parseSpeed(String speed){
+        return speed.equals("max") ? MAX_SPEED : Double.parseDouble(speed);
+    }
+
+}
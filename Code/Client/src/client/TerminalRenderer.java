@@ -0,0 +1,155 @@
+package client;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * This class draws the cells of the two grids of the Cmd-line interface (see CmdGrid).
+ *
+ * It keeps two buffers of the state of every cell of both grids:
+ *
+ *  -> the back buffer, changed by set() each time the server updates a cell
+ *  -> the front buffer, what is actually displayed on the terminal
+ *
+ * flush() compares both buffers and writes, in a single write, only the escape sequences needed to
+ * change the displayed cells that differ: the shortest cursor move from the previous cell,
+ * a color only when it changes, and the symbol of the cell (the borders of the grid are never written again).
+ * A whole burst of updates of the server (ex: the cells of a rocket barrage) is then displayed with one write.
+ *
+ * The positions of the cells are relative to the cursor saved by CmdGrid.displayGrid() under the grids.
+ */
+public class TerminalRenderer {
+
+    //States of a cell
+    public static final byte EMPTY = 0;
+    public static final byte UNIT = 1;
+    public static final byte HIT = 2;
+    public static final byte NO_HIT = 3;
+    public static final byte DESTROYED = 4;
+
+    //Display of each state: colors and symbol
+    private static final String[] COLORS = {
+        CmdGrid.RESET_COLOR,
+        CmdGrid.GREEN_BG + CmdGrid.BLACK_FG,
+        CmdGrid.YELLOW_BG + CmdGrid.BLACK_FG,
+        CmdGrid.BLUE_BG + CmdGrid.BLACK_FG,
+        CmdGrid.RED_BG + CmdGrid.BLACK_FG
+    };
+    private static final String[] SYMBOLS = { "   ", " ۩ ", " ✠ ", " ✽ ", " ♰ " };
+
+    public static final int ENEMY_OFFSET = 60;     //column of the enemy's grid
+    private static final int CELL_WIDTH = 4;        //a cell and its right border
+    private static final int FIRST_COLUMN = 4;      //column of the first cell, after the row name
+
+    private final int rows;
+    private final int cols;
+    private final PrintStream out;
+    private final byte[][] front;                   //indexed by grid (0: myGrid, 1: enemyGrid) and cell
+    private final byte[][] back;
+    private final StringBuilder buffer = new StringBuilder(1024);
+
+    private int cursorLine;                         //number of lines above the saved cursor
+    private int cursorColumn;
+    private String color;                           //color of the terminal, null if unknown
+
+    /**
+     * Constructor
+     *
+     * @param rows {int} - the number of rows of a grid
+     * @param cols {int} - the number of columns of a grid
+     * @param out {PrintStream} - the terminal
+     */
+    public TerminalRenderer(int rows, int cols, PrintStream out) {
+        this.rows = rows;
+        this.cols = cols;
+        this.out = out;
+        this.front = new byte[2][rows * cols];
+        this.back = new byte[2][rows * cols];
+    }
+
+    /**
+     * Method that changes the state of a cell, it is displayed by the next flush().
+     *
+     * @param isOutGoing {boolean} - the grid of the cell, true: enemyGrid, false: myGrid
+     * @param cell {int} - the index of the cell (see CoordCodec)
+     * @param state {byte} - the new state of the cell, ex: HIT
+     */
+    public void set(boolean isOutGoing, int cell, byte state) {
+        back[isOutGoing ? 1 : 0][cell] = state;
+    }
+
+    /**
+     * Method called when the grids have just been drawn empty on the terminal:
+     * every cell that is not empty in the back buffer is displayed again by the next flush().
+     */
+    public void cleared() {
+        for (byte[] grid : front) {
+            Arrays.fill(grid, EMPTY);
+        }
+    }
+
+    /**
+     * Method that displays every cell changed since the previous flush, with a single write on the terminal.
+     */
+    public void flush() {
+        buffer.setLength(0);
+        cursorLine = 0;
+        cursorColumn = 0;
+        color = null;
+        for (int grid = 0; grid < 2; grid++) {
+            for (int cell = 0; cell < rows * cols; cell++) {
+                byte state = back[grid][cell];
+                if (state != front[grid][cell]) {
+                    drawCell(grid, cell, state);
+                    front[grid][cell] = state;
+                }
+            }
+        }
+        if (buffer.length() == 0) {
+            return;
+        }
+        buffer.append(CmdGrid.RESET_COLOR).append(CmdGrid.TO_SAVED_CURSOR);
+        out.print(buffer);
+        out.flush();
+    }
+
+    /**
+     * Method that appends to the buffer the move to a cell, its color and its symbol.
+     */
+    private void drawCell(int grid, int cell, byte state) {
+        if (buffer.length() == 0) {
+            buffer.append(CmdGrid.TO_SAVED_CURSOR);
+        }
+        int line = 2 * rows - 2 * CoordCodec.row(cell);
+        int column = FIRST_COLUMN + CELL_WIDTH * CoordCodec.col(cell) + grid * ENEMY_OFFSET;
+        moveTo(line, column);
+        if (!COLORS[state].equals(color)) {
+            color = COLORS[state];
+            buffer.append(color);
+        }
+        buffer.append(SYMBOLS[state]);
+        cursorColumn += SYMBOLS[state].length();
+    }
+
+    /**
+     * Method that appends to the buffer the shortest escape sequences that move the cursor to the given position.
+     */
+    private void moveTo(int line, int column) {
+        if (line > cursorLine) {
+            buffer.append("\u001B[").append(line - cursorLine).append('A');
+        }
+        else if (line < cursorLine) {
+            buffer.append("\u001B[").append(cursorLine - line).append('B');
+        }
+        cursorLine = line;
+
+        if (column != cursorColumn) {
+            int distance = Math.abs(column - cursorColumn);
+            String relative = "\u001B[" + (distance == 1 ? "" : String.valueOf(distance)) + (column > cursorColumn ? 'C' : 'D');
+            String absolute = "\u001B[" + (column + 1) + 'G';
+            buffer.append(relative.length() <= absolute.length() ? relative : absolute);
+            cursorColumn = column;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package client;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * This class reads the queries of the server sent with the historical text protocol
+ * (dash-delimited strings, some queries being sent as two strings) and converts them into frames.
+ */
+public class TextFrameReader implements FrameReader {
+
+    private DataInputStream in;
+    private String first;       //string already read from the stream that starts the next query, null if none
+
+    /**
+     * Constructor
+     * 
+     * @param in {DataInputStream} - the input stream of the connection with the server
+     */
+    public TextFrameReader(DataInputStream in){
+        this(in, null);
+    }
+
+    /**
+     * Constructor - the first query starts with a string that has already been read (see Client.sendName())
+     * 
+     * @param in {DataInputStream} - the input stream of the connection with the server
+     * @param first {String} - the first string of the first query
+     */
+    public TextFrameReader(DataInputStream in, String first){
+        this.in = in;
+        this.first = first;
+    }
+
+    @Override
+    public Frame read() throws IOException {
+        String str = first != null ? first : in.readUTF();
+        first = null;
+        switch(str){
+            case "insertUnit":
+                String[] data = in.readUTF().split("/");
+                return new Frame(Protocol.OP_INSERT_UNIT, Protocol.cellIndex(data[0]), Protocol.unitId(data[1]), "");
+            case "Hit":         return cellFrame(Protocol.OP_HIT);
+            case "noHit":       return cellFrame(Protocol.OP_NO_HIT);
+            case "Destroyed":   return cellFrame(Protocol.OP_DESTROYED);
+            case "myHit":       return cellFrame(Protocol.OP_MY_HIT);
+            case "myNoHit":     return cellFrame(Protocol.OP_MY_NO_HIT);
+            case "myDestroyed": return cellFrame(Protocol.OP_MY_DESTROYED);
+            case "Rem":         return new Frame(Protocol.OP_REMOVE_LINES, Integer.parseInt(in.readUTF()), 0, "");
+            case "Wait":        return new Frame(Protocol.OP_WAIT, Integer.parseInt(in.readUTF()) / 10, 0, "");
+            case "displayGrid": return new Frame(Protocol.OP_DISPLAY_GRID, 0, 0, "");
+            case "WON":         return new Frame(Protocol.OP_WON, 0, 0, "");
+            case "LOST":        return new Frame(Protocol.OP_LOST, 0, 0, "");
+            case "CLOSE":       return new Frame(Protocol.OP_CLOSE, 0, 0, "");
+            default:
+        }
+
+        String[] query = str.split("-", 4);
+        switch(query[0]){
+            case "U":   // U-<unitName>-<unitSize>-<Comment>
+                return new Frame(Protocol.OP_PLACE_UNIT, Protocol.unitId(query[1]), Integer.parseInt(query[2]), comment(query[3]));
+
+            case "S":   // S-<commandType>-<data>-<Comment>
+                switch(query[1]){
+                    case "T": return new Frame(Protocol.OP_SHOT_TYPE, Protocol.shotTypesMask(query[2]), 0, comment(query[3]));
+                    case "C": return new Frame(Protocol.OP_SHOT_COORD, 0, 0, comment(query[3]));
+                    case "D": return new Frame(Protocol.OP_SHOT_DIRECTION, 0, 0, comment(query[3]));
+                    default:
+                }
+                break;
+
+            case "I":   return new Frame(Protocol.OP_INPUT, 0, 0, str.substring(2));
+            case "C":   return new Frame(Protocol.OP_COMMENT, 0, 0, str.substring(2));
+            default:
+        }
+        return new Frame(Protocol.OP_TEXT, 0, 0, str);
+    }
+
+    /**
+     * Method that reads the coordinate that follows a query and returns the corresponding frame.
+     */
+    private Frame cellFrame(int opcode) throws IOException {
+        return new Frame(opcode, Protocol.cellIndex(in.readUTF()), 0, "");
+    }
+
+    /**
+     * Method that converts the "no comment" marker of the text protocol into an empty comment.
+     */
+    private String comment(String comment){
+        return comment.equals("NC") ? "" : comment;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return first != null || in.available() > 0;
+    }
+
+}
@@ -2,5 +2,5 @@
 
 echo Starting server 
 echo _______________
-javac model/*.java view/*.java controller/*.java test/*.java
-java test/Server
\ No newline at end of file
+javac model/*.java view/*.java controller/*.java network/*.java ai/*.java test/*.java
+java test/Server "$@"
\ No newline at end of file
@@ -0,0 +1,6 @@
+#!/bin/bash
+
+echo Starting tournament 
+echo ___________________
+javac model/*.java view/*.java controller/*.java network/*.java ai/*.java test/*.java
+java test/Tournament "$@"
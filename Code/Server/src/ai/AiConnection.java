@@ -0,0 +1,187 @@
+package ai;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import model.BitBoard;
+import model.CoordCodec;
+import network.Connection;
+import network.MessageEncoder;
+import network.Protocol;
+
+/**
+ * This class is a Connection to a computer player instead of a client.
+ * 
+ * The Player on the server side does not know it plays for a computer: the queries it sends are read here
+ * and answered exactly like a client would (see Client.sendToServer()), the answers are then returned by receive().
+ * 
+ * -> The units are placed at random positions that do not overlap.
+ * -> The results of the shots ("Hit", "noHit", "Destroyed") are recorded in an EnemyBoard
+ *    and the shots are chosen by an AiStrategy.
+ * 
+ * The queries made of two strings (ex: "Hit" and "H4") are only accepted at once by sendPair(). 
+ * The methods are synchronized because the session thread of the other player also sends messages to this connection.
+ */
+public class AiConnection implements Connection {
+
+    public static final String NAME = "Computer";
+
+    private final AiStrategy strategy;
+    private final Random random;
+    private final EnemyBoard enemyBoard = new EnemyBoard();
+    private final BitBoard occupied = new BitBoard(CoordCodec.CELLS);
+    private final ArrayDeque<String> answers = new ArrayDeque<>();
+    private int[] lastPlacement = null;     //cells of the last unit placed, freed if the server refuses it
+    private Shot plannedShot = null;
+    private boolean closed = false;
+
+    /**
+     * Constructor
+     * 
+     * @param strategy {AiStrategy} - the strategy used to choose the shots
+     * @param random {Random} - the generator used to place the units
+     */
+    public AiConnection(AiStrategy strategy, Random random) {
+        this.strategy = strategy;
+        this.random = random;
+        answers.add(NAME);                  //The first message expected from a client is its name
+    }
+
+    @Override
+    public synchronized void send(String str) throws IOException {
+        if (closed) {
+            throw new IOException("The computer player is closed");
+        }
+        switch (str) {
+            case "insertUnit": case "Hit": case "noHit": case "Destroyed": 
+            case "myHit": case "myNoHit": case "myDestroyed": case "Rem": case "Wait":
+                throw new IOException("Protocol error: " + str + " must be sent with its argument (see Connection.sendPair())");
+            default:
+        }
+        String[] query = str.split("-", 4);
+        switch (query[0]) {
+            case "U":   // U-<unitName>-<unitSize>-<Comment>
+                if (!query[3].equals("NC") && lastPlacement != null) {     //the last placement has been refused
+                    for (int cell : lastPlacement) {
+                        occupied.clear(cell);
+                    }
+                }
+                answers.add("U-" + query[1] + "-" + query[2]);
+                answers.add(placeUnit(Integer.parseInt(query[2])));
+                break;
+
+            case "S":   // S-<commandType>-<data>-<Comment>
+                answerShotQuery(query);
+                break;
+
+            case "I":
+                answers.add("");
+                break;
+
+            default:                        //display only
+        }
+    }
+
+    @Override
+    public synchronized void sendPair(String type, String arg) throws IOException {
+        if (closed) {
+            throw new IOException("The computer player is closed");
+        }
+        receivePair(type, arg);
+    }
+
+    /**
+     * Method that records the result of a shot sent as a pair of strings.
+     * The updates of the own grid and the display commands are ignored.
+     */
+    private void receivePair(String type, String coord) {
+        switch (type) {
+            case "Hit":         enemyBoard.setHit(CoordCodec.index(coord));         break;
+            case "noHit":       enemyBoard.setNoHit(CoordCodec.index(coord));       break;
+            case "Destroyed":   enemyBoard.setDestroyed(CoordCodec.index(coord));   break;
+            default:
+        }
+    }
+
+    /**
+     * Method that answers the questions asked to shoot.
+     * 
+     * @param query {String[]} - the query split in: "S", command type, data, comment
+     */
+    private void answerShotQuery(String[] query) {
+        boolean reAsked = !query[3].equals("NC");
+        switch (query[1]) {
+            case "T":
+                if (reAsked) {              //the planned shot type has been refused -> single shot
+                    plannedShot = strategy.decide(enemyBoard, 1);
+                }
+                else {
+                    plannedShot = strategy.decide(enemyBoard, Protocol.shotTypesMask(query[2]));
+                }
+                answers.add(plannedShot.getType());
+                break;
+            case "C":
+                answers.add(plannedShot.getCoord());
+                break;
+            case "D":
+                answers.add(plannedShot.getDirection());
+                break;
+            default:
+        }
+    }
+
+    /**
+     * Method that chooses a random position that does not overlap the units already placed.
+     * 
+     * @param size {int} - the size of the unit
+     * @return {String} - the corners of the position, ex: "A1 B4"
+     */
+    private String placeUnit(int size) {
+        int p = Placements.random(size, occupied, random);
+        if (p < 0) {
+            lastPlacement = null;
+            return "";                      //no room left, the server asks again
+        }
+        occupied.or(Placements.masks(size)[p]);
+        lastPlacement = Placements.cells(size)[p];
+        return Placements.corners(lastPlacement);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+    }
+
+    @Override
+    public synchronized String receive() throws IOException {
+        if (closed || answers.isEmpty()) {
+            throw new IOException("The computer player has not been asked anything");
+        }
+        return answers.poll();
+    }
+
+    @Override
+    public void setEncoder(MessageEncoder encoder) {
+        //The computer player always reads the text protocol
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return "computer";
+    }
+
+    /**
+     * Method that returns what the computer player knows about the grid of its opponent.
+     * 
+     * @return {EnemyBoard} - the enemy board
+     */
+    public synchronized EnemyBoard getEnemyBoard() {
+        return enemyBoard;
+    }
+
+}
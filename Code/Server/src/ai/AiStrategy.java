@@ -0,0 +1,205 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import model.BitBoard;
+import model.CoordCodec;
+import model.ShotPattern;
+
+/**
+ * This class chooses the shots of a computer player.
+ * 
+ * For every cell of the enemy grid, it computes the probability that a unit covers it:
+ * every placement of the remaining units that does not cover a blocked cell is counted (see DensityTask),
+ * the placements covering cells already hit counting much more than the others.
+ * The counting is split over a fork/join pool and stops when the time budget is spent, 
+ * the shot is then chosen with the placements counted so far.
+ * A negative budget means no limit: every placement is counted and the choices only depend on the random generator.
+ * 
+ * The expected number of cells hit is computed for each available shot type, the best one is chosen:
+ *  -> S (single shot): the most probable cell
+ *  -> A (airstrike): the best line of 7 cells, horizontal or vertical
+ *  -> B (big shot): the best square of 3x3 cells
+ *  -> R (rocket strike): 5 random cells (see ShotPattern), so 5 times the mean probability
+ */
+public class AiStrategy implements BotStrategy {
+
+    //Shot types, the bit (1 << index) is set in the mask of the available shot types (see network.Protocol)
+    private static final int AIRSTRIKE = 1, BIG_SHOT = 3, ROCKETS = 4;
+    private static final int ROCKET_RANGE = CoordCodec.ROWS - 1;     //the rockets never reach the last row and column (see ShotPattern)
+
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final Random random;
+
+    /**
+     * Constructor
+     * 
+     * @param pool {ForkJoinPool} - the pool on which the placements are counted
+     * @param budgetMillis {long} - the time allowed to count the placements before each shot, in milliseconds (negative: no limit)
+     * @param random {Random} - the generator used to choose between shots of equal value
+     */
+    public AiStrategy(ForkJoinPool pool, long budgetMillis, Random random) {
+        this.pool = pool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.random = random;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Density
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that computes, for every cell, the expected number of units covering it.
+     * The cells already shot have a density of 0.
+     * 
+     * @param board {EnemyBoard} - what is known about the enemy grid
+     * @return {double[]} - the density of each cell, indexed by cell
+     */
+    public double[] density(EnemyBoard board) {
+        board.updateRemainingUnits();
+        int[] sizes = board.getRemainingSizes();
+
+        //One group per distinct size, with the number of units of that size
+        ArrayList<Integer> groupSizes = new ArrayList<>();
+        ArrayList<Integer> groupCounts = new ArrayList<>();
+        for (int size : sizes) {
+            int g = groupSizes.indexOf(size);
+            if (g < 0) {
+                groupSizes.add(size);
+                groupCounts.add(1);
+            }
+            else {
+                groupCounts.set(g, groupCounts.get(g) + 1);
+            }
+        }
+
+        //Flattened list of the placements of every group
+        int numberOfPlacements = 0;
+        for (int size : groupSizes) {
+            numberOfPlacements += Placements.masks(size).length;
+        }
+        BitBoard[] masks = new BitBoard[numberOfPlacements];
+        int[][] cells = new int[numberOfPlacements][];
+        int[] groups = new int[numberOfPlacements];
+        int p = 0;
+        for (int g = 0; g < groupSizes.size(); g++) {
+            BitBoard[] groupMasks = Placements.masks(groupSizes.get(g));
+            int[][] groupCells = Placements.cells(groupSizes.get(g));
+            for (int i = 0; i < groupMasks.length; i++, p++) {
+                masks[p] = groupMasks[i];
+                cells[p] = groupCells[i];
+                groups[p] = g;
+            }
+        }
+
+        double[] density = new double[CoordCodec.CELLS];
+        if (numberOfPlacements > 0) {
+            long deadline = budgetNanos < 0 ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+            double[][] counts = pool.invoke(new DensityTask(masks, cells, groups, groupSizes.size(), 0, numberOfPlacements,
+                                                            board.getBlocked(), board.getHit(), deadline));
+            for (int g = 0; g < counts.length; g++) {
+                double total = counts[g] == null ? 0 : counts[g][CoordCodec.CELLS];
+                if (total > 0) {
+                    for (int c = 0; c < CoordCodec.CELLS; c++) {
+                        density[c] += groupCounts.get(g) * counts[g][c] / total;
+                    }
+                }
+            }
+        }
+        BitBoard shot = board.getShot();
+        for (int c = shot.nextSetBit(0); c >= 0; c = shot.nextSetBit(c + 1)) {
+            density[c] = 0;
+        }
+        return density;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Decision
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that chooses the next shot, a single shot on a cell not shot yet if nothing better is found.
+     */
+    @Override
+    public Shot decide(EnemyBoard board, int availableShotTypes) {
+        double[] density = density(board);
+        Shot best = bestSingleShot(board, density);
+
+        if ((availableShotTypes & (1 << AIRSTRIKE)) != 0) {
+            best = better(best, bestArea(density, "A", "H"));
+            best = better(best, bestArea(density, "A", "V"));
+        }
+        if ((availableShotTypes & (1 << BIG_SHOT)) != 0) {
+            best = better(best, bestArea(density, "B", ""));
+        }
+        if ((availableShotTypes & (1 << ROCKETS)) != 0) {
+            double sum = 0;
+            for (int row = 0; row < ROCKET_RANGE; row++) {
+                for (int col = 0; col < ROCKET_RANGE; col++) {
+                    sum += density[CoordCodec.index(row, col)];
+                }
+            }
+            best = better(best, new Shot("R", "", "", ShotPattern.NUMBER_OF_ROCKETS * sum / (ROCKET_RANGE * ROCKET_RANGE)));
+        }
+        return best;
+    }
+
+    /**
+     * Method that returns the single shot on the most probable cell not shot yet (a random one among equals).
+     */
+    private Shot bestSingleShot(EnemyBoard board, double[] density) {
+        BitBoard shot = board.getShot();
+        int best = -1;
+        int equals = 0;
+        for (int c = 0; c < CoordCodec.CELLS; c++) {
+            if (shot.get(c)) {
+                continue;
+            }
+            if (best < 0 || density[c] > density[best]) {
+                best = c;
+                equals = 1;
+            }
+            else if (density[c] == density[best] && random.nextInt(++equals) == 0) {
+                best = c;
+            }
+        }
+        if (best < 0) {             //every cell has been shot, can not happen in a game that is not over
+            best = 0;
+        }
+        return new Shot("S", CoordCodec.name(best), "", density[best]);
+    }
+
+    /**
+     * Method that returns the best shot of the given type, aimed at any cell (see ShotPattern).
+     * 
+     * @param type {String} - the shot type
+     * @param direction {String} - the direction of the shot
+     */
+    private Shot bestArea(double[] density, String type, String direction) {
+        int best = 0;
+        double bestValue = -1;
+        for (int c = 0; c < CoordCodec.CELLS; c++) {
+            double value = 0;
+            for (int target : ShotPattern.cells(type, c, direction)) {
+                value += density[target];
+            }
+            if (value > bestValue) {
+                best = c;
+                bestValue = value;
+            }
+        }
+        return new Shot(type, CoordCodec.name(best), direction, bestValue);
+    }
+
+    /**
+     * Method that returns the shot expected to hit the most cells, the first one if equal.
+     */
+    private Shot better(Shot shot, Shot other) {
+        return other.getExpectedHits() > shot.getExpectedHits() ? other : shot;
+    }
+
+}
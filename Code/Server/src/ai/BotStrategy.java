@@ -0,0 +1,20 @@
+package ai;
+
+/**
+ * This interface describes the way a computer player chooses its shots.
+ * 
+ * A strategy only knows what a client would know: the results of its previous shots (see EnemyBoard)
+ * and the shot types it can use this turn.
+ */
+public interface BotStrategy {
+
+    /**
+     * Method that chooses the next shot.
+     * 
+     * @param board {EnemyBoard} - what is known about the enemy grid
+     * @param availableShotTypes {int} - the mask of the available shot types (see network.Protocol.shotTypesMask())
+     * @return {Shot} - the chosen shot, of one of the available types
+     */
+    Shot decide(EnemyBoard board, int availableShotTypes);
+
+}
@@ -0,0 +1,149 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.concurrent.RecursiveTask;
+
+import model.BitBoard;
+import model.CoordCodec;
+
+/**
+ * This class counts, for each cell, the placements of the remaining units that cover it 
+ * (the probability density used by the AiStrategy).
+ * 
+ * The placements of all the remaining units are split in ranges that are counted in parallel (fork/join):
+ * the placements are first split by group (units of the same size, 300 to 500 placements each),
+ * then a range bigger than THRESHOLD is split in two halves, the counts of both halves are then added.
+ * With the full fleet this gives 2 leaves per group, 8 in total. The whole count only takes a few tens
+ * of microseconds, so a finer split would cost more in tasks than it saves. If the deadline is reached,
+ * every group has been partly counted, not just the first groups.
+ * 
+ * Only the placements that do not cover a blocked cell (shot without hit or destroyed) are legal.
+ * A placement covering cells already hit is much more likely than the others (the unit is there), 
+ * its weight is increased by HIT_WEIGHT for each hit cell it covers.
+ * 
+ * The result is an array per group of units (units of the same size), 
+ * the first CELLS values are the weights per cell and the last one the total weight of the group
+ * (null for a group that is not in the range of the task).
+ */
+class DensityTask extends RecursiveTask<double[][]> {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int THRESHOLD = 256;
+    static final double HIT_WEIGHT = 40;
+
+    private final BitBoard[] masks;
+    private final int[][] cells;
+    private final int[] groups;
+    private final int numberOfGroups;
+    private final int from;
+    private final int to;
+    private final BitBoard blocked;
+    private final BitBoard hit;
+    private final long deadline;
+
+    /**
+     * Constructor
+     * 
+     * @param masks {BitBoard[]} - the cells of all the placements, as bitboards
+     * @param cells {int[][]} - the cells of all the placements, as cell indexes
+     * @param groups {int[]} - the group (size of unit) of each placement, the placements of a group are contiguous
+     * @param numberOfGroups {int} - the number of groups
+     * @param from {int} - the first placement of the range counted by this task
+     * @param to {int} - the placement after the last one of the range
+     * @param blocked {BitBoard} - the cells on which no unit can be placed
+     * @param hit {BitBoard} - the cells hit on units that are not destroyed
+     * @param deadline {long} - the System.nanoTime() after which the counting stops, the result is then partial
+     */
+    DensityTask(BitBoard[] masks, int[][] cells, int[] groups, int numberOfGroups, int from, int to, 
+                BitBoard blocked, BitBoard hit, long deadline) {
+        this.masks = masks;
+        this.cells = cells;
+        this.groups = groups;
+        this.numberOfGroups = numberOfGroups;
+        this.from = from;
+        this.to = to;
+        this.blocked = blocked;
+        this.hit = hit;
+        this.deadline = deadline;
+    }
+
+    @Override
+    protected double[][] compute() {
+        if (groups[from] != groups[to - 1]) {
+            return computeGroups();
+        }
+        if (to - from <= THRESHOLD) {
+            return count();
+        }
+        int middle = (from + to) >>> 1;
+        DensityTask left = new DensityTask(masks, cells, groups, numberOfGroups, from, middle, blocked, hit, deadline);
+        DensityTask right = new DensityTask(masks, cells, groups, numberOfGroups, middle, to, blocked, hit, deadline);
+        left.fork();
+        double[][] density = right.compute();
+        add(density, left.join());
+        return density;
+    }
+
+    /**
+     * Method that counts a range of placements of several groups: one subtask per group.
+     */
+    private double[][] computeGroups() {
+        ArrayList<DensityTask> tasks = new ArrayList<>();
+        int start = from;
+        for (int p = from + 1; p <= to; p++) {
+            if (p == to || groups[p] != groups[start]) {
+                tasks.add(new DensityTask(masks, cells, groups, numberOfGroups, start, p, blocked, hit, deadline));
+                start = p;
+            }
+        }
+        invokeAll(tasks);
+        double[][] density = new double[numberOfGroups][];
+        for (DensityTask task : tasks) {
+            add(density, task.join());
+        }
+        return density;
+    }
+
+    /**
+     * Method that adds the counts of another task to the given counts.
+     */
+    private void add(double[][] density, double[][] other) {
+        for (int g = 0; g < numberOfGroups; g++) {
+            if (other[g] == null) {
+                continue;
+            }
+            if (density[g] == null) {
+                density[g] = other[g];
+                continue;
+            }
+            for (int c = 0; c <= CoordCodec.CELLS; c++) {
+                density[g][c] += other[g][c];
+            }
+        }
+    }
+
+    /**
+     * Method that counts the placements of the range of this task, all of the same group.
+     */
+    private double[][] count() {
+        double[][] density = new double[numberOfGroups][];
+        double[] groupDensity = new double[CoordCodec.CELLS + 1];
+        density[groups[from]] = groupDensity;
+        for (int p = from; p < to; p++) {
+            if ((p & 63) == 0 && System.nanoTime() > deadline) {
+                break;
+            }
+            if (masks[p].intersects(blocked)) {
+                continue;
+            }
+            double weight = 1 + HIT_WEIGHT * masks[p].intersectionCount(hit);
+            for (int cell : cells[p]) {
+                groupDensity[cell] += weight;
+            }
+            groupDensity[CoordCodec.CELLS] += weight;
+        }
+        return density;
+    }
+
+}
@@ -0,0 +1,178 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import model.BitBoard;
+import model.CoordCodec;
+import model.enemyGrid;
+
+/**
+ * This class describes what a player knows about the grid of its opponent:
+ * the cells shot without hit, the cells hit, the cells of destroyed units 
+ * and the sizes of the units that are not destroyed yet.
+ * 
+ * It is filled with the results of the shots, exactly as they are sent to a client
+ * (see PlayerViewAll: "Hit", "noHit" and "Destroyed").
+ */
+public class EnemyBoard {
+
+    //Sizes of the units of a fleet, see the constructor of model.Player
+    public static final int[] FLEET_SIZES = { 8, 6, 4, 6, 4, 2 };
+
+    private final BitBoard missed = new BitBoard(CoordCodec.CELLS);
+    private final BitBoard hit = new BitBoard(CoordCodec.CELLS);
+    private final BitBoard destroyed = new BitBoard(CoordCodec.CELLS);
+    private int newlyDestroyed = 0;                 //cells destroyed since the last updateRemainingUnits()
+    private final ArrayList<Integer> remainingSizes = new ArrayList<>();
+
+    /**
+     * Constructor - nothing is known yet, every unit of the fleet remains.
+     */
+    public EnemyBoard() {
+        for (int size : FLEET_SIZES) {
+            remainingSizes.add(size);
+        }
+        Collections.sort(remainingSizes, Collections.reverseOrder());
+    }
+
+    /**
+     * Method that creates the enemy board matching the enemyGrid of a player.
+     * 
+     * @param grid {enemyGrid} - the grid of the opponent, as seen by the player
+     * @return {EnemyBoard} - the enemy board, with the destroyed units already removed from the remaining units
+     */
+    public static EnemyBoard of(enemyGrid grid) {
+        EnemyBoard board = new EnemyBoard();
+        for (int cell = 0; cell < CoordCodec.CELLS; cell++) {
+            switch (grid.getGridCell(cell)) {
+                case -1: board.setNoHit(cell);      break;
+                case 1:  board.setHit(cell);        break;
+                case 2:  board.setDestroyed(cell);  break;
+                default:
+            }
+        }
+        board.updateRemainingUnits();
+        return board;
+    }
+
+    /**
+     * Method that records a shot without hit.
+     * 
+     * @param cell {int} - the index of the cell
+     */
+    public void setNoHit(int cell) {
+        missed.set(cell);
+    }
+
+    /**
+     * Method that records a hit on a unit that is not destroyed.
+     * 
+     * @param cell {int} - the index of the cell
+     */
+    public void setHit(int cell) {
+        hit.set(cell);
+    }
+
+    /**
+     * Method that records a cell of a destroyed unit.
+     * 
+     * @param cell {int} - the index of the cell
+     */
+    public void setDestroyed(int cell) {
+        if (!destroyed.get(cell)) {
+            hit.clear(cell);
+            destroyed.set(cell);
+            newlyDestroyed++;
+        }
+    }
+
+    /**
+     * Method that removes the units destroyed since the last call from the remaining units.
+     * 
+     * The results of the shots do not say which unit was destroyed, only its cells: 
+     * the sizes removed are the remaining sizes whose sum is the number of newly destroyed cells
+     * (usually a single unit, but an airstrike can destroy several units at once).
+     */
+    public void updateRemainingUnits() {
+        int cells = newlyDestroyed;
+        if (cells == 0) {
+            return;
+        }
+        newlyDestroyed = 0;
+        ArrayList<Integer> removed = new ArrayList<>();
+        if (findSizes(cells, 0, removed)) {
+            for (Integer size : removed) {
+                remainingSizes.remove(size);
+            }
+        }
+    }
+
+    /**
+     * Method that searches the remaining sizes (from the given index) whose sum is the given number of cells.
+     * 
+     * @return {boolean} - true if found, the sizes are then in removed
+     */
+    private boolean findSizes(int cells, int from, ArrayList<Integer> removed) {
+        if (cells == 0) {
+            return true;
+        }
+        for (int i = from; i < remainingSizes.size(); i++) {
+            int size = remainingSizes.get(i);
+            if (size <= cells) {
+                removed.add(size);
+                if (findSizes(cells - size, i + 1, removed)) {
+                    return true;
+                }
+                removed.remove(removed.size() - 1);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method that returns the cells on which no unit can be placed anymore (shot without hit or destroyed).
+     * 
+     * @return {BitBoard} - the blocked cells
+     */
+    public BitBoard getBlocked() {
+        BitBoard blocked = new BitBoard(CoordCodec.CELLS);
+        blocked.or(missed);
+        blocked.or(destroyed);
+        return blocked;
+    }
+
+    /**
+     * Method that returns the cells that have been shot, whatever the result.
+     * 
+     * @return {BitBoard} - the shot cells
+     */
+    public BitBoard getShot() {
+        BitBoard shot = getBlocked();
+        shot.or(hit);
+        return shot;
+    }
+
+    /**
+     * Method that returns the cells hit on units that are not destroyed yet.
+     * 
+     * @return {BitBoard} - the hit cells
+     */
+    public BitBoard getHit() {
+        return hit;
+    }
+
+    /**
+     * Method that returns the sizes of the units that are not destroyed yet, the biggest first.
+     * 
+     * @return {int[]} - the sizes, ex: {8, 6, 4, 2}
+     */
+    public int[] getRemainingSizes() {
+        int[] sizes = new int[remainingSizes.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = remainingSizes.get(i);
+        }
+        return sizes;
+    }
+
+}
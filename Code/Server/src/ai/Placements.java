@@ -0,0 +1,116 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import model.BitBoard;
+import model.CoordCodec;
+
+/**
+ * This class lists every position a unit of a given size can take on the grid.
+ * 
+ * Like in PlayerController.PlaceUnitControl(), a unit can be placed on any rectangle 
+ * whose area is equal to its size: a unit of size 6 can be 1x6, 2x3, 3x2 or 6x1.
+ * The placements are computed once per size and shared by every computer player.
+ */
+public final class Placements {
+
+    private static final int MAX_SIZE = CoordCodec.CELLS;
+    private static final BitBoard[][] MASKS = new BitBoard[MAX_SIZE + 1][];
+    private static final int[][][] CELLS = new int[MAX_SIZE + 1][][];
+
+    private Placements() {
+    }
+
+    /**
+     * Method that returns the cells covered by each placement of a unit of the given size, as bitboards.
+     * 
+     * @param size {int} - the size of the unit
+     * @return {BitBoard[]} - one bitboard per placement
+     */
+    public static BitBoard[] masks(int size) {
+        compute(size);
+        return MASKS[size];
+    }
+
+    /**
+     * Method that returns the cells covered by each placement of a unit of the given size, as cell indexes.
+     * The placements are in the same order as in masks(size).
+     * 
+     * @param size {int} - the size of the unit
+     * @return {int[][]} - the indexes of the cells of each placement, ex: {{0, 1}, {0, 13}, ...} for size 2
+     */
+    public static int[][] cells(int size) {
+        compute(size);
+        return CELLS[size];
+    }
+
+    /**
+     * Method that returns the coordinates of the top-left and bottom-right corners of a placement,
+     * in the format expected by PlayerController.PlaceUnitControl().
+     * 
+     * @param cells {int[]} - the cells of the placement
+     * @return {String} - the corners separated by a whitespace, ex: "A1 B4"
+     */
+    public static String corners(int[] cells) {
+        return CoordCodec.name(cells[0]) + " " + CoordCodec.name(cells[cells.length - 1]);
+    }
+
+    /**
+     * Method that returns a random placement of a unit of the given size that does not overlap the occupied cells.
+     * 
+     * @param size {int} - the size of the unit
+     * @param occupied {BitBoard} - the cells on which the unit can not be placed
+     * @param random {Random} - the generator
+     * @return {int} - the index of the placement in masks(size) and cells(size), -1 if there is no room left
+     */
+    public static int random(int size, BitBoard occupied, Random random) {
+        BitBoard[] masks = masks(size);
+        int start = random.nextInt(masks.length);
+        for (int i = 0; i < masks.length; i++) {
+            int p = (start + i) % masks.length;
+            if (!masks[p].intersects(occupied)) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method that computes the placements of a unit of the given size, if it was not done yet.
+     */
+    private static synchronized void compute(int size) {
+        if (MASKS[size] != null) {
+            return;
+        }
+        ArrayList<int[]> placements = new ArrayList<>();
+        for (int rows = 1; rows <= CoordCodec.ROWS; rows++) {
+            if (size % rows != 0 || size / rows > CoordCodec.COLS) {
+                continue;
+            }
+            int cols = size / rows;
+            for (int top = 0; top + rows <= CoordCodec.ROWS; top++) {
+                for (int left = 0; left + cols <= CoordCodec.COLS; left++) {
+                    int[] cells = new int[size];
+                    int k = 0;
+                    for (int i = 0; i < rows; i++) {
+                        for (int j = 0; j < cols; j++) {
+                            cells[k++] = CoordCodec.index(top + i, left + j);
+                        }
+                    }
+                    placements.add(cells);
+                }
+            }
+        }
+        BitBoard[] masks = new BitBoard[placements.size()];
+        for (int p = 0; p < masks.length; p++) {
+            masks[p] = new BitBoard(CoordCodec.CELLS);
+            for (int cell : placements.get(p)) {
+                masks[p].set(cell);
+            }
+        }
+        CELLS[size] = placements.toArray(new int[0][]);
+        MASKS[size] = masks;
+    }
+
+}
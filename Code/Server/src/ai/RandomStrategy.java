@@ -0,0 +1,38 @@
+package ai;
+
+import java.util.Random;
+
+import model.BitBoard;
+import model.CoordCodec;
+
+/**
+ * This class is the simplest strategy: single shots on random cells that have not been shot yet.
+ * It is the reference the other strategies are compared to (see test.Tournament).
+ */
+public class RandomStrategy implements BotStrategy {
+
+    private final Random random;
+
+    /**
+     * Constructor
+     * 
+     * @param random {Random} - the generator used to choose the cells
+     */
+    public RandomStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public Shot decide(EnemyBoard board, int availableShotTypes) {
+        BitBoard shot = board.getShot();
+        int cell = -1;
+        int unshot = 0;
+        for (int c = 0; c < CoordCodec.CELLS; c++) {
+            if (!shot.get(c) && random.nextInt(++unshot) == 0) {
+                cell = c;
+            }
+        }
+        return new Shot("S", CoordCodec.name(Math.max(cell, 0)), "", 0);
+    }
+
+}
@@ -0,0 +1,169 @@
+package ai;
+
+import java.util.Random;
+
+import model.BitBoard;
+import model.CoordCodec;
+import model.Fleet;
+import model.GameAction;
+import model.GameEngine;
+import model.GameEvents;
+import model.Unit;
+import network.Protocol;
+
+/**
+ * This class plays a whole game between two strategies, in-process and without any client.
+ * 
+ * The rules are the ones of the games played on the server (see model.GameEngine):
+ * -> each fleet is placed at random positions that do not overlap
+ * -> the first turn is given to a random player
+ * -> each turn, the player shoots with one of its available shot types
+ * -> the game ends when every unit of a fleet is destroyed
+ * 
+ * All the random choices of a game (placements, first turn, rockets and the choices of the strategies)
+ * come from the generator given to play(), a game is therefore reproduced exactly by replaying its seed.
+ */
+public final class SelfPlay {
+
+    public static final int MAX_TURNS = 1000;       //a game that is not over after that is a draw
+
+    private SelfPlay() {
+    }
+
+    /**
+     * This class describes the result of a game.
+     */
+    public static class Result {
+
+        private final int winner;
+        private final int turns;
+        private final int[][] shotTypes = new int[2][Protocol.SHOT_TYPES.length];
+
+        private Result(int winner, int turns, int[][] shotTypes) {
+            this.winner = winner;
+            this.turns = turns;
+            for (int p = 0; p < 2; p++) {
+                System.arraycopy(shotTypes[p], 0, this.shotTypes[p], 0, shotTypes[p].length);
+            }
+        }
+
+        /**
+         * @return {int} - the index of the winner (0 or 1), -1 for a draw
+         */
+        public int getWinner() {
+            return winner;
+        }
+
+        /**
+         * @return {int} - the number of turns played by both players
+         */
+        public int getTurns() {
+            return turns;
+        }
+
+        /**
+         * @param player {int} - the index of the player (0 or 1)
+         * @param shotType {int} - the index of the shot type in network.Protocol.SHOT_TYPES
+         * @return {int} - the number of times the player used the shot type
+         */
+        public int getShotTypeCount(int player, int shotType) {
+            return shotTypes[player][shotType];
+        }
+
+    }
+
+    /**
+     * Method that plays a game.
+     * 
+     * @param first {BotStrategy} - the strategy of player 0
+     * @param second {BotStrategy} - the strategy of player 1
+     * @param random {Random} - the generator of the game
+     * @return {Result} - the result of the game
+     */
+    public static Result play(BotStrategy first, BotStrategy second, Random random) {
+        BotStrategy[] strategies = { first, second };
+        EnemyBoard[] boards = { new EnemyBoard(), new EnemyBoard() };
+        int[][] shotTypes = new int[2][Protocol.SHOT_TYPES.length];
+        GameEngine engine = new GameEngine(random);
+        placeFleet(engine, 0, random);
+        placeFleet(engine, 1, random);
+        engine.apply(GameAction.start(random.nextInt(2)));
+
+        for (int turn = 1; turn <= MAX_TURNS; turn++) {
+            int player = engine.getTurn();
+            Shot shot = strategies[player].decide(boards[player], Protocol.shotTypesMask(engine.getAvailableShotTypes(player)));
+            int center = shot.getCoord().isEmpty() ? -1 : CoordCodec.index(shot.getCoord());
+            GameEvents events = engine.apply(GameAction.shoot(player, shot.getType(), center, shot.getDirection()));
+            if (events.isRejected()) {                  //a strategy that breaks the rules loses its turn
+                events = engine.apply(GameAction.shoot(player, Fleet.SINGLE_SHOT, firstUnshotCell(boards[player]), ""));
+            }
+            else {
+                shotTypes[player][shotTypeIndex(shot.getType())]++;
+            }
+            record(events, boards[player]);
+
+            if (engine.getPhase() == GameEngine.OVER) {
+                return new Result(engine.getWinner(), turn, shotTypes);
+            }
+        }
+        return new Result(-1, MAX_TURNS, shotTypes);
+    }
+
+    /**
+     * Method that places the units of a player at random positions that do not overlap.
+     * 
+     * @param engine {GameEngine} - the engine of the game
+     * @param player {int} - the index of the player
+     * @param random {Random} - the generator
+     */
+    public static void placeFleet(GameEngine engine, int player, Random random) {
+        BitBoard occupied = new BitBoard(CoordCodec.CELLS);
+        Unit[] units = engine.getFleet(player).getUnits();
+        for (int u = 0; u < units.length; u++) {
+            int p = Placements.random(units[u].getSize(), occupied, random);
+            engine.apply(GameAction.place(player, u, Placements.cells(units[u].getSize())[p]));
+            occupied.or(Placements.masks(units[u].getSize())[p]);
+        }
+    }
+
+    /**
+     * Method that records the results of a shot on the board of the shooter,
+     * like the shooter's client would see them (see Player.publishEvents()).
+     */
+    private static void record(GameEvents events, EnemyBoard board) {
+        for (int i = 0; i < events.size(); i++) {
+            switch (events.getKind(i)) {
+                case GameEvents.MISS:       board.setNoHit(events.getCell(i));      break;
+                case GameEvents.HIT:        board.setHit(events.getCell(i));        break;
+                case GameEvents.DESTROYED:  board.setDestroyed(events.getCell(i));  break;
+                default:
+            }
+        }
+    }
+
+    /**
+     * Method that returns the first cell that has not been shot yet.
+     */
+    private static int firstUnshotCell(EnemyBoard board) {
+        BitBoard shot = board.getShot();
+        for (int c = 0; c < CoordCodec.CELLS; c++) {
+            if (!shot.get(c)) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Method that returns the index of a shot type in network.Protocol.SHOT_TYPES.
+     */
+    private static int shotTypeIndex(String type) {
+        for (int i = 0; i < Protocol.SHOT_TYPES.length; i++) {
+            if (Protocol.SHOT_TYPES[i].equals(type)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+}
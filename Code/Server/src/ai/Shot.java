@@ -0,0 +1,70 @@
+package ai;
+
+/**
+ * This class describes a shot chosen by a computer player: 
+ * the shot type, the coordinate of its center and, for an airstrike, its direction.
+ */
+public class Shot {
+
+    private final String type;
+    private final String coord;
+    private final String direction;
+    private final double expectedHits;
+    private final double expectedKills;
+
+    /**
+     * Constructor
+     * 
+     * @param type {String} - the shot type, "S", "A", "B" or "R" (see Player.getAvailableShotTypes())
+     * @param coord {String} - the coordinate of the center of the shot, ex: "H4" (ignored for a rocket strike)
+     * @param direction {String} - "H" for a horizontal airstrike, "V" for a vertical one (ignored for the other types)
+     * @param expectedHits {double} - the number of cells of units the shot is expected to hit
+     * @param expectedKills {double} - the number of units the shot is expected to destroy
+     */
+    public Shot(String type, String coord, String direction, double expectedHits, double expectedKills) {
+        this.type = type;
+        this.coord = coord;
+        this.direction = direction;
+        this.expectedHits = expectedHits;
+        this.expectedKills = expectedKills;
+    }
+
+    /**
+     * Constructor - the number of units destroyed is not estimated.
+     * 
+     * @param type {String} - the shot type
+     * @param coord {String} - the coordinate of the center of the shot
+     * @param direction {String} - the direction of an airstrike
+     * @param expectedHits {double} - the number of cells of units the shot is expected to hit
+     */
+    public Shot(String type, String coord, String direction, double expectedHits) {
+        this(type, coord, direction, expectedHits, 0);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getCoord() {
+        return coord;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public double getExpectedHits() {
+        return expectedHits;
+    }
+
+    public double getExpectedKills() {
+        return expectedKills;
+    }
+
+    @Override
+    public String toString() {
+        return type + (type.equals("R") ? "" : " " + coord) + (type.equals("A") ? " " + direction : "") 
+            + String.format(" (%.2f hits, %.2f kills)", expectedHits, expectedKills);
+    }
+
+}
@@ -0,0 +1,304 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import model.BitBoard;
+import model.CoordCodec;
+import model.ShotPattern;
+
+/**
+ * This class ranks the possible shots of a given type by sampling layouts of the enemy units (Monte-Carlo).
+ * 
+ * A layout is a position for each remaining unit that is consistent with what is known about the enemy grid:
+ * no unit on a blocked cell (shot without hit or destroyed), every hit cell covered by a unit and no overlap.
+ * Thousands of layouts are sampled on a thread pool, then every candidate shot is scored on the same layouts:
+ *  -> expected hits: the mean number of new cells of units hit by the shot
+ *  -> expected kills: the mean number of units whose every cell is hit once the shot is done
+ * 
+ * The shots are ranked by expected hits plus expected kills, the best first.
+ * The cells covered by a shot are given by ShotPattern, like for the shots of the players:
+ *  -> S (single shot): the center
+ *  -> A (airstrike): a line of 7 cells, horizontal ("H") or vertical ("V")
+ *  -> B (big shot): a square of 3x3 cells
+ */
+public class ShotEvaluator {
+
+    public static final int DEFAULT_SAMPLES = 2000;
+    private static final int MAX_ATTEMPTS = 20;         //attempts to sample one layout before giving up
+    private static final int SAMPLES_PER_TASK = 100;
+    private static final int CANDIDATES_PER_TASK = 32;
+
+    private final ForkJoinPool pool;
+    private final int numberOfSamples;
+    private final Random random;
+
+    /**
+     * Constructor
+     * 
+     * @param pool {ForkJoinPool} - the pool on which the layouts are sampled and the shots scored
+     * @param numberOfSamples {int} - the number of layouts sampled for each evaluation
+     * @param random {Random} - the generator of the seeds of the sampling tasks
+     */
+    public ShotEvaluator(ForkJoinPool pool, int numberOfSamples, Random random) {
+        this.pool = pool;
+        this.numberOfSamples = numberOfSamples;
+        this.random = random;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Ranking
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that ranks every shot of the given types on a single set of sampled layouts.
+     * 
+     * @param board {EnemyBoard} - what is known about the enemy grid
+     * @param types {String[]} - the shot types to rank, "S", "A" or "B"
+     * @return {List<Shot>} - the shots, the best first (empty if no consistent layout was found)
+     */
+    public List<Shot> rank(EnemyBoard board, String... types) {
+        return rank(board, sample(board), types);
+    }
+
+    /**
+     * Same as above, on layouts that have already been sampled (see sample()).
+     * 
+     * @param board {EnemyBoard} - what is known about the enemy grid
+     * @param layouts {List<BitBoard[]>} - the layouts, one bitboard per remaining unit
+     * @param types {String[]} - the shot types to rank
+     * @return {List<Shot>} - the shots, the best first
+     */
+    public List<Shot> rank(EnemyBoard board, List<BitBoard[]> layouts, String... types) {
+        ArrayList<Shot> ranking = new ArrayList<>();
+        if (layouts.isEmpty()) {
+            return ranking;
+        }
+        BitBoard shot = board.getShot();
+        BitBoard hit = board.getHit();
+
+        //Every candidate, as the bitboard of the cells it hits that have not been shot yet
+        ArrayList<String[]> candidates = new ArrayList<>();
+        ArrayList<BitBoard> candidateCells = new ArrayList<>();
+        for (String type : types) {
+            for (int c = 0; c < CoordCodec.CELLS; c++) {
+                switch (type) {
+                    case "S": addCandidate(candidates, candidateCells, shot, type, c, "");  break;
+                    case "A": addCandidate(candidates, candidateCells, shot, type, c, "H");
+                              addCandidate(candidates, candidateCells, shot, type, c, "V"); break;
+                    case "B": addCandidate(candidates, candidateCells, shot, type, c, "");  break;
+                    default:
+                }
+            }
+        }
+
+        ArrayList<Callable<List<Shot>>> tasks = new ArrayList<>();
+        for (int from = 0; from < candidates.size(); from += CANDIDATES_PER_TASK) {
+            int first = from;
+            int last = Math.min(from + CANDIDATES_PER_TASK, candidates.size());
+            tasks.add(() -> score(candidates.subList(first, last), candidateCells.subList(first, last), layouts, hit));
+        }
+        for (List<Shot> scored : invokeAll(tasks)) {
+            ranking.addAll(scored);
+        }
+        Collections.sort(ranking, Comparator.comparingDouble((Shot s) -> s.getExpectedHits() + s.getExpectedKills()).reversed());
+        return ranking;
+    }
+
+    /**
+     * Method that adds a candidate shot if it hits at least one cell that has not been shot yet.
+     */
+    private void addCandidate(List<String[]> candidates, List<BitBoard> candidateCells, BitBoard shot, 
+                              String type, int center, String direction) {
+        BitBoard cells = new BitBoard(CoordCodec.CELLS);
+        for (int target : ShotPattern.cells(type, center, direction)) {
+            if (!shot.get(target)) {
+                cells.set(target);
+            }
+        }
+        if (!cells.isEmpty()) {
+            candidates.add(new String[] { type, CoordCodec.name(center), direction });
+            candidateCells.add(cells);
+        }
+    }
+
+    /**
+     * Method that scores some candidate shots on every layout.
+     */
+    private List<Shot> score(List<String[]> candidates, List<BitBoard> candidateCells, List<BitBoard[]> layouts, BitBoard hit) {
+        ArrayList<Shot> scored = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            BitBoard cells = candidateCells.get(i);
+            BitBoard hitAfterShot = new BitBoard(CoordCodec.CELLS);
+            hitAfterShot.or(hit);
+            hitAfterShot.or(cells);
+            long hits = 0;
+            long kills = 0;
+            for (BitBoard[] layout : layouts) {
+                for (BitBoard unit : layout) {
+                    int unitHits = unit.intersectionCount(cells);
+                    if (unitHits > 0) {
+                        hits += unitHits;
+                        if (hitAfterShot.containsAll(unit)) {
+                            kills++;
+                        }
+                    }
+                }
+            }
+            String[] candidate = candidates.get(i);
+            scored.add(new Shot(candidate[0], candidate[1], candidate[2], 
+                                (double) hits / layouts.size(), (double) kills / layouts.size()));
+        }
+        return scored;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Sampling
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that samples layouts of the remaining units consistent with the enemy board.
+     * The sampling is split in tasks run on the pool, each with its own generator.
+     * 
+     * @param board {EnemyBoard} - what is known about the enemy grid
+     * @return {List<BitBoard[]>} - the layouts, one bitboard per remaining unit 
+     *                              (fewer than the number of samples if some could not be completed)
+     */
+    public List<BitBoard[]> sample(EnemyBoard board) {
+        board.updateRemainingUnits();
+        int[] sizes = board.getRemainingSizes();
+        BitBoard blocked = board.getBlocked();
+        BitBoard hit = board.getHit();
+
+        ArrayList<Callable<List<BitBoard[]>>> tasks = new ArrayList<>();
+        for (int from = 0; from < numberOfSamples; from += SAMPLES_PER_TASK) {
+            int count = Math.min(SAMPLES_PER_TASK, numberOfSamples - from);
+            long seed = random.nextLong();
+            tasks.add(() -> {
+                Random taskRandom = new Random(seed);
+                ArrayList<BitBoard[]> layouts = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    BitBoard[] layout = sampleLayout(sizes, blocked, hit, taskRandom);
+                    if (layout != null) {
+                        layouts.add(layout);
+                    }
+                }
+                return layouts;
+            });
+        }
+        ArrayList<BitBoard[]> layouts = new ArrayList<>(numberOfSamples);
+        for (List<BitBoard[]> sampled : invokeAll(tasks)) {
+            layouts.addAll(sampled);
+        }
+        return layouts;
+    }
+
+    /**
+     * Method that samples one layout: 
+     * the hit cells are covered first (by a random unit placed on a random position covering the cell),
+     * then the other units are placed at random positions.
+     * 
+     * @return {BitBoard[]} - the layout, null if no consistent layout was found in MAX_ATTEMPTS attempts
+     */
+    private static BitBoard[] sampleLayout(int[] sizes, BitBoard blocked, BitBoard hit, Random random) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            BitBoard occupied = new BitBoard(CoordCodec.CELLS);
+            occupied.or(blocked);
+            BitBoard uncovered = new BitBoard(CoordCodec.CELLS);
+            uncovered.or(hit);
+            BitBoard[] layout = new BitBoard[sizes.length];
+            boolean failed = false;
+
+            //Cover the hit cells
+            for (int cell = uncovered.nextSetBit(0); cell >= 0 && !failed; cell = uncovered.nextSetBit(0)) {
+                int unit = randomUnplacedUnit(layout, random);
+                int placement = unit < 0 ? -1 : randomPlacement(sizes[unit], occupied, cell, random);
+                if (placement < 0) {
+                    failed = true;
+                    break;
+                }
+                layout[unit] = Placements.masks(sizes[unit])[placement];
+                occupied.or(layout[unit]);
+                for (int c : Placements.cells(sizes[unit])[placement]) {
+                    uncovered.clear(c);
+                }
+            }
+
+            //Place the other units
+            for (int unit = 0; unit < sizes.length && !failed; unit++) {
+                if (layout[unit] == null) {
+                    int placement = randomPlacement(sizes[unit], occupied, -1, random);
+                    if (placement < 0) {
+                        failed = true;
+                        break;
+                    }
+                    layout[unit] = Placements.masks(sizes[unit])[placement];
+                    occupied.or(layout[unit]);
+                }
+            }
+            if (!failed) {
+                return layout;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method that returns a random unit that has not been placed yet, -1 if every unit is placed.
+     */
+    private static int randomUnplacedUnit(BitBoard[] layout, Random random) {
+        int unit = -1;
+        int unplaced = 0;
+        for (int i = 0; i < layout.length; i++) {
+            if (layout[i] == null && random.nextInt(++unplaced) == 0) {
+                unit = i;
+            }
+        }
+        return unit;
+    }
+
+    /**
+     * Method that returns a random placement of a unit that does not overlap the occupied cells.
+     * 
+     * @param size {int} - the size of the unit
+     * @param occupied {BitBoard} - the cells on which the unit can not be placed
+     * @param cell {int} - a cell the placement must cover, -1 if any
+     * @param random {Random} - the generator
+     * @return {int} - the index of the placement (see Placements), -1 if none
+     */
+    private static int randomPlacement(int size, BitBoard occupied, int cell, Random random) {
+        BitBoard[] masks = Placements.masks(size);
+        int placement = -1;
+        int legal = 0;
+        for (int p = 0; p < masks.length; p++) {
+            if ((cell < 0 || masks[p].get(cell)) && !masks[p].intersects(occupied) && random.nextInt(++legal) == 0) {
+                placement = p;
+            }
+        }
+        return placement;
+    }
+
+    /**
+     * Method that runs the tasks on the pool and returns their results.
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        ArrayList<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        }
+        catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("The evaluation of the shots failed", e);
+        }
+        return results;
+    }
+
+}
@@ -1,6 +1,12 @@
 package controller;
 
+import java.util.List;
+
+import ai.EnemyBoard;
+import ai.Shot;
+import ai.ShotEvaluator;
 import model.*;
+import test.Server;
 import view.*;
 
 
@@ -17,10 +23,17 @@ import view.*;
  * -> PlaceUnitControl: checks for correct user input when he is placing the units
  * -> askForCoord: checks for correct user input when shooting 
  * 
+ * When asked for the coordinate of a shot, the client can answer HINT_REQUEST ("?") to receive 
+ * the best coordinates for the current shot type (see ai.ShotEvaluator) before answering.
+ * 
  */
 public class PlayerController {
+    public static final String HINT_REQUEST = "?";
+    private static final int NUMBER_OF_HINTS = 3;
+
 	private PlayerModel model;
     private PlayerView view = null;
+    private ShotEvaluator shotEvaluator = null;
 
 	public PlayerController(PlayerModel model) {
 		this.model = model;
@@ -40,7 +53,7 @@ public class PlayerController {
 	public String[] PlaceUnitControl(){
 		String unitName, userInput, coord1, coord2;
         String[] responseFromClient, unitCoords;
-        int[] coord1Index, coord2Index;
+        int cell1, cell2;
         boolean isPlaced = false;
         int numberOfRows, numberOfCols, unitSize;
         int failCount = 0;
@@ -55,16 +68,16 @@ public class PlayerController {
             try {
                 coord1 = userInput.split(" ")[0]; //retrieves the top-left coordinate
                 coord2 = userInput.split(" ")[1]; //retrieves the bottom-right coordinate
-                coord1Index = model.player.getMyGrid().getCoordIndex(coord1);
-                coord2Index = model.player.getMyGrid().getCoordIndex(coord2);
-                numberOfRows = coord2Index[0] - coord1Index[0] + 1;
-                numberOfCols = coord2Index[1] - coord1Index[1] + 1;
+                cell1 = CoordCodec.index(coord1);
+                cell2 = CoordCodec.index(coord2);
+                numberOfRows = CoordCodec.row(cell2) - CoordCodec.row(cell1) + 1;
+                numberOfCols = CoordCodec.col(cell2) - CoordCodec.col(cell1) + 1;
                 // check if input is correct and add if place is empty:
                 int k = 0;
-                if (numberOfRows * numberOfCols == unitSize) {
+                if (cell1 >= 0 && cell2 >= 0 && numberOfRows > 0 && numberOfCols > 0 && numberOfRows * numberOfCols == unitSize) {
                     for (int i = 0; i < numberOfRows; i++) {
                         for (int j = 0; j < numberOfCols; j++) {
-                            unitCoords[k] = model.player.getMyGrid().getRowNames()[coord1Index[0] + i] + model.player.getMyGrid().getColNames()[coord1Index[1] + j];
+                            unitCoords[k] = CoordCodec.name(cell1 + i * CoordCodec.COLS + j);
                             k++;
                         }
                     }
@@ -78,26 +91,22 @@ public class PlayerController {
                     }
 
                     if (isPlaced) {
-						model.player.sendToClient("Rem");
-                        model.player.sendToClient("3");
+						model.player.sendPairToClient("Rem", "3");
                         return unitCoords;
                     } else {
-                        model.player.sendToClient("Rem");
-                        model.player.sendToClient(""+(failCount + 3));
+                        model.player.sendPairToClient("Rem", ""+(failCount + 3));
 						model.player.sendToClient("U-"+unitName+"-"+unitSize+"-Input not valid. Units can not overlap each other. Please enter valid input\n");
                         failCount = 1;
                     }
                 } else {
                     isPlaced = false;
-                    model.player.sendToClient("Rem");
-                    model.player.sendToClient(""+(failCount + 3));
+                    model.player.sendPairToClient("Rem", ""+(failCount + 3));
 					model.player.sendToClient("U-"+unitName+"-"+unitSize+"-Input not valid. Please enter valid input\n");
                     failCount = 1;
                 }
             } catch (Exception e) {
                 isPlaced = false;
-                model.player.sendToClient("Rem");
-                model.player.sendToClient(""+(failCount + 3));
+                model.player.sendPairToClient("Rem", ""+(failCount + 3));
 				model.player.sendToClient("U-"+unitName+"-"+unitSize+"-Input not valid. Please enter valid input\n");
                 failCount = 1;
             }
@@ -112,60 +121,50 @@ public class PlayerController {
      * 
      * @param question {String} - The question that needs to be asked the client
      * @param shotType {String} - The type of shot that is currently used
-     * @return {String} - The validated coordinate(s) (if more than 1, separated by ';')  
+     * @return {String} - The validated coordinate of the center of the shot, 
+     *                      followed by ';' and the direction for an airstrike (ex: "H4;H")
      */
     public String askForCoord(String shotType){
         boolean controlPassed = false;
         String shotCoord = model.player.getFormClient();
-        int[] coord;
+        int cell;
     
         while(!controlPassed){
+            if(shotCoord.equals(HINT_REQUEST)){
+                model.player.sendPairToClient("Rem", "2");
+                model.player.sendToClient("S-C-ND-"+targetingHints(shotType)+"\n");
+                shotCoord = model.player.getFormClient();
+                model.player.sendPairToClient("Rem", "1");
+                continue;
+            }
             switch(shotType){
                 case "S":
-                    coord = model.player.getMyGrid().getCoordIndex(shotCoord);
-                    if(coord[0] >= 0 && coord[1] >= 0){ //Coord is in range
+                    cell = CoordCodec.index(shotCoord);
+                    if(cell >= 0){ //Coord is in range
                         controlPassed = true;
                     }
                     else{
-                        model.player.sendToClient("Rem"); model.player.sendToClient("2");
+                        model.player.sendPairToClient("Rem", "2");
                         model.player.sendToClient("S-C-ND-Coordinate out of range, please enter correct coordinate:\n");
                         shotCoord = model.player.getFormClient();
-                        model.player.sendToClient("Rem"); model.player.sendToClient("1");
+                        model.player.sendPairToClient("Rem", "1");
                     }
                     break;
 
                 case "A":
-                    coord = model.player.getMyGrid().getCoordIndex(shotCoord);
-                    if(coord[0] >= 0 && coord[1] >= 0){  
+                    cell = CoordCodec.index(shotCoord);
+                    if(cell >= 0){  
                         model.player.sendToClient("S-D-ND-NC");
                         String direction = model.player.getFormClient();
-                        model.player.sendToClient("Rem"); model.player.sendToClient("2");
-                        shotCoord ="";
-                        for(int i=-3;i<4;i++){
-                            if(direction.equals("H")) {
-                                try{
-                                    shotCoord += model.player.getMyGrid().getRowNames()[coord[0]]+model.player.getMyGrid().getColNames()[coord[1]+i]+";";
-                                }
-                                catch(IndexOutOfBoundsException e){
-                                    //Some of the shots will be outside of the grid (doesn't matter)
-                                }
-                            }
-                            else {
-                                try{
-                                    shotCoord += model.player.getMyGrid().getRowNames()[coord[0]+i]+model.player.getMyGrid().getColNames()[coord[1]]+";";
-                                }
-                                catch(IndexOutOfBoundsException e){
-                                    //Some of the shots will be outside of the grid (doesn't matter)
-                                }       
-                            }
-                        }
+                        model.player.sendPairToClient("Rem", "2");
+                        shotCoord += ";"+direction;
                         controlPassed = true;
                     }
                     else{
-                        model.player.sendToClient("Rem"); model.player.sendToClient("2");
+                        model.player.sendPairToClient("Rem", "2");
                         model.player.sendToClient("S-C-ND-Coordinate out of range, please enter correct coordinate:\n");
                         shotCoord = model.player.getFormClient();
-                        model.player.sendToClient("Rem"); model.player.sendToClient("1");
+                        model.player.sendPairToClient("Rem", "1");
                     }                
                     break;
 
@@ -173,33 +172,47 @@ public class PlayerController {
                     break;
 
                 case "B":
-                    coord = model.player.getMyGrid().getCoordIndex(shotCoord);
-                    if(coord[0] >= 0 && coord[1] >= 0){ //Coord is in range
-                        shotCoord ="";
-                        for(int i =-1; i<2;i++){
-                            for(int j =-1; j<2;j++){
-                                try{
-                                    shotCoord += model.player.getMyGrid().getRowNames()[coord[0]+i]+model.player.getMyGrid().getColNames()[coord[1]+j]+";";
-                                }
-                                catch(IndexOutOfBoundsException e){
-                                    //Some of the shots will be outside of the grid (doesn't matter)
-                                }  
-                            }
-                        }
+                    cell = CoordCodec.index(shotCoord);
+                    if(cell >= 0){ //Coord is in range
                         controlPassed = true;
                     }
                     else{
-                        model.player.sendToClient("Rem"); model.player.sendToClient("2");
+                        model.player.sendPairToClient("Rem", "2");
                         model.player.sendToClient("S-C-ND-Coordinate out of range, please enter correct coordinate:\n");
                         shotCoord = model.player.getFormClient();
-                        model.player.sendToClient("Rem"); model.player.sendToClient("1");
+                        model.player.sendPairToClient("Rem", "1");
                     }
                     break;
             }
         }
 
-        model.player.sendToClient("Rem"); model.player.sendToClient("2");
+        model.player.sendPairToClient("Rem", "2");
         return shotCoord;
     }
 
+    /**
+     * Method that ranks the shots of the given type on what the player knows about the enemy grid
+     * and returns the best ones, in a single line that can be displayed to the client.
+     * The layouts are sampled on the pool of the server, from a generator split from the match (see Match.newRandom()).
+     * 
+     * @param shotType {String} - The type of shot that is currently used
+     * @return {String} - The best shots, ex: "Best targets: H4 V (3.12 hits, 0.41 kills) / ..."
+     */
+    private String targetingHints(String shotType){
+        if(shotEvaluator == null){
+            shotEvaluator = new ShotEvaluator(Server.aiPool, ShotEvaluator.DEFAULT_SAMPLES, model.player.getMatch().newRandom());
+        }
+        List<Shot> ranking = shotEvaluator.rank(EnemyBoard.of(model.player.getEnemyGrid()), shotType);
+        if(ranking.isEmpty()){
+            return "No targeting hint available, please enter a coordinate:";
+        }
+        String hints = "Best targets: ";
+        for(int i = 0; i < Math.min(NUMBER_OF_HINTS, ranking.size()); i++){
+            Shot shot = ranking.get(i);
+            hints += (i == 0 ? "" : " / ") + shot.getCoord() + (shot.getDirection().isEmpty() ? "" : " "+shot.getDirection())
+                   + String.format(" (%.2f hits, %.2f kills)", shot.getExpectedHits(), shot.getExpectedKills());
+        }
+        return hints;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package junit_tests;
+
+import ai.*;
+import model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test the choices of the AiStrategy class
+ */
+class AiStrategyTest {
+
+    /**
+     * Test that the cells already shot are never chosen and have a density of 0.
+     */
+    @Test
+    void testDensity() {
+        AiStrategy strategy = new AiStrategy(ForkJoinPool.commonPool(), 1000, new Random(1));
+        EnemyBoard board = new EnemyBoard();
+        board.setNoHit(CoordCodec.index("A1"));
+        board.setHit(CoordCodec.index("H4"));
+
+        double[] density = strategy.density(board);
+        assertEquals(0.0, density[CoordCodec.index("A1")], 0.0);
+        assertEquals(0.0, density[CoordCodec.index("H4")], 0.0);
+        assertTrue(density[CoordCodec.index("G7")] > 0);
+    }
+
+    /**
+     * Test that the shot following a hit is aimed next to it.
+     */
+    @Test
+    void testShotNextToHit() {
+        AiStrategy strategy = new AiStrategy(ForkJoinPool.commonPool(), 1000, new Random(1));
+        EnemyBoard board = new EnemyBoard();
+        int hit = CoordCodec.index("H4");
+        board.setHit(hit);
+
+        Shot shot = strategy.decide(board, 1);
+        int cell = CoordCodec.index(shot.getCoord());
+        assertEquals("S", shot.getType());
+        assertEquals(1, Math.abs(CoordCodec.row(cell) - CoordCodec.row(hit)) + Math.abs(CoordCodec.col(cell) - CoordCodec.col(hit)));
+    }
+
+    /**
+     * Test that the destroyed units are not searched anymore.
+     */
+    @Test
+    void testDestroyedUnit() {
+        EnemyBoard board = new EnemyBoard();
+        board.setHit(CoordCodec.index("B2"));
+        board.setDestroyed(CoordCodec.index("B2"));
+        board.setDestroyed(CoordCodec.index("B3"));
+        board.updateRemainingUnits();
+
+        assertEquals(5, board.getRemainingSizes().length);
+        for (int size : board.getRemainingSizes()) {
+            assertTrue(size != 2);
+        }
+        assertFalse(board.getHit().get(CoordCodec.index("B2")));
+    }
+
+    /**
+     * Test that a legal shot is still chosen when no time is given to count the placements.
+     */
+    @Test
+    void testNoBudget() {
+        AiStrategy strategy = new AiStrategy(ForkJoinPool.commonPool(), 0, new Random(1));
+        EnemyBoard board = new EnemyBoard();
+        for (int c = 0; c < CoordCodec.CELLS - 1; c++) {
+            board.setNoHit(c);
+        }
+
+        Shot shot = strategy.decide(board, 0b11011);
+        assertEquals("S", shot.getType());
+        assertEquals("M13", shot.getCoord());
+    }
+
+}
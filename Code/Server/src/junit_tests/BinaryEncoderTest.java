@@ -0,0 +1,78 @@
+package junit_tests;
+
+import model.CoordCodec;
+import network.BinaryEncoder;
+import network.Protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This class is used to test the encoding of the queries made of two strings by the BinaryEncoder class
+ */
+class BinaryEncoderTest {
+
+    private final BinaryEncoder encoder = new BinaryEncoder();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    /**
+     * Method that returns the bytes written so far and clears the output.
+     */
+    private byte[] written() throws IOException {
+        out.flush();
+        byte[] result = bytes.toByteArray();
+        bytes.reset();
+        return result;
+    }
+
+    @Test
+    void testPairInOneCall() throws IOException {
+        encoder.encodePair("Hit", "H4", out);
+        assertArrayEquals(new byte[] { (byte) Protocol.OP_HIT, (byte) CoordCodec.index("H4") }, written());
+
+        encoder.encodePair("insertUnit", "A1/" + Protocol.UNIT_NAMES[0], out);
+        assertArrayEquals(new byte[] { (byte) Protocol.OP_INSERT_UNIT, 0, 0 }, written());
+
+        encoder.encodePair("Wait", "500", out);
+        assertArrayEquals(new byte[] { (byte) Protocol.OP_WAIT, 50 }, written());
+
+        encoder.encodePair("Rem", "3", out);
+        assertArrayEquals(new byte[] { (byte) Protocol.OP_REMOVE_LINES, 3 }, written());
+    }
+
+    @Test
+    void testPairInTwoCalls() throws IOException {
+        //The first string of a pair is refused alone, the encoder does not wait for its argument
+        try {
+            encoder.encode("Hit", out);
+            fail("Hit should be refused without its argument");
+        }
+        catch (IOException e) {
+            assertEquals(0, written().length);
+        }
+        encoder.encode("displayGrid", out);
+        assertArrayEquals(new byte[] { (byte) Protocol.OP_DISPLAY_GRID, 0 }, written());
+    }
+
+    @Test
+    void testInvalidArgument() throws IOException {
+        String[][] invalid = { { "Rem", "H4" }, { "Wait", "" }, { "Hit", "Z99" }, { "insertUnit", "A1" }, { "insertUnit", "A1/Boat" } };
+        for (String[] pair : invalid) {
+            try {
+                encoder.encodePair(pair[0], pair[1], out);
+                fail(pair[0] + " " + pair[1] + " should be a protocol error");
+            }
+            catch (IOException e) {
+                assertEquals(0, written().length);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package junit_tests;
+
+import model.*;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test some of the methods of the BitBoard class
+ * and the bitboard based methods of Unit and myGrid
+ */
+class BitBoardTest {
+
+    /**
+     * Test of the basic set operations, on the cells at the limits of the three longs.
+     */
+    @Test
+    void testSetGetClear() {
+        BitBoard board = new BitBoard(169);
+        int[] cells = {0, 63, 64, 127, 128, 168};
+        for (int cell : cells) {
+            board.set(cell);
+        }
+        for (int cell : cells) {
+            assertEquals(true, board.get(cell));
+        }
+        assertEquals(false, board.get(1));
+        assertEquals(6, board.cardinality());
+
+        board.clear(64);
+        assertEquals(false, board.get(64));
+        assertEquals(5, board.cardinality());
+
+        int count = 0;
+        for (int cell = board.nextSetBit(0); cell >= 0; cell = board.nextSetBit(cell + 1)) {
+            count++;
+        }
+        assertEquals(5, count);
+        assertEquals(-1, board.nextSetBit(169));
+    }
+
+    /**
+     * Test of containsAll and intersects.
+     */
+    @Test
+    void testContainsAll() {
+        BitBoard a = new BitBoard(169);
+        BitBoard b = new BitBoard(169);
+        a.set(5); a.set(100); a.set(150);
+        b.set(100); b.set(150);
+        assertEquals(true, a.containsAll(b));
+        assertEquals(false, b.containsAll(a));
+        assertEquals(true, a.intersects(b));
+        b.clear(100); b.clear(150);
+        assertEquals(true, b.isEmpty());
+        assertEquals(false, a.intersects(b));
+    }
+
+    /**
+     * Test of the cell index of the grid and of the coordinates of a unit.
+     */
+    @Test
+    void testCellIndex() {
+        Grid grid = new Grid();
+        assertEquals(0, grid.getCellIndex("A1"));
+        assertEquals(7 * 13 + 3, grid.getCellIndex("H4"));
+        assertEquals(168, grid.getCellIndex("M13"));
+        assertEquals(-1, grid.getCellIndex("Z1"));
+        assertEquals("H4", grid.getCellName(94));
+
+        Unit unit = new Unit("testUnit", 2, 0);
+        unit.initCoordState(new String[]{"B4", "B3"});
+        assertEquals(2, unit.getCoords().length);
+        assertEquals("B3", unit.getCoords()[0]);
+        assertEquals("B4", unit.getCoords()[1]);
+    }
+
+    /**
+     * Test of allUnitsDestroyed: false until every occupied cell of the grid has been shot.
+     */
+    @Test
+    void testAllUnitsDestroyed() {
+        myGrid grid = new myGrid();
+        assertEquals(false, grid.allUnitsDestroyed());
+        grid.setGridCell("C5", new Unit("testUnit", 2, 0));
+        grid.setGridCell("C6", grid.getGridCell("C5"));
+        grid.setShot("C5");
+        grid.setShot("A1");
+        assertEquals(false, grid.allUnitsDestroyed());
+        grid.setShot("C6");
+        assertEquals(true, grid.allUnitsDestroyed());
+    }
+
+}
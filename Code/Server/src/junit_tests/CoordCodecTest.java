@@ -0,0 +1,53 @@
+package junit_tests;
+
+import model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test the methods of the CoordCodec class
+ */
+class CoordCodecTest {
+
+    /**
+     * Test of the conversion of valid and invalid coordinates into cell indexes.
+     */
+    @Test
+    void testIndex() {
+        assertEquals(0, CoordCodec.index("A1"));
+        assertEquals(12, CoordCodec.index("A13"));
+        assertEquals(94, CoordCodec.index("H4"));
+        assertEquals(168, CoordCodec.index("M13"));
+
+        assertEquals(-1, CoordCodec.index("N1"));
+        assertEquals(-1, CoordCodec.index("A0"));
+        assertEquals(-1, CoordCodec.index("A14"));
+        assertEquals(-1, CoordCodec.index("A04"));
+        assertEquals(-1, CoordCodec.index("h4"));
+        assertEquals(-1, CoordCodec.index("H4x"));
+        assertEquals(-1, CoordCodec.index(""));
+        assertEquals(-1, CoordCodec.index(null));
+
+        assertEquals(94, CoordCodec.index(7, 3));
+        assertEquals(-1, CoordCodec.index(7, 13));
+        assertEquals(-1, CoordCodec.index(-1, 3));
+    }
+
+    /**
+     * Test of the conversion of every cell index into its name and back,
+     * the same String object must be returned for a cell.
+     */
+    @Test
+    void testName() {
+        for (int cell = 0; cell < CoordCodec.CELLS; cell++) {
+            assertEquals(cell, CoordCodec.index(CoordCodec.name(cell)));
+        }
+        assertEquals("H4", CoordCodec.name(94));
+        assertSame(CoordCodec.name(94), CoordCodec.name(94));
+        assertEquals(7, CoordCodec.row(94));
+        assertEquals(3, CoordCodec.col(94));
+    }
+
+}
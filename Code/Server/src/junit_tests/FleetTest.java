@@ -0,0 +1,64 @@
+package junit_tests;
+
+import model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test the rules held by the Fleet and ShotPattern classes
+ */
+class FleetTest {
+
+    /**
+     * Test of the shots received by a fleet.
+     */
+    @Test
+    void testReceiveShot() {
+        Fleet fleet = new Fleet();
+        Unit tank = fleet.getUnits()[5];
+        fleet.place(tank, new String[] { "J1", "J2" });
+
+        assertNull(fleet.receiveShot(CoordCodec.index("A1")));
+        assertSame(tank, fleet.receiveShot(CoordCodec.index("J1")));
+        assertTrue(tank.getIsAlive());
+        assertSame(tank, fleet.receiveShot(CoordCodec.index("J2")));
+        assertFalse(tank.getIsAlive());
+        assertTrue(fleet.allUnitsDestroyed());
+    }
+
+    /**
+     * Test that a special shot is not available right after being used.
+     */
+    @Test
+    void testAvailableShotTypes() {
+        Fleet fleet = new Fleet();
+        assertEquals("S / A / B / R ", fleet.getAvailableShotTypes());
+
+        fleet.useShotType(Fleet.AIRSTRIKE);
+        fleet.useShotType(Fleet.SINGLE_SHOT);
+        assertEquals("S / B / R ", fleet.getAvailableShotTypes());
+    }
+
+    /**
+     * Test of the cells hit by each shot type, the cells outside of the grid are left out.
+     */
+    @Test
+    void testShotPattern() {
+        int h4 = CoordCodec.index("H4");
+        assertEquals(1, ShotPattern.cells("S", h4, "").length);
+        assertEquals(7, ShotPattern.cells("A", h4, "H").length);
+        assertEquals(7, ShotPattern.cells("A", h4, "V").length);
+        assertEquals(9, ShotPattern.cells("B", h4, "").length);
+
+        int a1 = CoordCodec.index("A1");
+        assertEquals(4, ShotPattern.cells("A", a1, "H").length);
+        assertEquals(4, ShotPattern.cells("B", a1, "").length);
+        assertEquals(CoordCodec.index("A4"), ShotPattern.cells("A", a1, "H")[3]);
+    }
+
+}
@@ -0,0 +1,125 @@
+package junit_tests;
+
+import model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test the rules applied by the GameEngine class
+ */
+class GameEngineTest {
+
+    /**
+     * Method that returns the cells of the rectangle between two corners, for the placements that are not in the fixture.
+     */
+    private int[] rectangle(String topLeft, String bottomRight) {
+        int first = CoordCodec.index(topLeft);
+        int last = CoordCodec.index(bottomRight);
+        int cols = CoordCodec.col(last) - CoordCodec.col(first) + 1;
+        int[] cells = new int[(CoordCodec.row(last) - CoordCodec.row(first) + 1) * cols];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = first + (i / cols) * CoordCodec.COLS + i % cols;
+        }
+        return cells;
+    }
+
+    /**
+     * Method that creates an engine in which both fleets are placed and player 0 has the first turn.
+     */
+    private GameEngine startedEngine() {
+        GameEngine engine = new GameEngine(new Random(1));
+        for (int p = 0; p < 2; p++) {
+            for (int u = 0; u < ScriptedClient.PLACEMENTS.length; u++) {
+                assertFalse(engine.apply(GameAction.place(p, u, ScriptedClient.placement(u))).isRejected());
+            }
+        }
+        engine.apply(GameAction.start(0));
+        return engine;
+    }
+
+    /**
+     * Test of the placement: the units can not overlap and the game can only start once every unit is placed.
+     */
+    @Test
+    void testPlace() {
+        GameEngine engine = new GameEngine(new Random(1));
+        GameEvents events = engine.apply(GameAction.place(0, 5, rectangle("J1", "J2")));
+        assertEquals(2, events.size());
+        assertEquals(GameEvents.UNIT_PLACED, events.getKind(0));
+        assertEquals(5, events.getArg(0));
+
+        events = engine.apply(GameAction.place(0, 2, rectangle("J2", "K3")));
+        assertEquals(GameEvents.REASON_OVERLAP, events.getArg(0));
+        events = engine.apply(GameAction.place(0, 2, rectangle("K1", "K3")));
+        assertEquals(GameEvents.REASON_WRONG_SIZE, events.getArg(0));
+        events = engine.apply(GameAction.start(0));
+        assertTrue(events.isRejected());
+        assertEquals(GameEngine.PLACEMENT, engine.getPhase());
+    }
+
+    /**
+     * Test of the turns: only the player that has the turn can shoot, then the turn goes to the other player.
+     */
+    @Test
+    void testTurn() {
+        GameEngine engine = startedEngine();
+        assertEquals(0, engine.getTurn());
+        assertEquals(GameEvents.REASON_NOT_YOUR_TURN, engine.apply(GameAction.shoot(1, "S", 0, "")).getArg(0));
+
+        GameEvents events = engine.apply(GameAction.shoot(0, "S", CoordCodec.index("M13"), ""));
+        assertEquals(GameEvents.SHOT, events.getKind(0));
+        assertEquals(GameEvents.MISS, events.getKind(1));
+        assertEquals(GameEvents.TURN, events.getKind(2));
+        assertEquals(1, events.getPlayer(2));
+        assertEquals(1, engine.getTurn());
+    }
+
+    /**
+     * Test that a special shot hits its pattern and is not available on the next turn.
+     */
+    @Test
+    void testSpecialShot() {
+        GameEngine engine = startedEngine();
+        assertTrue(engine.getAvailableShotTypes(0).contains("B"));
+        GameEvents events = engine.apply(GameAction.shoot(0, "B", CoordCodec.index("J2"), ""));
+        int shots = 0;
+        int destroyed = 0;
+        for (int i = 0; i < events.size(); i++) {
+            shots += events.getKind(i) == GameEvents.SHOT ? 1 : 0;
+            destroyed += events.getKind(i) == GameEvents.DESTROYED ? 1 : 0;
+        }
+        assertEquals(9, shots);
+        assertTrue(destroyed >= 2);         //the tank (J1 J2) is destroyed, once per shot on one of its cells
+        assertFalse(engine.getFleet(1).getUnits()[5].getIsAlive());
+
+        engine.apply(GameAction.shoot(1, "S", CoordCodec.index("M13"), ""));
+        assertFalse(engine.getAvailableShotTypes(0).contains("B"));
+        assertEquals(GameEvents.REASON_NOT_AVAILABLE, engine.apply(GameAction.shoot(0, "B", 0, "")).getArg(0));
+    }
+
+    /**
+     * Test that the game is over once every unit of a fleet is destroyed.
+     */
+    @Test
+    void testWon() {
+        GameEngine engine = startedEngine();
+        GameEvents events = null;
+        for (int cell = 0; cell < CoordCodec.CELLS && engine.getPhase() == GameEngine.PLAYING; cell++) {
+            events = engine.apply(GameAction.shoot(0, "S", cell, ""));
+            if (engine.getPhase() == GameEngine.PLAYING) {
+                engine.apply(GameAction.shoot(1, "S", CoordCodec.CELLS - 1 - cell, ""));
+            }
+        }
+        assertEquals(GameEngine.OVER, engine.getPhase());
+        assertEquals(0, engine.getWinner());
+        assertEquals(GameEvents.WON, events.getKind(events.size() - 1));
+        assertTrue(engine.apply(GameAction.shoot(1, "S", 0, "")).isRejected());
+    }
+
+}
@@ -0,0 +1,174 @@
+package junit_tests;
+
+import model.*;
+import test.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is used to test the journal of a match (MatchJournal, JournalStore and JournalReader classes)
+ */
+class MatchJournalTest {
+
+    private Path journal;       //file of the journal of the last match created by startedMatch()
+
+    /**
+     * Method that creates a journaled match in which both fleets are placed and the game is started.
+     */
+    private Match startedMatch(JournalStore store) throws IOException {
+        Match match = new Match(7, 1234);
+        MatchJournal matchJournal = store.open(match);
+        journal = matchJournal.getPath();
+        match.setJournal(matchJournal);
+        GameEvents events = new GameEvents();
+        for (int p = 0; p < 2; p++) {
+            for (int u = 0; u < ScriptedClient.PLACEMENTS.length; u++) {
+                match.apply(GameAction.place(p, u, ScriptedClient.placement(u)), events);
+            }
+        }
+        match.apply(GameAction.start(0), events);
+        return match;
+    }
+
+    /**
+     * Test of the restoration of a match that is not over:
+     * the restored match has the same turn and the same shot cells as the original one, rockets included.
+     */
+    @Test
+    void testRestore() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        JournalStore store = new JournalStore(dir, MatchJournal.Sync.ALWAYS);
+        Match match = startedMatch(store);
+        GameEvents events = new GameEvents();
+        match.apply(GameAction.shoot(0, "R", -1, ""), events);
+        match.apply(GameAction.shoot(1, "A", CoordCodec.index("B2"), "H"), events);
+        match.apply(GameAction.shoot(0, "S", CoordCodec.index("A1"), ""), events);
+        match.apply(GameAction.shoot(0, "S", CoordCodec.index("A2"), ""), events);     //rejected, not the turn of player 0
+        assertTrue(events.isRejected());
+
+        Path file = journal;
+        JournalReader reader = new JournalReader(file);
+        assertEquals(7, reader.getMatchId());
+        assertEquals(1234L, reader.getSeed());
+        assertFalse(reader.isFinished());
+        assertFalse(reader.isTruncated());
+        assertEquals(1, JournalReader.unfinished(dir).size());
+
+        GameEngine restored = reader.restore().getEngine();
+        GameEngine original = match.getEngine();
+        assertEquals(original.getTurn(), restored.getTurn());
+        for (int p = 0; p < 2; p++) {
+            assertEquals(original.getAvailableShotTypes(p), restored.getAvailableShotTypes(p));
+            Unit[] units = original.getFleet(p).getUnits();
+            for (int u = 0; u < units.length; u++) {
+                for (String coord : units[u].getCoords()) {
+                    assertEquals(units[u].getCoordState(coord), restored.getFleet(p).getUnits()[u].getCoordState(coord));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of a journal whose last record was not completely written (crash during a write):
+     * the incomplete record is ignored.
+     */
+    @Test
+    void testTruncated() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        Match match = startedMatch(new JournalStore(dir, MatchJournal.Sync.NONE));
+        match.apply(GameAction.shoot(0, "S", CoordCodec.index("A1"), ""), new GameEvents());
+        Path file = journal;
+        int records = new JournalReader(file).size();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] { MatchJournal.SHOOT, 1, 0, 0, 5 }));
+        }
+        JournalReader reader = new JournalReader(file);
+        assertTrue(reader.isTruncated());
+        assertEquals(records, reader.size());
+        assertEquals(1, reader.restore().getEngine().getTurn());
+    }
+
+    /**
+     * Test of a match played until the end: the journal is closed with the winner.
+     */
+    @Test
+    void testFinished() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        Match match = startedMatch(new JournalStore(dir, MatchJournal.Sync.GROUP));
+        GameEvents events = new GameEvents();
+        for (int cell = 0; match.getEngine().getPhase() == GameEngine.PLAYING; cell++) {
+            match.apply(GameAction.shoot(0, "S", cell, ""), events);
+            match.apply(GameAction.shoot(1, "S", CoordCodec.CELLS - 1 - cell, ""), events);
+        }
+        JournalReader reader = new JournalReader(journal);
+        assertTrue(reader.isFinished());
+        assertEquals(0, JournalReader.unfinished(dir).size());
+        assertEquals(0, reader.restore().getEngine().getWinner());
+    }
+
+    /**
+     * Test of a second run with the same seed: the journal of the unfinished match of the first run is kept as it is.
+     */
+    @Test
+    void testNotOverwritten() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        startedMatch(new JournalStore(dir, MatchJournal.Sync.ALWAYS)).apply(GameAction.shoot(0, "S", 0, ""), new GameEvents());
+        Path first = journal;
+        int records = new JournalReader(first).size();
+
+        startedMatch(new JournalStore(dir, MatchJournal.Sync.ALWAYS));
+        assertFalse(first.equals(journal));
+        assertEquals(records, new JournalReader(first).size());
+        assertEquals(2, JournalReader.unfinished(dir).size());
+    }
+
+    /**
+     * Test of the journal of a match that was not over when the server stopped, after a write was interrupted:
+     * once reported, it is closed as abandoned and not reported again, its valid records are kept.
+     */
+    @Test
+    void testReportedOnce() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        Match match = startedMatch(new JournalStore(dir, MatchJournal.Sync.NONE));
+        match.apply(GameAction.shoot(0, "S", CoordCodec.index("A1"), ""), new GameEvents());
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] { MatchJournal.SHOOT, 1, 0, 0, 5 }));
+        }
+
+        JournalReader reader = JournalReader.unfinished(dir).get(0);
+        MatchJournal.abandon(reader);
+        assertEquals(0, JournalReader.unfinished(dir).size());
+
+        JournalReader closed = new JournalReader(journal);
+        assertFalse(closed.isTruncated());
+        assertEquals(reader.size() + 1, closed.size());
+        assertEquals(MatchJournal.ABANDONED, closed.getKind(closed.size() - 1));
+        assertEquals(1, closed.restore().getEngine().getTurn());
+    }
+
+    /**
+     * Test of a match ended before its end (a client left): the journal is closed as abandoned, not taken for a crash.
+     */
+    @Test
+    void testAbandoned() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        Match match = startedMatch(new JournalStore(dir, MatchJournal.Sync.NONE));
+        match.end();
+        JournalReader reader = new JournalReader(journal);
+        assertEquals(MatchJournal.ABANDONED, reader.getKind(reader.size() - 1));
+        assertTrue(reader.isFinished());
+        assertEquals(0, JournalReader.unfinished(dir).size());
+    }
+
+}
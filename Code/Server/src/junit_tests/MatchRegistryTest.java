@@ -0,0 +1,86 @@
+package junit_tests;
+
+import model.*;
+import test.*;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.Socket;
+
+
+/**
+ * This class is used to test some of the methods of the MatchRegistry class
+ */
+class MatchRegistryTest{
+
+    /**
+	 * Test method for the join() method from the MatchRegistry class.
+	 * 
+	 * Players should be paired two by two in independent matches.
+	 */
+	@Test
+	void testjoin(){
+        DataInputStream stdin = new DataInputStream(System.in);
+        DataOutputStream stdout = new DataOutputStream(System.out);
+        Socket sock = new Socket();
+
+        Server serv = new Server();
+        Player p1 = new Player(sock,stdin,stdout);
+        Player p2 = new Player(sock,stdin,stdout);
+        Player p3 = new Player(sock,stdin,stdout);
+        Player p4 = new Player(sock,stdin,stdout);
+
+        assertEquals(2,Server.matchRegistry.size());
+        assertEquals(p1.getMatch(),p2.getMatch());
+        assertEquals(p3.getMatch(),p4.getMatch());
+        assertEquals(p4,p3.otherPlayer());
+        assertEquals(p3,p4.otherPlayer());
+        assertEquals(p2,p1.otherPlayer());
+    }
+
+    /**
+	 * Test method for the remove() method from the MatchRegistry class.
+	 */
+	@Test
+	void testremove(){
+        DataInputStream stdin = new DataInputStream(System.in);
+        DataOutputStream stdout = new DataOutputStream(System.out);
+        Socket sock = new Socket();
+
+        Server serv = new Server();
+        Player p1 = new Player(sock,stdin,stdout);
+        Player p2 = new Player(sock,stdin,stdout);
+
+        assertEquals(1,Server.matchRegistry.size());
+        Server.matchRegistry.remove(p1.getMatch());
+        assertEquals(0,Server.matchRegistry.size());
+    }
+
+    /**
+	 * Test method for the seeds given to the matches by the MatchRegistry class.
+	 * 
+	 * Two registries with the same seed give the same seeds to their matches.
+	 */
+	@Test
+	void testseeds(){
+        DataInputStream stdin = new DataInputStream(System.in);
+        DataOutputStream stdout = new DataOutputStream(System.out);
+        Socket sock = new Socket();
+
+        long[] seeds = new long[4];
+        for(int run = 0; run < 2; run++){
+            Server.matchRegistry = new MatchRegistry(42);
+            Player p1 = new Player(sock,stdin,stdout);
+            Player p2 = new Player(sock,stdin,stdout);
+            Player p3 = new Player(sock,stdin,stdout);
+            seeds[2 * run] = p1.getMatch().getSeed();
+            seeds[2 * run + 1] = p3.getMatch().getSeed();
+            assertEquals(p1.getMatch(), p2.getMatch());
+        }
+        assertEquals(seeds[0], seeds[2]);
+        assertEquals(seeds[1], seeds[3]);
+    }
+
+}
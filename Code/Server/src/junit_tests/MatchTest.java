@@ -0,0 +1,140 @@
+package junit_tests;
+
+import model.Player;
+import test.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+
+/**
+ * This class is used to test the turn coordination of the Match class
+ */
+class MatchTest{
+
+    /**
+	 * Test method for the playerReady() and passTurn() methods from the Match class.
+	 * 
+	 * The first turn is only given once both players are ready,
+	 * then the turn goes from one player to the other.
+	 */
+	@Test
+	void testpassTurn() throws InterruptedException {
+        Match match = new Match(1);
+
+        match.playerReady();
+        assertEquals(false, match.isTurnOf("P1") || match.isTurnOf("P2"));
+
+        match.playerReady();
+        match.awaitStart();
+        assertTrue(match.isTurnOf("P1") ^ match.isTurnOf("P2"));
+
+        String first = match.isTurnOf("P1") ? "P1" : "P2";
+        String second = first.equals("P1") ? "P2" : "P1";
+        match.awaitTurn(first);
+        match.passTurn(first);
+        assertTrue(match.isTurnOf(second));
+        match.awaitTurn(second);
+        match.passTurn(second);
+        assertTrue(match.isTurnOf(first));
+    }
+
+    /**
+	 * Test method for the seed of the Match class.
+	 * 
+	 * Two matches with the same seed give the first turn to the same player.
+	 */
+	@Test
+	void testseed() throws InterruptedException {
+        for(long seed = 0; seed < 20; seed++){
+            Match a = new Match(1, seed);
+            Match b = new Match(2, seed);
+            a.playerReady(); a.playerReady(); a.awaitStart();
+            b.playerReady(); b.playerReady(); b.awaitStart();
+            assertEquals(seed, a.getSeed());
+            assertEquals(a.isTurnOf("P1"), b.isTurnOf("P1"));
+        }
+    }
+
+    /**
+	 * Test method for the newRandom() method from the Match class.
+	 * 
+	 * The computer players of two matches with the same seed get the same generators, 
+	 * and the first turn is still given to the same player.
+	 */
+	@Test
+	void testnewRandom() throws InterruptedException {
+        Match a = new Match(1, 42);
+        Match b = new Match(2, 42);
+        for(int i = 0; i < 2; i++){
+            assertEquals(a.newRandom().nextLong(), b.newRandom().nextLong());
+        }
+        a.playerReady(); a.playerReady(); a.awaitStart();
+        b.playerReady(); b.playerReady(); b.awaitStart();
+        assertEquals(a.isTurnOf("P1"), b.isTurnOf("P1"));
+    }
+
+    /**
+	 * Test method for the end() method from the Match class.
+	 * 
+	 * The players waiting for the start or for their turn are woken up, the match is removed from the registry
+	 * and a second call has no effect.
+	 */
+	@Test
+	void testend() throws InterruptedException {
+        CountDownLatch outOfShots = new CountDownLatch(2);
+        Server serv = new Server();
+        Player p1 = new Player(new ScriptedClient("client1", outOfShots));
+        Player p2 = new Player(new ScriptedClient("client2", outOfShots));
+        new Player(new ScriptedClient("client3", outOfShots));         //waits alone in a second match
+        Match match = p1.getMatch();
+        assertEquals(match, p2.getMatch());
+        assertEquals(2, Server.matchRegistry.size());
+
+        Thread waitingStart = new Thread(() -> {
+            try{
+                match.awaitStart();
+            }
+            catch(InterruptedException e){
+            }
+        });
+        Thread waitingTurn = new Thread(() -> {
+            try{
+                match.awaitTurn(match.getKey(p1));
+            }
+            catch(InterruptedException e){
+            }
+        });
+        waitingStart.start();
+        waitingTurn.start();
+        awaitParked(waitingStart);
+        awaitParked(waitingTurn);
+
+        match.end();
+        waitingStart.join(2000);
+        waitingTurn.join(2000);
+        assertFalse(waitingStart.isAlive());
+        assertFalse(waitingTurn.isAlive());
+        assertTrue(match.isOver());
+        assertEquals(1, Server.matchRegistry.size());
+
+        match.end();
+        assertTrue(match.isOver());
+        assertEquals(1, Server.matchRegistry.size());
+    }
+
+    /**
+     * Method that waits until the given thread is parked (at most 2 seconds).
+     */
+    private void awaitParked(Thread thread) throws InterruptedException {
+        for(int i = 0; i < 200 && thread.getState() != Thread.State.WAITING; i++){
+            Thread.sleep(10);
+        }
+        assertEquals(Thread.State.WAITING, thread.getState());
+    }
+
+}
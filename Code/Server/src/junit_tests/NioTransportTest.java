@@ -0,0 +1,118 @@
+package junit_tests;
+
+import network.Connection;
+import network.NioTransport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * This class is used to test the non-blocking transport of the server (NioTransport, EventLoop and NioConnection classes)
+ * with real sockets on the loopback interface
+ */
+class NioTransportTest {
+
+    /**
+     * Test of an exchange of framed messages in both directions, then of the close of the connection by the server:
+     * the messages flushed before the close are still delivered, then the client reads the end of the stream.
+     */
+    @Test
+    void testExchangeAndClose() throws IOException {
+        NioTransport transport = new NioTransport(0, 1);
+        try (Socket client = new Socket("127.0.0.1", transport.getPort())) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()));
+            DataInputStream in = new DataInputStream(client.getInputStream());
+            Connection connection = transport.accept();
+
+            out.writeUTF("client1");
+            out.writeUTF("A1 B4");
+            out.flush();
+            assertEquals("client1", connection.receive());
+            assertEquals("A1 B4", connection.receive());
+
+            connection.send("U-Tank (1x2)-2-NC");
+            connection.sendPair("Hit", "H4");
+            connection.flush();
+            assertEquals("U-Tank (1x2)-2-NC", in.readUTF());
+            assertEquals("Hit", in.readUTF());
+            assertEquals("H4", in.readUTF());
+
+            connection.send("WON");
+            connection.flush();
+            connection.close();
+            assertEquals("WON", in.readUTF());
+            try {
+                in.readUTF();
+                fail("the connection should be closed");
+            }
+            catch (EOFException e) {
+                //Expected: the server has closed the connection
+            }
+            try {
+                connection.receive();
+                fail("a closed connection should not receive anything");
+            }
+            catch (EOFException e) {
+                //Expected
+            }
+        }
+        finally {
+            transport.close();
+        }
+    }
+
+    /**
+     * Test of the close of a connection whose client has stopped reading:
+     * the messages that can not be written are dropped when the drain timeout is over, and the channel is closed.
+     */
+    @Test
+    void testDrainTimeout() throws IOException, InterruptedException {
+        NioTransport transport = new NioTransport(0, 1, 200);
+        try (Socket client = new Socket()) {
+            client.setReceiveBufferSize(4096);
+            client.connect(new InetSocketAddress("127.0.0.1", transport.getPort()));
+            Connection connection = transport.accept();
+
+            //Far more than the socket buffers can hold while the client does not read
+            String message = "C-" + "x".repeat(60000);
+            int sent = 0;
+            for (int i = 0; i < 200; i++) {
+                connection.send(message);
+                connection.flush();
+                sent += 2 + message.length();
+            }
+            connection.close();
+            Thread.sleep(1000);
+
+            //The client reads again: only the bytes written before the timeout are left, then the end of the stream
+            InputStream in = client.getInputStream();
+            byte[] buffer = new byte[65536];
+            int received = 0;
+            try {
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    received += n;
+                }
+            }
+            catch (IOException e) {
+                //The connection may also be reset, it is closed in both cases
+            }
+            assertTrue(received < sent);
+        }
+        finally {
+            transport.close();
+        }
+    }
+
+}
@@ -4,10 +4,13 @@ import model.*;
 import test.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -35,7 +38,41 @@ class PlayerTest{
        
     }
 
+    /**
+	 * Test of the batch of the turn (see Player.play()).
+	 * 
+	 * Apart from the questions of the shooter (shot type and coordinate), each of which is written with the messages
+	 * that precede it, the results of a turn are written to each player at once: one write per turn per player.
+	 */
+	@Test
+	void testwritesPerTurn() throws InterruptedException {
+        CountDownLatch outOfShots = new CountDownLatch(1);
+        ScriptedClient client1 = new ScriptedClient("client1", outOfShots, "J2");
+        ScriptedClient client2 = new ScriptedClient("client2", outOfShots, "J2");
+
+        Server serv = new Server();
+        startSession(new Player(client1));
+        startSession(new Player(client2));
+
+        assertTrue(outOfShots.await(60, TimeUnit.SECONDS));
+        synchronized(client1){
+            synchronized(client2){
+                //Every shot is a turn, plus the end of the placement and the start of the game
+                int turns = client1.shots + client2.shots;
+                assertEquals(2 * 168, turns);
+                assertEquals(turns + 2, client1.writes - client1.answeredWrites);
+                assertEquals(turns + 2, client2.writes - client2.answeredWrites);
+            }
+        }
+    }
 
-    
+    /**
+     * Method that starts the given player session on a daemon thread.
+     */
+    private void startSession(Player player){
+        Thread session = new Thread(player);
+        session.setDaemon(true);
+        session.start();
+    }
 
-} 
\ No newline at end of file
+}
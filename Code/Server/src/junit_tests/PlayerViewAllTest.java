@@ -0,0 +1,80 @@
+package junit_tests;
+
+import model.*;
+import test.*;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This class is used to test the messages sent by the PlayerViewAll class
+ */
+class PlayerViewAllTest{
+
+    /**
+	 * Test that counts the grid updates sent to the clients during a whole game.
+	 * 
+	 * Both clients shoot on every cell of the grid except on the last cell of the enemy's tank (J2),
+	 * so every unit but one is destroyed and nearly every cell is shot.
+	 * 
+	 * Each cell change should only be sent once: a shot sends the cell shot, 
+	 * or all the cells of the unit it destroys, never the rest of the grid.
+	 */
+	@Test
+	void testgridUpdatesPerGame() throws InterruptedException {
+        CountDownLatch outOfShots = new CountDownLatch(1);
+        ScriptedClient client1 = new ScriptedClient("client1", outOfShots, "J2");
+        ScriptedClient client2 = new ScriptedClient("client2", outOfShots, "J2");
+
+        Server serv = new Server();
+        startSession(new Player(client1));
+        startSession(new Player(client2));
+
+        assertTrue(outOfShots.await(60, TimeUnit.SECONDS));
+        synchronized(client1){
+            synchronized(client2){
+                //30 placed cells + on each grid: 168 shots and the 23 hit cells of the 5 destroyed units that become destroyed
+                assertEquals(30 + 2 * (168 + 23), client1.gridUpdates);
+                assertEquals(30 + 2 * (168 + 23), client2.gridUpdates);
+                assertEquals(0, client1.duplicatedUpdates);
+                assertEquals(0, client2.duplicatedUpdates);
+                assertUpdatesPerShot(client1);
+                assertUpdatesPerShot(client2);
+            }
+        }
+    }
+
+    /**
+     * Method that checks the updates of the enemy's grid sent for each shot of a client:
+     * one for each of the 168 shots, except the 5 shots that destroy a unit, which send every cell of the unit.
+     */
+    private void assertUpdatesPerShot(ScriptedClient client){
+        assertEquals(168, client.shots);
+        int[] updatesOfDestroyingShots = new int[5];
+        int destroyingShots = 0;
+        for(int shot = 0; shot < client.shots; shot++){
+            if(client.updatesPerShot[shot] != 1){
+                assertTrue(destroyingShots < updatesOfDestroyingShots.length);
+                updatesOfDestroyingShots[destroyingShots++] = client.updatesPerShot[shot];
+            }
+        }
+        //In the order of the shots (from A1 to M13): Airport (8 cells), Radar Tower (6), HeadQuarter (4), Railway Gun (6), MMRL (4)
+        assertArrayEquals(new int[] { 8, 6, 4, 6, 4 }, updatesOfDestroyingShots);
+    }
+
+    /**
+     * Method that starts the given player session on a daemon thread.
+     */
+    private void startSession(Player player){
+        Thread session = new Thread(player);
+        session.setDaemon(true);
+        session.start();
+    }
+
+}
@@ -0,0 +1,189 @@
+package junit_tests;
+
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import model.CoordCodec;
+import network.Connection;
+import network.MessageEncoder;
+
+/**
+ * This class is a fake client used by the tests to play a whole game without any socket.
+ * 
+ * It answers the queries of the server like a (very predictable) user would:
+ * -> the units are always placed on the same cells
+ * -> the shots are fired on each cell of the grid, from A1 to M13, except the cells given to the constructor
+ * 
+ * It also counts the grid updates it receives (see PlayerViewAll) and the writes a real connection would make:
+ * one each time a non-empty batch of messages is flushed, by flush() or before waiting for an answer in receive().
+ * 
+ * Its placements are the fleet fixture of every test that places units without a client (see placement()),
+ * and of the benchmarks, which compile this class with the server.
+ */
+public class ScriptedClient implements Connection {
+
+    //Top-left and bottom-right corners of each unit, the index is the unit id
+    public static final String[] PLACEMENTS = { "A1 B4", "C1 D3", "E1 F2", "G1 G6", "H1 I2", "J1 J2" };
+    private static final String ROWS = "ABCDEFGHIJKLM";
+
+    private LinkedBlockingQueue<String> answers = new LinkedBlockingQueue<>();
+    private HashSet<String> skippedCells = new HashSet<>();
+    private CountDownLatch outOfShots;
+    private int placedUnits = 0;
+    private int nextShot = 0;
+    private boolean noMoreShots = false;
+
+    private HashSet<String> receivedUpdates = new HashSet<>();
+    private int unsentMessages = 0;
+    int writes = 0;             //every non-empty batch written
+    int answeredWrites = 0;     //the batches written by receive(), before waiting for an answer
+    int shots = 0;              //the coordinates of shots answered
+    int gridUpdates = 0;
+    int duplicatedUpdates = 0;
+    int[] updatesPerShot = new int[ROWS.length() * 13];    //updates of the enemy's grid received after each shot
+
+    /**
+     * Constructor
+     * 
+     * @param name {String} - the name of the client
+     * @param outOfShots {CountDownLatch} - counted down when the client has no more shots to fire
+     * @param skippedCells {String[]} - the cells on which the client will not shoot
+     */
+    ScriptedClient(String name, CountDownLatch outOfShots, String... skippedCells){
+        answers.add(name);
+        this.outOfShots = outOfShots;
+        for(String cell : skippedCells){
+            this.skippedCells.add(cell);
+        }
+    }
+
+    /**
+     * Method that returns the cells on which the scripted clients place a unit.
+     * 
+     * @param unit {int} - the id of the unit, index in PLACEMENTS
+     * @return {int[]} - the indexes of the cells of the unit (see CoordCodec), row by row
+     */
+    public static int[] placement(int unit){
+        String[] corners = PLACEMENTS[unit].split(" ");
+        int first = CoordCodec.index(corners[0]);
+        int last = CoordCodec.index(corners[1]);
+        int cols = CoordCodec.col(last) - CoordCodec.col(first) + 1;
+        int[] cells = new int[(CoordCodec.row(last) - CoordCodec.row(first) + 1) * cols];
+        for(int i = 0; i < cells.length; i++){
+            cells[i] = first + (i / cols) * CoordCodec.COLS + i % cols;
+        }
+        return cells;
+    }
+
+    @Override
+    public synchronized void send(String str){
+        unsentMessages++;
+        String[] query = str.split("-");
+        switch(query[0]){
+            case "U":
+                answers.add("U-" + query[1] + "-" + query[2]);
+                answers.add(PLACEMENTS[placedUnits++]);
+                break;
+            case "I":
+                answers.add("");
+                break;
+            case "S":
+                if(query[1].equals("T")){
+                    String shot = nextShot();
+                    if(shot == null){
+                        noMoreShots = true;
+                    }
+                    else{
+                        answers.add("S");
+                        answers.add(shot);
+                        shots++;
+                    }
+                }
+                break;
+            default:
+        }
+    }
+
+    @Override
+    public synchronized void sendPair(String type, String arg){
+        unsentMessages++;
+        switch(type){
+            case "insertUnit": case "Hit": case "noHit": case "Destroyed": case "myHit": case "myNoHit": case "myDestroyed":
+                countUpdate(type, arg);
+                break;
+            default:
+        }
+    }
+
+    @Override
+    public synchronized void flush(){
+        if(unsentMessages > 0){
+            writes++;
+            unsentMessages = 0;
+        }
+    }
+
+    @Override
+    public String receive(){
+        synchronized(this){
+            if(unsentMessages > 0){
+                answeredWrites++;
+            }
+            flush();
+        }
+        if(answers.isEmpty() && noMoreShots){
+            outOfShots.countDown();
+        }
+        try{
+            return answers.take();      //Blocks forever once the client has no more shots
+        }
+        catch(InterruptedException e){
+            return "";
+        }
+    }
+
+    @Override
+    public void setEncoder(MessageEncoder encoder){
+    }
+
+    @Override
+    public void close(){
+    }
+
+    @Override
+    public String getLocalAddress(){
+        return "scripted";
+    }
+
+    /**
+     * Method that returns the next cell to shoot at, null if every cell has been shot.
+     */
+    private String nextShot(){
+        while(nextShot < ROWS.length() * 13){
+            String cell = "" + ROWS.charAt(nextShot / 13) + (nextShot % 13 + 1);
+            nextShot++;
+            if(!skippedCells.contains(cell)){
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method that counts a grid update received from the server.
+     * 
+     * The updates of the enemy's grid (Hit, noHit, Destroyed) are also counted for the last shot of this client,
+     * only its own shots change the enemy's grid.
+     */
+    private void countUpdate(String update, String coord){
+        gridUpdates++;
+        if(!receivedUpdates.add(update + "/" + coord)){
+            duplicatedUpdates++;
+        }
+        if(!update.startsWith("my") && !update.equals("insertUnit") && shots > 0){
+            updatesPerShot[shots - 1]++;
+        }
+    }
+
+}
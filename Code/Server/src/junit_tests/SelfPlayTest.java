@@ -0,0 +1,71 @@
+package junit_tests;
+
+import ai.*;
+import test.Tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test the games played by the SelfPlay class
+ */
+class SelfPlayTest {
+
+    /**
+     * Method that plays a game between the density strategy and the random strategy.
+     */
+    private SelfPlay.Result play(long seed) {
+        Random random = new Random(seed);
+        return SelfPlay.play(new AiStrategy(ForkJoinPool.commonPool(), -1, new Random(random.nextLong())),
+                             new RandomStrategy(new Random(random.nextLong())), random);
+    }
+
+    /**
+     * Test that a game is over with a winner and that every turn is counted once.
+     */
+    @Test
+    void testPlay() {
+        SelfPlay.Result result = play(42);
+        assertTrue(result.getWinner() >= 0);
+        int shots = 0;
+        for (int p = 0; p < 2; p++) {
+            for (int t = 0; t < 5; t++) {
+                shots += result.getShotTypeCount(p, t);
+            }
+        }
+        assertEquals(result.getTurns(), shots);
+    }
+
+    /**
+     * Test that a game is reproduced exactly with the same seed.
+     */
+    @Test
+    void testSameSeed() {
+        SelfPlay.Result first = play(7);
+        SelfPlay.Result second = play(7);
+        assertEquals(first.getWinner(), second.getWinner());
+        assertEquals(first.getTurns(), second.getTurns());
+        for (int t = 0; t < 5; t++) {
+            assertEquals(first.getShotTypeCount(0, t), second.getShotTypeCount(0, t));
+        }
+    }
+
+    /**
+     * Test that the games of two tournaments with different seeds are not shifted copies of each other.
+     */
+    @Test
+    void testGameSeeds() {
+        assertEquals(Tournament.gameSeed(1, 5), Tournament.gameSeed(1, 5));
+        for (long game = 0; game < 100; game++) {
+            assertFalse(Tournament.gameSeed(2, game) == Tournament.gameSeed(1, game + 1));
+            assertFalse(Tournament.gameSeed(1, game) == Tournament.gameSeed(1, game + 1));
+        }
+    }
+
+}
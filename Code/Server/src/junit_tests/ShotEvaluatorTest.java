@@ -0,0 +1,72 @@
+package junit_tests;
+
+import ai.*;
+import model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class is used to test the sampling and the ranking of the ShotEvaluator class
+ */
+class ShotEvaluatorTest {
+
+    /**
+     * Test that every sampled layout covers the hit cells, avoids the blocked cells and has no overlapping units.
+     */
+    @Test
+    void testSample() {
+        ShotEvaluator evaluator = new ShotEvaluator(ForkJoinPool.commonPool(), 500, new Random(1));
+        EnemyBoard board = new EnemyBoard();
+        board.setHit(CoordCodec.index("H4"));
+        board.setHit(CoordCodec.index("H5"));
+        board.setNoHit(CoordCodec.index("H6"));
+        board.setNoHit(CoordCodec.index("A1"));
+
+        List<BitBoard[]> layouts = evaluator.sample(board);
+        assertEquals(500, layouts.size());
+        for (BitBoard[] layout : layouts) {
+            assertEquals(EnemyBoard.FLEET_SIZES.length, layout.length);
+            BitBoard all = new BitBoard(CoordCodec.CELLS);
+            int cells = 0;
+            for (BitBoard unit : layout) {
+                all.or(unit);
+                cells += unit.cardinality();
+            }
+            assertEquals(cells, all.cardinality());
+            assertTrue(all.containsAll(board.getHit()));
+            assertFalse(all.intersects(board.getBlocked()));
+        }
+    }
+
+    /**
+     * Test that the shots are ranked the best first and that a big shot is aimed at the hit cells.
+     */
+    @Test
+    void testRank() {
+        ShotEvaluator evaluator = new ShotEvaluator(ForkJoinPool.commonPool(), 500, new Random(1));
+        EnemyBoard board = new EnemyBoard();
+        board.setHit(CoordCodec.index("H4"));
+        board.setHit(CoordCodec.index("H5"));
+
+        List<Shot> ranking = evaluator.rank(board, "B");
+        assertEquals(CoordCodec.CELLS, ranking.size());
+        for (int i = 1; i < ranking.size(); i++) {
+            Shot previous = ranking.get(i - 1);
+            Shot shot = ranking.get(i);
+            assertTrue(previous.getExpectedHits() + previous.getExpectedKills() >= shot.getExpectedHits() + shot.getExpectedKills());
+        }
+        int best = CoordCodec.index(ranking.get(0).getCoord());
+        assertTrue(Math.abs(CoordCodec.row(best) - 7) <= 1);
+        assertTrue(Math.abs(CoordCodec.col(best) - 4) <= 2);
+        assertTrue(ranking.get(0).getExpectedHits() <= 7);
+    }
+
+}
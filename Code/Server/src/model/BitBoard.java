@@ -0,0 +1,170 @@
+package model;
+
+/**
+ * This class represents a set of grid cells as a bitboard: 
+ * each cell of the grid is one bit, identified by its index (row * number of columns + column).
+ * 
+ * The 169 cells of a 13x13 grid fit in three longs, a bigger grid simply uses more longs.
+ * Questions such as "is this cell occupied?", "is this unit destroyed?" or "are all units destroyed?" 
+ * become a few AND / POPCNT operations on these longs instead of HashMap lookups and scans.
+ */
+public class BitBoard {
+
+    private final long[] words;
+    private final int size;
+
+    /**
+     * Constructor - creates an empty bitboard
+     * 
+     * @param size {int} - the number of cells of the grid
+     */
+    public BitBoard(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Method that adds a cell to the set.
+     * 
+     * @param cell {int} - the index of the cell
+     */
+    public void set(int cell) {
+        words[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Method that removes a cell from the set.
+     * 
+     * @param cell {int} - the index of the cell
+     */
+    public void clear(int cell) {
+        words[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * Method that checks if a cell is in the set.
+     * 
+     * @param cell {int} - the index of the cell
+     * @return {boolean} - true if the cell is in the set
+     */
+    public boolean get(int cell) {
+        return (words[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Method that adds all the cells of another bitboard to this one.
+     * 
+     * @param other {BitBoard} - the cells to add
+     */
+    public void or(BitBoard other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Method that checks if all the cells of another bitboard are in this one.
+     * 
+     * @param other {BitBoard} - the cells to check
+     * @return {boolean} - true if every cell of other is also in this set
+     */
+    public boolean containsAll(BitBoard other) {
+        for (int i = 0; i < words.length; i++) {
+            if ((other.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method that checks if this bitboard and another one have at least one cell in common.
+     * 
+     * @param other {BitBoard} - the cells to check
+     * @return {boolean} - true if both sets intersect
+     */
+    public boolean intersects(BitBoard other) {
+        for (int i = 0; i < words.length; i++) {
+            if ((other.words[i] & words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method that returns the number of cells this bitboard and another one have in common.
+     * 
+     * @param other {BitBoard} - the cells to check
+     * @return {int} - the number of cells in both sets
+     */
+    public int intersectionCount(BitBoard other) {
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            count += Long.bitCount(other.words[i] & words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Method that returns the number of cells in the set.
+     * 
+     * @return {int} - the number of cells
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Method that checks if the set is empty.
+     * 
+     * @return {boolean} - true if no cell is in the set
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method that returns the index of the first cell of the set that is greater or equal to the given one.
+     * Used to iterate over the cells: for (int c = b.nextSetBit(0); c >= 0; c = b.nextSetBit(c + 1))
+     * 
+     * @param from {int} - the index from which to search
+     * @return {int} - the index of the next cell in the set, -1 if there is none
+     */
+    public int nextSetBit(int from) {
+        if (from >= size) {
+            return -1;
+        }
+        int i = from >>> 6;
+        long word = words[i] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int cell = (i << 6) + Long.numberOfTrailingZeros(word);
+                return cell < size ? cell : -1;
+            }
+            if (++i == words.length) {
+                return -1;
+            }
+            word = words[i];
+        }
+    }
+
+    /**
+     * Method that returns the number of cells of the grid this bitboard represents.
+     * 
+     * @return {int} - the size of the grid
+     */
+    public int size() {
+        return size;
+    }
+
+}
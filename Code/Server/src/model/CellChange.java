@@ -0,0 +1,96 @@
+package model;
+
+/**
+ * This class describes a single change of a grid cell of a player.
+ * 
+ * Instead of notifying the views that "something changed" and letting them rescan the whole grids,
+ * the model publishes one CellChange per modified cell, so the views only transmit what actually changed.
+ * 
+ * Two kinds of changes exist:
+ * -> a unit has been placed on a cell of the player's own grid (myGrid)
+ * -> the state of a cell of the enemy's grid has changed (see enemyGrid for the meaning of the states)
+ */
+public class CellChange {
+
+    private final boolean isEnemyGrid;
+    private final String coord;
+    private final int oldState;
+    private final int newState;
+    private final Unit unit;
+
+    /**
+     * Constructor
+     * 
+     * @param isEnemyGrid {boolean} - true if the change occurred on the enemyGrid, false if on myGrid
+     * @param coord {String} - the coordinate of the cell, ex: "H4"
+     * @param oldState {int} - the state of the cell before the change (enemyGrid only)
+     * @param newState {int} - the state of the cell after the change (enemyGrid only)
+     * @param unit {Unit} - the unit placed on the cell (myGrid only)
+     */
+    private CellChange(boolean isEnemyGrid, String coord, int oldState, int newState, Unit unit){
+        this.isEnemyGrid = isEnemyGrid;
+        this.coord = coord;
+        this.oldState = oldState;
+        this.newState = newState;
+        this.unit = unit;
+    }
+
+    /**
+     * Method that creates the change corresponding to a unit placed on a cell of myGrid.
+     * 
+     * @param coord {String} - the coordinate of the cell, ex: "H4"
+     * @param unit {Unit} - the unit placed on the cell
+     * @return {CellChange} - the change
+     */
+    public static CellChange unitPlaced(String coord, Unit unit){
+        return new CellChange(false, coord, 0, 0, unit);
+    }
+
+    /**
+     * Method that creates the change corresponding to a new state of a cell of the enemyGrid.
+     * 
+     * @param coord {String} - the coordinate of the cell, ex: "H4"
+     * @param oldState {int} - the state of the cell before the shot
+     * @param newState {int} - the state of the cell after the shot
+     * @return {CellChange} - the change
+     */
+    public static CellChange shot(String coord, int oldState, int newState){
+        return new CellChange(true, coord, oldState, newState, null);
+    }
+
+    /**
+     * @return {boolean} - true if the change occurred on the enemyGrid, false if on myGrid
+     */
+    public boolean isEnemyGrid(){
+        return isEnemyGrid;
+    }
+
+    /**
+     * @return {String} - the coordinate of the changed cell
+     */
+    public String getCoord(){
+        return coord;
+    }
+
+    /**
+     * @return {int} - the state of the cell before the change
+     */
+    public int getOldState(){
+        return oldState;
+    }
+
+    /**
+     * @return {int} - the state of the cell after the change
+     */
+    public int getNewState(){
+        return newState;
+    }
+
+    /**
+     * @return {Unit} - the unit placed on the cell, null for a change of the enemyGrid
+     */
+    public Unit getUnit(){
+        return unit;
+    }
+
+}
@@ -0,0 +1,106 @@
+package model;
+
+/**
+ * This class converts the user-friendly coordinate of a cell, such as "H4", 
+ * into the index of that cell (row * 13 + column, here 7 * 13 + 3 = 94) and back.
+ * 
+ * The parsing reads the characters of the coordinate directly, without creating substrings 
+ * and without scanning the row and column names. The reverse direction uses a table
+ * of the 169 cell names built once, so the same String object is always returned for a cell.
+ */
+public final class CoordCodec {
+
+    public static final int ROWS = 13;
+    public static final int COLS = 13;
+    public static final int CELLS = ROWS * COLS;
+
+    private static final String[] CELL_NAMES = new String[CELLS];
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            CELL_NAMES[cell] = ((char) ('A' + cell / COLS) + String.valueOf(cell % COLS + 1)).intern();
+        }
+    }
+
+    private CoordCodec() {
+    }
+
+    /**
+     * Method that converts a user-friendly cell coordinate into the index of the cell.
+     * 
+     * @param coord {CharSequence} - cell coordinate in user-friendly format. ex: "H4"
+     * @return {int} - the index of the cell. ex: 94, -1 if the coordinate is not on the grid
+     */
+    public static int index(CharSequence coord) {
+        if (coord == null) {
+            return -1;
+        }
+        int length = coord.length();
+        if (length < 2 || length > 3) {
+            return -1;
+        }
+        int row = coord.charAt(0) - 'A';
+        if (row < 0 || row >= ROWS) {
+            return -1;
+        }
+        int col = coord.charAt(1) - '0';
+        if (col < 1 || col > 9) {               // no "0" and no leading zero such as "04"
+            return -1;
+        }
+        if (length == 3) {
+            int digit = coord.charAt(2) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            col = col * 10 + digit;
+        }
+        if (col > COLS) {
+            return -1;
+        }
+        return row * COLS + col - 1;
+    }
+
+    /**
+     * Method that returns the index of the cell at the given row and column indexes.
+     * 
+     * @param row {int} - the row index. ex: 7
+     * @param col {int} - the column index. ex: 3
+     * @return {int} - the index of the cell. ex: 94, -1 if the cell is outside of the grid
+     */
+    public static int index(int row, int col) {
+        if (row < 0 || row >= ROWS || col < 0 || col >= COLS) {
+            return -1;
+        }
+        return row * COLS + col;
+    }
+
+    /**
+     * Method that returns the row index of a cell.
+     * 
+     * @param cell {int} - the index of the cell. ex: 94
+     * @return {int} - the row index. ex: 7
+     */
+    public static int row(int cell) {
+        return cell / COLS;
+    }
+
+    /**
+     * Method that returns the column index of a cell.
+     * 
+     * @param cell {int} - the index of the cell. ex: 94
+     * @return {int} - the column index. ex: 3
+     */
+    public static int col(int cell) {
+        return cell % COLS;
+    }
+
+    /**
+     * Method that converts the index of a cell into its user-friendly coordinate.
+     * 
+     * @param cell {int} - the index of the cell. ex: 94
+     * @return {String} - cell coordinate in user-friendly format. ex: "H4"
+     */
+    public static String name(int cell) {
+        return CELL_NAMES[cell];
+    }
+
+}
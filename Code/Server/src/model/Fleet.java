@@ -0,0 +1,145 @@
+package model;
+
+/**
+ * This class describes the fleet of a player: its units, the grid on which they are placed 
+ * and the special shots they give access to.
+ * 
+ * It holds the rules of the game on the side of one player, without any communication with a client:
+ * -> the units are placed on the grid (place)
+ * -> the shots of the opponent are received on the grid (receiveShot)
+ * -> the special shots are available while their unit is alive and their bonus is recharged (getAvailableShotTypes)
+ * 
+ * It is used by the Player class for the games played on the server, 
+ * and directly by the simulations that do not need any client (see ai.SelfPlay).
+ */
+public class Fleet {
+
+    //Shot types associated to a unit, see getAvailableShotTypes()
+    public static final String SINGLE_SHOT = "S", AIRSTRIKE = "A", RADAR = "D", BIG_SHOT = "B", ROCKETS = "R";
+
+    private final myGrid grid = new myGrid();
+    private final Unit airport, radarTower, headQuarter, railwayGun, mmrl, tank;
+    private final Unit[] units;
+
+    /**
+     * Constructor - creates the units of the fleet, none of them is placed.
+     */
+    public Fleet() {
+        airport = new Unit("Airport (2x4)", 8, 7);
+        radarTower = new Unit("Radar Tower (2x3)", 6, 5);
+        headQuarter = new Unit("HeadQuarter (2x2)", 4, 0);
+        railwayGun = new Unit("Railway Gun (1x6)", 6, 8);
+        mmrl = new Unit("MMRL (2x2)", 4, 3);
+        tank = new Unit("Tank (1x2)", 2, 0);
+        units = new Unit[] { airport, radarTower, headQuarter, railwayGun, mmrl, tank };
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Placing of units
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that places a unit on the given cells of the grid.
+     * The cells must have been checked beforehand (see PlayerController.PlaceUnitControl()).
+     * 
+     * @param unit {Unit} - the unit to place
+     * @param coords {String[]} - the coordinates of the cells of the unit
+     */
+    public void place(Unit unit, String[] coords) {
+        unit.initCoordState(coords);
+        for (String coord : coords) {
+            grid.setGridCell(coord, unit);
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Shooting
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that checks which shot types are available to the player owning this fleet,
+     * if a unit is destroyed or if it is too soon to re-use a certain shot type, the shot is not available.
+     * 
+     * Be aware -> the bonus of the units is recharged by this call, it must be called once per turn.
+     * 
+     * @return {String} - the letters of the available shot types, ex: "S / A / R "
+     */
+    public String getAvailableShotTypes() {
+        String availableShotTypes = SINGLE_SHOT + " ";
+        if (airport.getIsAlive() && airport.getStateBonus()) {
+            availableShotTypes += "/ " + AIRSTRIKE + " ";
+        }
+        if (false && radarTower.getStateBonus()) {          //the radar is not implemented
+            availableShotTypes += "/ " + RADAR + " ";
+        }
+        if (railwayGun.getIsAlive() && railwayGun.getStateBonus()) {
+            availableShotTypes += "/ " + BIG_SHOT + " ";
+        }
+        if (mmrl.getIsAlive() && mmrl.getStateBonus()) {
+            availableShotTypes += "/ " + ROCKETS + " ";
+        }
+        return availableShotTypes;
+    }
+
+    /**
+     * Method that disables the bonus of the unit associated to the given shot type, once the shot is done.
+     * 
+     * @param shotType {String} - the shot type used, nothing happens for a single shot
+     */
+    public void useShotType(String shotType) {
+        switch (shotType) {
+            case AIRSTRIKE: airport.setSwitchStateBonus();     break;
+            case RADAR:     radarTower.setSwitchStateBonus();  break;
+            case BIG_SHOT:  railwayGun.setSwitchStateBonus();  break;
+            case ROCKETS:   mmrl.setSwitchStateBonus();        break;
+            default:
+        }
+    }
+
+    /**
+     * Method that receives a shot of the opponent on the given cell.
+     * 
+     * @param cell {int} - the index of the cell, ex: 94 for "H4"
+     * @return {Unit} - the unit placed on the cell (destroyed if getIsAlive() is now false), null if no unit is hit
+     */
+    public Unit receiveShot(int cell) {
+        grid.setShot(cell);
+        Unit unit = grid.getGridCell(cell);
+        if (unit != null) {
+            unit.setCoordState(cell);
+        }
+        return unit;
+    }
+
+    /**
+     * Method that checks if every unit of the fleet is destroyed.
+     * 
+     * @return {boolean} - true if the fleet is destroyed
+     */
+    public boolean allUnitsDestroyed() {
+        return grid.allUnitsDestroyed();
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Getters
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that returns the grid on which the units are placed.
+     * 
+     * @return {myGrid} - the grid
+     */
+    public myGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Method that returns the units of the fleet, in the order in which they are placed.
+     * 
+     * @return {Unit[]} - the units
+     */
+    public Unit[] getUnits() {
+        return units;
+    }
+
+}
@@ -0,0 +1,96 @@
+package model;
+
+/**
+ * This class describes an action of a player, applied to the game by the GameEngine.
+ * 
+ * Three kinds of actions exist:
+ * -> PLACE: a unit of the player's fleet is placed on some cells of its grid
+ * -> START: the game starts, the first turn is given to a player (once every unit of both fleets is placed)
+ * -> SHOOT: the player that has the turn shoots on the opponent's grid with one of its available shot types
+ */
+public class GameAction {
+
+    public static final int PLACE = 0, START = 1, SHOOT = 2;
+
+    private final int kind;
+    private final int player;
+    private final int unit;
+    private final int[] cells;
+    private final String shotType;
+    private final int center;
+    private final String direction;
+
+    private GameAction(int kind, int player, int unit, int[] cells, String shotType, int center, String direction) {
+        this.kind = kind;
+        this.player = player;
+        this.unit = unit;
+        this.cells = cells;
+        this.shotType = shotType;
+        this.center = center;
+        this.direction = direction;
+    }
+
+    /**
+     * Method that creates the placement of a unit.
+     * 
+     * @param player {int} - the index of the player (0 or 1)
+     * @param unit {int} - the index of the unit in the fleet of the player (see Fleet.getUnits())
+     * @param cells {int[]} - the indexes of the cells on which the unit is placed
+     * @return {GameAction} - the action
+     */
+    public static GameAction place(int player, int unit, int[] cells) {
+        return new GameAction(PLACE, player, unit, cells, "", -1, "");
+    }
+
+    /**
+     * Method that creates the start of the game.
+     * 
+     * @param firstPlayer {int} - the index of the player that has the first turn
+     * @return {GameAction} - the action
+     */
+    public static GameAction start(int firstPlayer) {
+        return new GameAction(START, firstPlayer, -1, null, "", -1, "");
+    }
+
+    /**
+     * Method that creates a shot.
+     * 
+     * @param player {int} - the index of the player that shoots
+     * @param shotType {String} - the shot type, "S", "A", "D", "B" or "R" (see Fleet)
+     * @param center {int} - the index of the aimed cell (ignored for a rocket strike)
+     * @param direction {String} - the direction of an airstrike, "H" for horizontal (ignored for the other types)
+     * @return {GameAction} - the action
+     */
+    public static GameAction shoot(int player, String shotType, int center, String direction) {
+        return new GameAction(SHOOT, player, -1, null, shotType, center, direction);
+    }
+
+    public int getKind() {
+        return kind;
+    }
+
+    public int getPlayer() {
+        return player;
+    }
+
+    public int getUnit() {
+        return unit;
+    }
+
+    public int[] getCells() {
+        return cells;
+    }
+
+    public String getShotType() {
+        return shotType;
+    }
+
+    public int getCenter() {
+        return center;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+}
@@ -0,0 +1,261 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class holds the rules of a whole game between two players, without any client, socket or thread.
+ * 
+ * The game only changes through actions (see GameAction): each action is checked against the rules, 
+ * applied to both fleets and described by events (see GameEvents) that the caller can show to the players.
+ * 
+ *  -> Placement: each player places the units of its fleet
+ *  -> Playing: once the game is started, the player that has the turn shoots, then the turn goes to the other player
+ *  -> Over: every unit of a fleet is destroyed, the other player has won
+ * 
+ * The same engine is driven by the Player sessions of the server (through the Match), 
+ * by the computer players and by the simulations (see ai.SelfPlay).
+ * The methods are synchronized because, on the server, both players place their units at the same time.
+ */
+public class GameEngine {
+
+    public static final int PLACEMENT = 0, PLAYING = 1, OVER = 2;
+
+    private final Fleet[] fleets = { new Fleet(), new Fleet() };
+    private final boolean[][] placedUnits = new boolean[2][];
+    private final String[] availableShotTypes = { "", "" };
+    private final RandomGenerator random;
+    private final GameEvents events = new GameEvents();
+    private int phase = PLACEMENT;
+    private int turn = -1;
+    private int winner = -1;
+
+    /**
+     * Constructor
+     * 
+     * @param random {RandomGenerator} - the generator used to aim the rockets, 
+     *                                   only used under the lock of the engine (it does not need to be thread-safe)
+     */
+    public GameEngine(RandomGenerator random) {
+        this.random = random;
+        for (int p = 0; p < 2; p++) {
+            placedUnits[p] = new boolean[fleets[p].getUnits().length];
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Actions
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that applies an action and returns its events in the buffer of the engine.
+     * The buffer is reused by the next call: this method is meant for a single caller (ex: a simulation).
+     * 
+     * @param action {GameAction} - the action
+     * @return {GameEvents} - the events of the action
+     */
+    public synchronized GameEvents apply(GameAction action) {
+        apply(action, events);
+        return events;
+    }
+
+    /**
+     * Method that applies an action and writes its events in the given buffer.
+     * 
+     * @param action {GameAction} - the action
+     * @param out {GameEvents} - the buffer in which the events are written (it is cleared first)
+     */
+    public synchronized void apply(GameAction action, GameEvents out) {
+        out.clear();
+        switch (action.getKind()) {
+            case GameAction.PLACE: place(action, out); break;
+            case GameAction.START: start(action, out); break;
+            case GameAction.SHOOT: shoot(action, out); break;
+            default:
+        }
+    }
+
+    /**
+     * Method that places a unit: the cells must be on the grid, free, and as many as the size of the unit.
+     */
+    private void place(GameAction action, GameEvents out) {
+        int player = action.getPlayer();
+        Unit unit = fleets[player].getUnits()[action.getUnit()];
+        int[] cells = action.getCells();
+        if (phase != PLACEMENT || placedUnits[player][action.getUnit()]) {
+            out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_WRONG_PHASE);
+            return;
+        }
+        if (cells.length != unit.getSize()) {
+            out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_WRONG_SIZE);
+            return;
+        }
+        String[] coords = new String[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] < 0 || cells[i] >= CoordCodec.CELLS) {
+                out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_OUT_OF_GRID);
+                return;
+            }
+            if (fleets[player].getGrid().getGridCell(cells[i]) != null) {
+                out.add(GameEvents.REJECTED, player, cells[i], GameEvents.REASON_OVERLAP);
+                return;
+            }
+            coords[i] = CoordCodec.name(cells[i]);
+        }
+        fleets[player].place(unit, coords);
+        placedUnits[player][action.getUnit()] = true;
+        for (int cell : cells) {
+            out.add(GameEvents.UNIT_PLACED, player, cell, action.getUnit());
+        }
+    }
+
+    /**
+     * Method that starts the game once every unit is placed.
+     */
+    private void start(GameAction action, GameEvents out) {
+        if (phase != PLACEMENT || !allUnitsPlaced(0) || !allUnitsPlaced(1)) {
+            out.add(GameEvents.REJECTED, action.getPlayer(), -1, GameEvents.REASON_WRONG_PHASE);
+            return;
+        }
+        phase = PLAYING;
+        giveTurn(action.getPlayer(), out);
+    }
+
+    /**
+     * Method that executes a shot of the player that has the turn, with one of its available shot types.
+     */
+    private void shoot(GameAction action, GameEvents out) {
+        int player = action.getPlayer();
+        String shotType = action.getShotType();
+        if (phase != PLAYING) {
+            out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_WRONG_PHASE);
+            return;
+        }
+        if (player != turn) {
+            out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_NOT_YOUR_TURN);
+            return;
+        }
+        if (shotType.isEmpty() || !availableShotTypes[player].contains(shotType)) {
+            out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_NOT_AVAILABLE);
+            return;
+        }
+        if (!shotType.equals(Fleet.ROCKETS) && !shotType.equals(Fleet.RADAR) 
+                && (action.getCenter() < 0 || action.getCenter() >= CoordCodec.CELLS)) {
+            out.add(GameEvents.REJECTED, player, -1, GameEvents.REASON_OUT_OF_GRID);
+            return;
+        }
+
+        switch (shotType) {
+            case Fleet.ROCKETS:
+                for (int i = 0; i < ShotPattern.NUMBER_OF_ROCKETS; i++) {
+                    resolveShot(player, ShotPattern.rocketCell(random), out);
+                }
+                break;
+            case Fleet.RADAR:                   //the radar is not implemented, the turn is lost
+                break;
+            default:
+                for (int cell : ShotPattern.cells(shotType, action.getCenter(), action.getDirection())) {
+                    resolveShot(player, cell, out);
+                }
+        }
+        fleets[player].useShotType(shotType);
+
+        if (fleets[1 - player].allUnitsDestroyed()) {
+            phase = OVER;
+            winner = player;
+            turn = -1;
+            out.add(GameEvents.WON, player, -1, 0);
+        }
+        else {
+            giveTurn(1 - player, out);
+        }
+    }
+
+    /**
+     * Method that resolves the shot of a player on a single cell of the opponent's fleet, 
+     * the phase and the turn are checked by shoot() before.
+     * 
+     * @param player {int} - the index of the player that shoots
+     * @param cell {int} - the index of the cell
+     * @param out {GameEvents} - the buffer in which the events are added (it is not cleared)
+     */
+    private void resolveShot(int player, int cell, GameEvents out) {
+        out.add(GameEvents.SHOT, player, cell, 0);
+        Unit unit = fleets[1 - player].receiveShot(cell);
+        if (unit == null) {
+            out.add(GameEvents.MISS, player, cell, 0);
+        }
+        else if (unit.getIsAlive()) {
+            out.add(GameEvents.HIT, player, cell, 0);
+        }
+        else {
+            BitBoard unitCells = unit.getCells();
+            for (int c = unitCells.nextSetBit(0); c >= 0; c = unitCells.nextSetBit(c + 1)) {
+                out.add(GameEvents.DESTROYED, player, c, 0);
+            }
+        }
+    }
+
+    /**
+     * Method that gives the turn to a player and computes its available shot types for this turn
+     * (which recharges the bonus of its units, see Fleet.getAvailableShotTypes()).
+     */
+    private void giveTurn(int player, GameEvents out) {
+        turn = player;
+        availableShotTypes[player] = fleets[player].getAvailableShotTypes();
+        out.add(GameEvents.TURN, player, -1, 0);
+    }
+
+    /**
+     * Method that checks if every unit of a player is placed.
+     */
+    private boolean allUnitsPlaced(int player) {
+        for (boolean placed : placedUnits[player]) {
+            if (!placed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Getters
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * @param player {int} - the index of the player (0 or 1)
+     * @return {Fleet} - the fleet of the player
+     */
+    public synchronized Fleet getFleet(int player) {
+        return fleets[player];
+    }
+
+    /**
+     * @param player {int} - the index of the player (0 or 1)
+     * @return {String} - the shot types the player can use during its current (or next) turn, ex: "S / A / R "
+     */
+    public synchronized String getAvailableShotTypes(int player) {
+        return availableShotTypes[player];
+    }
+
+    /**
+     * @return {int} - PLACEMENT, PLAYING or OVER
+     */
+    public synchronized int getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return {int} - the index of the player that has the turn, -1 if the game is not being played
+     */
+    public synchronized int getTurn() {
+        return turn;
+    }
+
+    /**
+     * @return {int} - the index of the winner, -1 if the game is not over
+     */
+    public synchronized int getWinner() {
+        return winner;
+    }
+
+}
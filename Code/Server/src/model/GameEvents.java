@@ -0,0 +1,117 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the events produced by the GameEngine when an action is applied, in the order in which they occurred.
+ * 
+ * To avoid allocating an object per event, the events are stored in arrays of int that are reused:
+ * the buffer is cleared at the beginning of each GameEngine.apply() and only grows when needed.
+ * 
+ * Each event has a kind, a player and a cell (and an argument for some kinds):
+ * -> UNIT_PLACED : a cell of a unit of the player has been placed, the argument is the index of the unit
+ * -> SHOT        : the player shoots on a cell, the results of the shot on that cell follow
+ * -> MISS        : the shot of the player on the cell hit no unit
+ * -> HIT         : the shot of the player on the cell hit a unit that is not destroyed
+ * -> DESTROYED   : the cell belongs to a unit destroyed by the player (one event per cell of the unit)
+ * -> TURN        : the player has the turn, no cell
+ * -> WON         : the player has destroyed every unit of the opponent, the game is over, no cell
+ * -> REJECTED    : the action of the player does not respect the rules, the argument is the reason (REASON_...)
+ */
+public class GameEvents {
+
+    public static final int UNIT_PLACED = 0, SHOT = 1, MISS = 2, HIT = 3, DESTROYED = 4, TURN = 5, WON = 6, REJECTED = 7;
+
+    //Reasons of a rejected action
+    public static final int REASON_WRONG_PHASE = 1, REASON_NOT_YOUR_TURN = 2, REASON_NOT_AVAILABLE = 3, 
+                            REASON_OUT_OF_GRID = 4, REASON_OVERLAP = 5, REASON_WRONG_SIZE = 6;
+
+    private int[] kinds = new int[32];
+    private int[] players = new int[32];
+    private int[] cells = new int[32];
+    private int[] args = new int[32];
+    private int size = 0;
+
+    /**
+     * Method that removes every event.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Method that adds an event.
+     * 
+     * @param kind {int} - the kind of event
+     * @param player {int} - the index of the player concerned
+     * @param cell {int} - the index of the cell concerned, -1 if none
+     * @param arg {int} - the argument of the event, 0 if none
+     */
+    void add(int kind, int player, int cell, int arg) {
+        if (size == kinds.length) {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            players = Arrays.copyOf(players, size * 2);
+            cells = Arrays.copyOf(cells, size * 2);
+            args = Arrays.copyOf(args, size * 2);
+        }
+        kinds[size] = kind;
+        players[size] = player;
+        cells[size] = cell;
+        args[size] = arg;
+        size++;
+    }
+
+    /**
+     * @return {int} - the number of events
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i {int} - the index of the event
+     * @return {int} - the kind of the event
+     */
+    public int getKind(int i) {
+        return kinds[i];
+    }
+
+    /**
+     * @param i {int} - the index of the event
+     * @return {int} - the index of the player concerned by the event
+     */
+    public int getPlayer(int i) {
+        return players[i];
+    }
+
+    /**
+     * @param i {int} - the index of the event
+     * @return {int} - the index of the cell concerned by the event, -1 if none
+     */
+    public int getCell(int i) {
+        return cells[i];
+    }
+
+    /**
+     * @param i {int} - the index of the event
+     * @return {int} - the argument of the event
+     */
+    public int getArg(int i) {
+        return args[i];
+    }
+
+    /**
+     * Method that checks if the last action has been rejected.
+     * 
+     * @return {boolean} - true if the events contain a REJECTED event
+     */
+    public boolean isRejected() {
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == REJECTED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
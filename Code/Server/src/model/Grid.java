@@ -6,6 +6,7 @@ package model;
  * Each cell is therefor represented by a combination of a row-name and a column-name which correspond to a row-index and column-index.
  * 
  * Example: cell "H4" is located in row "H" at column "4" which are respectively at row index 7 and column-index 3 (index start at 0)
+ * The conversions between the coordinates and the indexes are done by CoordCodec.
  *  
  */
 public class Grid {
@@ -21,26 +22,41 @@ public class Grid {
      * @return {int[]} - cell coordinate in array format. ex: [7,3]
      */
     public int[] getCoordIndex(String str) {
-
-        String rowName = str.substring(0, 1);   // "H4" => Takes from index 0 up to 1 not included => "H"
-        String colName = str.substring(1);      // "H4" => Takes from index 1 up to the end => "4"
-        int[] coordIndex = { -1, -1 };          // initialized to {-1,-1} => if user enters incorrect row and colum => Error catched if coordIndex has -1 in it.
-
-        for (int i = 0; i < rowNames.length; i++) {
-            if (rowName.compareTo(rowNames[i]) == 0) {  //If "H" == line "H" (example)
-                coordIndex[0] = i;
-                break;
-            }
+        int cell = CoordCodec.index(str);       // -1 if user enters incorrect row or column => Error catched if coordIndex has -1 in it.
+        if (cell < 0) {
+            return new int[] { -1, -1 };
         }
+        return new int[] { CoordCodec.row(cell), CoordCodec.col(cell) };
+    }
 
-        for (int i = 0; i < colNames.length; i++) {
-            if (colName.compareTo(colNames[i]) == 0) {  //if "4" == col "4" (example)
-                coordIndex[1] = i;
-                break;
-            }
-        }
+    /**
+     * Method that converts a user-friendly cell coordinate such as "H4"
+     * into the index of the cell in a bitboard, such as 7 * 13 + 3 = 94.
+     *
+     * @param str {String} - cell coordinate in user-friendly format. ex: "H4"
+     * @return {int} - the index of the cell, -1 if the coordinate is not on the grid
+     */
+    public int getCellIndex(String str) {
+        return CoordCodec.index(str);
+    }
 
-        return coordIndex;
+    /**
+     * Method that converts the index of a cell into its user-friendly coordinate.
+     *
+     * @param cell {int} - the index of the cell. ex: 94
+     * @return {String} - cell coordinate in user-friendly format. ex: "H4"
+     */
+    public String getCellName(int cell) {
+        return CoordCodec.name(cell);
+    }
+
+    /**
+     * Method that returns the total number of cells of the grid.
+     * 
+     * @return {int} - the number of cells
+     */
+    public int getNumberOfCells() {
+        return CoordCodec.CELLS;
     }
 
     /**
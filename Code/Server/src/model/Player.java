@@ -4,6 +4,10 @@ import java.io.*;
 import java.net.*;
 
 import controller.PlayerController;
+import network.BinaryEncoder;
+import network.Connection;
+import network.Protocol;
+import network.StreamConnection;
 import test.*;
 import view.PlayerViewAll;
 
@@ -19,30 +23,28 @@ import view.PlayerViewAll;
  * -> Once the shot is done, the instance gives his turn to the other
  * -> This process repeats itself until all the units of one of the instances are destroyed. 
  *  
- * This class is the actual model of the game, since this class already inherits the Thread class, 
+ * This class is the actual model of the game. Each instance is a session that is executed on its own thread 
+ * (a platform or a virtual thread, see SessionThreadFactory), 
  * a workaround had to be implemented to ensure the model is Observable. -> SEE PlayerModel Class.
  * 
  */
-public class Player extends Thread {
+public class Player implements Runnable {
 
     PlayerModel model;
     PlayerController playerContr;
     PlayerViewAll views;
 
     String userName;
-    private myGrid myGrid;
+    private GameEngine engine;
+    private int me;                             //index of this player in the engine (0 for "P1", 1 for "P2")
+    private final GameEvents events = new GameEvents();
     private enemyGrid enemyGrid;
-    private Unit Airport, RadarTower, HeadQuarter, RailwayGun, MMRL, Tank;
-    private Unit[] units = new Unit[6];
-    private final int NUMBER_OF_ROCKETS = 5;    //number of rockets to shoot on a rocket strike
 
+    private Match match;
     private String myKey = "";
-    public boolean isReady = false; 
-    public boolean isMyTurn = false;
+    public volatile boolean isReady = false; 
 
-    private DataInputStream in; 
-    private DataOutputStream out; 
-    private Socket sock; 
+    private Connection connection;
 
     //Escape characters tho control the cmdline display. => ! only works on unix systems !
     public static final String RED_FG       = "\u001B[31m";
@@ -62,13 +64,26 @@ public class Player extends Thread {
      * Constructor
      * 
      * Creates all the necessary "tools" and  instantiate the required classes.
-     * Associate this instance of the Player class to a client through the Players HashMap from the server
+     * Associate this instance of the Player class to a client and places it in a match through the server's MatchRegistry
      * 
      * @param sock {Socket} - the socket on which the client is connected to the server
      * @param in {DataInputStream} - the inputstream on which we can retrieve data from the client
      * @param out {DataOutputStream} - - the outputstream on which we send data to the client
      */
     public Player(Socket sock, DataInputStream in, DataOutputStream out)  
+    { 
+        this(new StreamConnection(sock, in, out));
+    }
+
+    /**
+     * Constructor
+     * 
+     * Same as above, but the client can be reached through any kind of Connection
+     * (blocking socket streams or non-blocking channels, see the network package).
+     * 
+     * @param connection {Connection} - the connection on which the client is connected to the server
+     */
+    public Player(Connection connection)  
     { 
 
         model = new PlayerModel(this);
@@ -76,38 +91,17 @@ public class Player extends Thread {
         views  = new PlayerViewAll(model, playerContr);
         playerContr.addView(views);
         
-        //Creating both grids
-        myGrid = new myGrid();
+        //Creating the grid of the opponent (the own fleet and grid are held by the engine of the match)
         enemyGrid = new enemyGrid();
 
-        //Creating the units and adding them to the units array.
-        Airport = new Unit("Airport (2x4)", 8, 7);
-        RadarTower = new Unit("Radar Tower (2x3)", 6, 5);
-        HeadQuarter = new Unit("HeadQuarter (2x2)", 4, 0);
-        RailwayGun = new Unit("Railway Gun (1x6)", 6, 8);
-        MMRL = new Unit("MMRL (2x2)", 4, 3);
-        Tank = new Unit("Tank (1x2)", 2, 0);
-        units[0] = Airport;
-        units[1] = RadarTower;       
-        units[2] = HeadQuarter;
-        units[3] = RailwayGun;
-        units[4] = MMRL;
-        units[5] = Tank;
-
         //Retreiving connection information
-        this.sock = sock;
-        this.in = in; 
-        this.out = out;
-
-        //Get own identifier 
-        if(Server.Players.get("P1") == null){
-            myKey = "P1";
-            Server.Players.replace("P1",this);
-        }
-        else{
-            myKey = "P2";
-            Server.Players.replace("P2",this);
-        }
+        this.connection = connection;
+
+        //Join a match and get own identifier 
+        match = Server.matchRegistry.join(this);
+        myKey = match.getKey(this);
+        engine = match.getEngine();
+        me = myKey.equals("P1") ? 0 : 1;
         
     } 
 
@@ -118,18 +112,88 @@ public class Player extends Thread {
 
     /**
      * Method that takes a string and tries to send it to the client.
+     * The string is added to the batch of the current turn, which is written at once by flushToClient()
+     * or before waiting for an answer of the client.
      * 
      * @param str {String} - A String to send to the client 
      */
     public void sendToClient(String str){
         try{
-            out.writeUTF(str);
+            connection.send(str);
+        }
+        catch(IOException e){
+            connectionBroken(e);
+        }
+    }
+
+    /**
+     * Method that sends to the client a query made of two strings (ex: "Hit" and "H4") in a single call,
+     * so that it can not be interleaved with the strings sent by the session of the other player.
+     * 
+     * @param type {String} - the first string of the query, ex: "Hit"
+     * @param arg {String} - its argument, ex: "H4"
+     */
+    public void sendPairToClient(String type, String arg){
+        try{
+            connection.sendPair(type, arg);
         }
         catch(IOException e){
+            connectionBroken(e);
+        }
+    }
+
+    /**
+     * Method that writes at once all the strings waiting to be sent to the client.
+     */
+    public void flushToClient(){
+        try{
+            connection.flush();
+        }
+        catch(IOException e){
+            connectionBroken(e);
+        }
+    }
+
+    /**
+     * Method called when the connection with the client is broken (or has been closed because the match has ended):
+     * the match is ended and the session of this player is unwound up to run().
+     * 
+     * @param e {IOException} - the error of the connection
+     */
+    private void connectionBroken(IOException e){
+        if(!match.isOver()){
             System.out.println(e);
-            System.out.println(RED_FG + "Oops the connection between the server and " + BLUE_FG + userName + RED_FG +" is broken, the game had to be closed!" + RESET_COLOR);
-            System.exit(0);
+            System.out.println(RED_FG + "Oops the connection between the server and " + BLUE_FG + userName + RED_FG +" is broken, the match had to be closed!" + RESET_COLOR);
+            match.end();
         }
+        throw new MatchEndedException(match);
+    }
+
+    /**
+     * Method that closes the connection with the client, called by the match when it ends.
+     */
+    public void disconnect(){
+        connection.close();
+    }
+
+    /**
+     * Method that writes the batch of the current turn to both players.
+     */
+    private void flushTurn(){
+        flushToClient();
+        otherPlayer().flushToClient();
+    }
+
+    /**
+     * Method that asks both clients to pause for a given time before displaying the next updates.
+     * The updates of a whole airstrike or rocket strike are sent at once, with a pause between each cell:
+     * the clients play the animation back on their side and the server does not wait.
+     * 
+     * @param ms {int} - the duration of the pause in milliseconds (a multiple of 10)
+     */
+    private void sendPause(int ms){
+        sendPairToClient("Wait", ""+ms);
+        otherPlayer().sendPairToClient("Wait", ""+ms);
     }
 
     /**
@@ -139,11 +203,10 @@ public class Player extends Thread {
      */
     public String getFormClient(){
         try{
-            return in.readUTF();
+            return connection.receive();
         }
         catch(IOException e){
-            System.out.println(RED_FG + "Oops the connection between the server and " + BLUE_FG + userName + RED_FG +" is broken, the game had to be closed!" + RESET_COLOR);
-            System.exit(0);
+            connectionBroken(e);
         }
         return "";
     }
@@ -153,22 +216,32 @@ public class Player extends Thread {
     //!---------------------------------------------------------------------------------
 
      /**
-     * Function that asks the player to place a particular unit on the grid and saves its position.
+     * Function that asks the player to place a particular unit on the grid and applies the placement to the engine.
      * 
-     * @param unit {Unit} - The unit that needs to be placed 
+     * @param unitIndex {int} - The index of the unit that needs to be placed in the fleet
      */
-    private void unitPlacer(Unit unit) {
+    private void unitPlacer(int unitIndex) {
+        Unit unit = getFleet().getUnits()[unitIndex];
     
         sendToClient("U-"+unit.getName()+"-"+unit.getSize()+"-NC");
         String[] unitCoords = playerContr.PlaceUnitControl();
         
-        unit.initCoordState(unitCoords);
+        int[] cells = new int[unitCoords.length];
         for (int i = 0; i < unitCoords.length; i++) {
-            myGrid.setGridCell(unitCoords[i], unit);
-            model.Changed();
-            model.toNotify();
+            cells[i] = CoordCodec.index(unitCoords[i]);
         }
-        
+        place(unitIndex, cells);
+    }
+
+    /**
+     * Method that applies the placement of a unit to the match and changes the model according to its result.
+     * 
+     * @param unitIndex {int} - The index of the unit in the fleet
+     * @param cells {int[]} - The cells of the unit
+     */
+    protected void place(int unitIndex, int[] cells){
+        match.apply(GameAction.place(me, unitIndex, cells), events);
+        publishEvents(0);
     }
 
     /**
@@ -176,16 +249,14 @@ public class Player extends Thread {
      * When all units are placed, the Player instance is ready to play. 
      */
     protected void placeUnits() {
-        for(Unit u : units){
-            if(u != null){
-                unitPlacer(u);
-            }  
+        for(int i = 0; i < getFleet().getUnits().length; i++){
+            unitPlacer(i);
         }
         sendToClient("I-All units are placed, press 'enter' to start playing.\n");
         getFormClient();
-        sendToClient("Rem");
-        sendToClient("2");
+        sendPairToClient("Rem", "2");
         isReady = true;
+        match.playerReady();
     }
 
     //!---------------------------------------------------------------------------------
@@ -193,69 +264,75 @@ public class Player extends Thread {
     //!---------------------------------------------------------------------------------
 
     /**
-     * Method that checks which sot-types are available for the player to use,
+     * Method that returns the shot-types available for the player to use during its turn (see Fleet.getAvailableShotTypes()),
      * if a unit is destroyed or if it is too soon to re-use a certain shot-type, the shot is not available.
      * 
      * @return {String} - Returns a string containing the letters associated to the shot-types if they are available 
-     * //-> Implement shoot limit 
      */
     protected String getAvailableShotTypes(){
-        String availableShotTypes = "S ";
-        if(Airport.getIsAlive()){
-            if(Airport.getStateBonus()){
-                availableShotTypes += "/ A ";
-            }
-        }
-        if(false){
-            if(RadarTower.getStateBonus()){
-                availableShotTypes += "/ D ";
-            }
-        }
-        if(RailwayGun.getIsAlive()){
-            if(RailwayGun.getStateBonus()){
-                availableShotTypes += "/ B ";
-            }
-        }
-        if(MMRL.getIsAlive()){
-            if(MMRL.getStateBonus()){
-                availableShotTypes += "/ R ";
-            }
-        }
-        return availableShotTypes;
+        return engine.getAvailableShotTypes(me);
     }
 
     /**
-     * Method that checks if the given shot hits a unit of the other player 
-     * and changes the model accordingly.
+     * Method that applies a shot to the match (rules, turn and journal) and changes the model according to its results.
      * 
-     * @param shotCoord {String} - The coordinate of the shot
+     * @param shotType {String} - The type of shot
+     * @param target {String} - The validated target (see PlayerController.askForCoord()), empty for a rocket strike
+     * @param pauseMs {int} - The pause between the results of two cells (animation of the client), 0 for none
      */
-    protected void checkForHit(String shotCoord){
-        if(otherPlayer().myGrid.getGridCell(shotCoord) != null){            //their is a unit on the coordinate
-
-            Unit enemyUnit = otherPlayer().myGrid.getGridCell(shotCoord);
-            enemyUnit.setCoordState(shotCoord);
+    protected void fire(String shotType, String target, int pauseMs){
+        String[] data = target.split(";");
+        int center = data[0].isEmpty() ? -1 : CoordCodec.index(data[0]);
+        String direction = data.length > 1 ? data[1] : "";
+        match.apply(GameAction.shoot(me, shotType, center, direction), events);
+        publishEvents(pauseMs);
+    }
 
-            if(enemyUnit.getIsAlive()){                                     //The unit is hit but not destroyed -> hit
-                enemyGrid.setGridCell(shotCoord, 1);
-                model.Changed();
-                model.toNotify();
-            }
-            else{                                                           //The unit is hit and destroyed -> destroyed
-                for ( String key : enemyUnit.coordState.keySet() ) {
-                    enemyGrid.setGridCell(key, 2);
-                    model.Changed();
-                    model.toNotify();
-                }
+    /**
+     * Method that publishes the events of the last action of this player to the views:
+     * its units placed on its grid and the results of its shots on the enemyGrid.
+     * 
+     * @param pauseMs {int} - The pause sent to both clients after the results of each cell that is shot, 0 for none
+     */
+    private void publishEvents(int pauseMs){
+        int shots = 0;
+        for(int i = 0; i < events.size(); i++){
+            int cell = events.getCell(i);
+            switch(events.getKind(i)){
+                case GameEvents.UNIT_PLACED:
+                    model.publish(CellChange.unitPlaced(CoordCodec.name(cell), getFleet().getUnits()[events.getArg(i)]));
+                    break;
+                case GameEvents.SHOT:
+                    if(pauseMs > 0 && shots > 0){
+                        sendPause(pauseMs);
+                    }
+                    shots++;
+                    break;
+                case GameEvents.MISS:       setEnemyGridCell(cell, -1);     break;
+                case GameEvents.HIT:        setEnemyGridCell(cell, 1);      break;
+                case GameEvents.DESTROYED:  setEnemyGridCell(cell, 2);      break;
+                default:
             }
         }
-        else{                                                               //their is no unit on the coordinate -> no hit
-            enemyGrid.setGridCell(shotCoord, -1);
-            model.Changed();
-            model.toNotify();
+        if(pauseMs > 0 && shots > 0){
+            sendPause(pauseMs);
         }
     }
 
+    /**
+     * Method that changes the state of a cell of the enemyGrid and, 
+     * only if the state is actually different, publishes the change to the views.
+     * 
+     * @param cell {int} - The index of the cell
+     * @param state {int} - The new state of the cell
+     */
+    private void setEnemyGridCell(int cell, int state){
+        int oldState = enemyGrid.getGridCell(cell);
+        if(oldState != state){
+            enemyGrid.setGridCell(cell, state);
+            model.publish(CellChange.shot(CoordCodec.name(cell), oldState, state));
+        }
+    }
 
     /**
      * Method that asks the client to choose a shot-type and execute the shot.
@@ -263,8 +340,7 @@ public class Player extends Thread {
      * 
      */
     protected void shoot() {
-        String availableShotTypes, shotType, shotCoord, coords;
-        String[] coordsArray;
+        String availableShotTypes, shotType;
         boolean shotExecuted = false;
 
         availableShotTypes = getAvailableShotTypes();
@@ -276,52 +352,36 @@ public class Player extends Thread {
             if(availableShotTypes.contains(shotType)){
                 switch (shotType) {
                     case "S":
-                        sendToClient("Rem"); sendToClient("3");
+                        sendPairToClient("Rem", "3");
                         sendToClient("S-C-ND-NC");
-                        checkForHit(playerContr.askForCoord(shotType));
+                        fire(shotType, playerContr.askForCoord(shotType), 0);
                         shotExecuted = true;
                         break;
         
                     case "A":
-                        sendToClient("Rem"); sendToClient("3");
+                        sendPairToClient("Rem", "3");
                         sendToClient("S-C-ND-NC");
-                        coords = playerContr.askForCoord(shotType);
-                        coordsArray = coords.split(";");
-                        for(String coord : coordsArray){
-                            checkForHit(coord);
-                            sleep(150);
-                        }
+                        fire(shotType, playerContr.askForCoord(shotType), 150);
                         shotExecuted = true;
-                        Airport.setSwitchStateBonus();               
                         break;
         
                     case "D":
                         ///// => Will not be implemented
+                        fire(shotType, "", 0);
                         shotExecuted = true;
-                        RadarTower.setSwitchStateBonus();               
                         break;
         
                     case "B":
-                        sendToClient("Rem"); sendToClient("3");
+                        sendPairToClient("Rem", "3");
                         sendToClient("S-C-ND-NC");
-                        coords = playerContr.askForCoord(shotType);
-                        coordsArray = coords.split(";");
-                        for(String coord : coordsArray){
-                            checkForHit(coord);
-                        }
+                        fire(shotType, playerContr.askForCoord(shotType), 0);
                         shotExecuted = true;
-                        RailwayGun.setSwitchStateBonus();     
                         break;
         
                     case "R":
-                        sendToClient("Rem"); sendToClient("3");
-                        for(int i = 0; i<NUMBER_OF_ROCKETS;i++){ 
-                            shotCoord = myGrid.getRowNames()[(int)(Math.random()*(myGrid.getRowNames().length-1))]+myGrid.getColNames()[(int)(Math.random()*(myGrid.getRowNames().length-1))];
-                            checkForHit(shotCoord);
-                            sleep(500);
-                        }
+                        sendPairToClient("Rem", "3");
+                        fire(shotType, "", 500);
                         shotExecuted = true;
-                        MMRL.setSwitchStateBonus(); 
                         break;
                 }
 
@@ -329,16 +389,16 @@ public class Player extends Thread {
             else{
                 String types = "S A D B R";
                 if(types.contains(shotType)){
-                    sendToClient("Rem"); sendToClient("3");
+                    sendPairToClient("Rem", "3");
                     sendToClient("S-T-"+availableShotTypes+"-The shot type you entered is not available. Use another one.\n");
                     shotType = getFormClient();
-                    sendToClient("Rem"); sendToClient("1");
+                    sendPairToClient("Rem", "1");
                 }
                 else{
-                    sendToClient("Rem"); sendToClient("3");
+                    sendPairToClient("Rem", "3");
                     sendToClient("S-T-"+availableShotTypes+"-Invalid input. Please enter valid shot type.\n");
                     shotType = getFormClient();
-                    sendToClient("Rem"); sendToClient("1");
+                    sendPairToClient("Rem", "1");
                 }
             }
 
@@ -348,24 +408,16 @@ public class Player extends Thread {
 
     /**
      * Method that checks if every unit of the adversary is destroyed, 
-     * if yes -> this client has won and the game is terminated 
+     * if yes -> this client has won and the match is ended (the server keeps running)
      * if no  -> the game continues 
      */
     protected void checkForWin(){
-        boolean won = false;
-        for(Unit u : otherPlayer().units){
-            if(u != null){ 
-                if(u.getIsAlive()){
-                    won = false;
-                    break;
-                }
-                else{won=true;}
-            }
-        }
-        if(won){
+        if(engine.getWinner() == me){
             sendToClient("WON");
             otherPlayer().sendToClient("LOST");
-            System.exit(0);
+            flushTurn();
+            System.out.println(GREEN_FG + userName + " won match " + match.getId() + RESET_COLOR);
+            match.end();
         }
     }
 
@@ -379,27 +431,7 @@ public class Player extends Thread {
      * @return {Player} - The object Player of the other client 
      */
     public Player otherPlayer(){
-        if(myKey.equals("P1")){
-            return Server.Players.get("P2");
-        }
-        else{
-            return Server.Players.get("P1");
-        }
-    }
-
-    /**
-     * Method that lets this instance sleep for X milliseconds.
-     * 
-     * @param ms {int} - the time this thread needs to sleep in milliseconds
-     */
-    private void sleep(int ms){
-        try{
-            Thread.sleep(ms);
-        }
-        catch(InterruptedException e){
-            System.out.println(e);
-            System.out.println(RED_FG+ "Thread Error, game closed!" + RESET_COLOR);
-        }
+        return match.getOtherPlayer(myKey);
     }
 
 
@@ -408,14 +440,27 @@ public class Player extends Thread {
     //!---------------------------------------------------------------------------------
 
     /**
-     * This method prints the client information associated to this instance of the Player class on the server cmdLine
+     * This method negotiates the protocol with the client (see Protocol), retrieves its name and
+     * prints the client information associated to this instance of the Player class on the server cmdLine
      */
     private void getClientInfo(){
         long id = Thread.currentThread().getId(); 
 
         userName = getFormClient();
+        if(userName.startsWith(Protocol.HELLO_PREFIX)){     //The client asks for the binary protocol, its name follows
+            int space = userName.indexOf(' ');
+            String hello = space < 0 ? userName : userName.substring(0, space);
+            userName = space < 0 ? "" : userName.substring(space + 1);
+            if(hello.equals(Protocol.HELLO)){
+                sendToClient(Protocol.HELLO);
+                connection.setEncoder(new BinaryEncoder());
+            }
+            else{
+                sendToClient(Protocol.TEXT);                //Unknown version -> keep the text protocol
+            }
+        }
         System.out.println("A new "+ PURPLE_FG +"client"+ BLUE_FG +" \""+userName+"\""+ RESET_COLOR +" with id" + RED_FG +" ("+id+")"+
-                            RESET_COLOR +" joined via " + YELLOW_FG + sock.getLocalAddress().toString().replaceAll("/", "")+ RESET_COLOR);
+                            RESET_COLOR +" joined via " + YELLOW_FG + connection.getLocalAddress()+ RESET_COLOR);
         System.out.println("-------------------------------------------------------------------------");
     }
 
@@ -425,7 +470,16 @@ public class Player extends Thread {
      * @return {myGrid} - returns the myGrid instance
      */
     public myGrid getMyGrid(){
-        return myGrid;
+        return getFleet().getGrid();
+    }
+
+    /**
+     * Method that returns the fleet of this player, held by the engine of the match
+     * 
+     * @return {Fleet} - returns the Fleet instance
+     */
+    public Fleet getFleet(){
+        return engine.getFleet(me);
     }
     
     /**
@@ -437,6 +491,15 @@ public class Player extends Thread {
         return enemyGrid;
     }
 
+    /**
+     * Method that returns the match in which this player is playing
+     * 
+     * @return {Match} - returns the Match instance
+     */
+    public Match getMatch(){
+        return match;
+    }
+
     //!---------------------------------------------------------------------------------
     //!                                    Playing  
     //!---------------------------------------------------------------------------------
@@ -444,52 +507,65 @@ public class Player extends Thread {
     /**
      * This Method is the actual game-management,
      * The turns are being handed and the active-player is allowed to shoot.
+     * While it is not its turn, the player is parked by the match and woken up when the other player has played.
      * 
-     * Be aware -> this is method starts an infinite loop that can only be stopped if one of the players wins!
-     * 
-     * //-> check if a player disconnects => will not be implemented 
+     * The loop stops when the match has ended: one of the players has won or a client has left.
      */
-    protected void play(){
+    protected void play() throws InterruptedException {
         while(true){
-            if(isMyTurn){
-                otherPlayer().sendToClient("C-It's not your turn, waiting for "+ this.userName +" to play.");
-                shoot();
-                otherPlayer().sendToClient("Rem");
-                otherPlayer().sendToClient("0");
-                otherPlayer().sendToClient("\u001B[2K");
-                otherPlayer().sendToClient("\u001B8");
-                checkForWin();
-                this.isMyTurn = false;
-                otherPlayer().isMyTurn = true;
+            match.awaitTurn(myKey);
+            if(match.isOver()){
+                return;
             }
-            else{
-                sleep(100);
+            otherPlayer().sendToClient("C-It's not your turn, waiting for "+ this.userName +" to play.");
+            shoot();
+            otherPlayer().sendPairToClient("Rem", "0");
+            otherPlayer().sendToClient("\u001B[2K");
+            otherPlayer().sendToClient("\u001B8");
+            checkForWin();
+            if(match.isOver()){
+                return;
             }
+            flushTurn();                    //One write per player for the whole turn
+            match.passTurn(myKey);
         }
     }
 
     /**
-     * Method that is called on the start command from the server, 
+     * Method that is executed on the session thread started by the server, 
      * this method launches the game in four phases:
      * 
      *  1) Initialization of the UI 
      *  2) Initialization -> let the client place his units on the grid
-     *  3) Waits until both clients are ready to battle 
+     *  3) Waits until both clients of the match are ready to battle 
      *  4) Start the actual game between the two clients
      *  
+     * The method returns (and the thread is released) once the match has ended.
      */
     @Override
     public void run()  { 
-        getClientInfo();
-        sendToClient("displayGrid");
-        placeUnits();
-        sendToClient("C-Waiting for other player\n");
-        while(!Server.allPlayerConnected){
-            sleep(100);
-        };
-        sendToClient("Rem");sendToClient("1");
-        sleep(200);
-        play();
+        try{
+            getClientInfo();
+            sendToClient("displayGrid");
+            placeUnits();
+            sendToClient("C-Waiting for other player\n");
+            flushToClient();
+            match.awaitStart();
+            if(match.isOver()){
+                return;
+            }
+            sendPairToClient("Rem", "1");
+            flushToClient();
+            play();
+        }
+        catch(MatchEndedException e){
+            //The match has ended while talking to the client, nothing else to do
+        }
+        catch(InterruptedException e){
+            System.out.println(e);
+            System.out.println(RED_FG+ "Thread Error, game closed!" + RESET_COLOR);
+            match.end();
+        }
     }
 
 
@@ -18,17 +18,13 @@ public class PlayerModel extends Observable{
     }
 
     /**
-     * Method that will call the setChanged() method from the Observable class when called
+     * Method that publishes a change of a grid cell to all the views (observers) of the model.
+     * 
+     * @param change {CellChange} - the change that occurred
      */
-    protected void Changed(){
+    protected void publish(CellChange change){
         setChanged();
-    }
-
-    /**
-     * Method that will call the notifyObservers() method from the Observable class when called
-     */
-    protected void toNotify(){
-        notifyObservers();
+        notifyObservers(change);
     }
 
 }
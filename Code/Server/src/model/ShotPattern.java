@@ -0,0 +1,89 @@
+package model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class gives the cells hit by each shot type around the cell aimed by the player:
+ * 
+ *  -> S (single shot): the cell itself
+ *  -> A (airstrike): a line of 7 cells centered on the cell, horizontal ("H") or vertical (any other direction)
+ *  -> B (big shot): a square of 3x3 cells centered on the cell
+ *  -> R (rocket strike): random cells, not aimed (see rocketCell())
+ * 
+ * The cells that are outside of the grid are left out (it doesn't matter, the shot is simply smaller).
+ */
+public final class ShotPattern {
+
+    public static final int NUMBER_OF_ROCKETS = 5;              //number of rockets to shoot on a rocket strike
+    private static final int ROCKET_RANGE = CoordCodec.ROWS - 1;  //the rockets never reach the last row and column
+
+    //Cells hit by each aimed shot, per aimed cell (computed once, shared by every game)
+    private static final int[][] SINGLE = new int[CoordCodec.CELLS][];
+    private static final int[][] HORIZONTAL = new int[CoordCodec.CELLS][];
+    private static final int[][] VERTICAL = new int[CoordCodec.CELLS][];
+    private static final int[][] SQUARE = new int[CoordCodec.CELLS][];
+
+    static {
+        for (int cell = 0; cell < CoordCodec.CELLS; cell++) {
+            SINGLE[cell] = new int[] { cell };
+            HORIZONTAL[cell] = rectangle(cell, 0, 3);
+            VERTICAL[cell] = rectangle(cell, 3, 0);
+            SQUARE[cell] = rectangle(cell, 1, 1);
+        }
+    }
+
+    private ShotPattern() {
+    }
+
+    /**
+     * Method that returns the cells hit by an aimed shot.
+     * 
+     * @param shotType {String} - the shot type, "S", "A" or "B"
+     * @param center {int} - the index of the aimed cell
+     * @param direction {String} - the direction of an airstrike, "H" for horizontal (ignored for the other types)
+     * @return {int[]} - the indexes of the cells hit, in the order in which they are hit (shared, must not be modified)
+     */
+    public static int[] cells(String shotType, int center, String direction) {
+        switch (shotType) {
+            case Fleet.AIRSTRIKE:
+                return direction.equals("H") ? HORIZONTAL[center] : VERTICAL[center];
+            case Fleet.BIG_SHOT:
+                return SQUARE[center];
+            default:
+                return SINGLE[center];
+        }
+    }
+
+    /**
+     * Method that returns the cell hit by one rocket of a rocket strike.
+     * 
+     * @param random {RandomGenerator} - the generator used to aim the rocket
+     * @return {int} - the index of the cell hit
+     */
+    public static int rocketCell(RandomGenerator random) {
+        return CoordCodec.index(random.nextInt(ROCKET_RANGE), random.nextInt(ROCKET_RANGE));
+    }
+
+    /**
+     * Method that returns the cells of the grid in a rectangle around a cell.
+     * 
+     * @param center {int} - the index of the center of the rectangle
+     * @param rowRadius {int} - the number of rows above and below the center
+     * @param colRadius {int} - the number of columns on the left and on the right of the center
+     */
+    private static int[] rectangle(int center, int rowRadius, int colRadius) {
+        int[] cells = new int[(2 * rowRadius + 1) * (2 * colRadius + 1)];
+        int k = 0;
+        for (int i = -rowRadius; i <= rowRadius; i++) {
+            for (int j = -colRadius; j <= colRadius; j++) {
+                int target = CoordCodec.index(CoordCodec.row(center) + i, CoordCodec.col(center) + j);
+                if (target >= 0) {
+                    cells[k++] = target;
+                }
+            }
+        }
+        return k == cells.length ? cells : Arrays.copyOf(cells, k);
+    }
+
+}
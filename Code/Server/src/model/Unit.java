@@ -1,9 +1,10 @@
 package model;
 
-import java.util.HashMap;
-
 /**
  * This class describes a unit and all its attributes and methods.
+ * 
+ * The cells on which the unit is placed and the cells of the unit that have been hit 
+ * are kept as two bitboards, the unit is destroyed when every one of its cells is hit.
  */
 public class Unit {
 
@@ -13,7 +14,8 @@ public class Unit {
     private int counterBonus;
     private boolean stateBonus;                                         
     private int counterBonusMax;
-    protected HashMap<String, Boolean> coordState;
+    private final BitBoard cells;
+    private final BitBoard hits;
 
     /**
      * Constructor
@@ -30,18 +32,23 @@ public class Unit {
         this.counterBonus = counterBonus+1;
         this.counterBonusMax = counterBonus;
         this.stateBonus = true;
-        this.coordState = new HashMap<String, Boolean>();
+        this.cells = new BitBoard(CoordCodec.CELLS);
+        this.hits = new BitBoard(CoordCodec.CELLS);
     }
 
     /**
-     * Method that populates the unit's HashMap and sets all the values tu true.
+     * Method that adds the given cells to the unit, none of them is hit.
      * This means that each cell of the unit is not hit.
      * 
      * @param coords {String[]} - Array of all the coordinates on which the unit is placed 
      */    
     public void initCoordState(String [] coords) {
     	for(int i= 0; i < coords.length; i++){
-            coordState.put(coords[i],true);
+            int cell = CoordCodec.index(coords[i]);
+            if (cell >= 0) {
+                cells.set(cell);
+                hits.clear(cell);
+            }
         }
     }
 
@@ -82,7 +89,31 @@ public class Unit {
      * @return {boolean} - The state of the cell
      */
     public boolean getCoordState(String key) {
-    	return coordState.get(key);
+        int cell = CoordCodec.index(key);
+    	return cell >= 0 && cells.get(cell) && !hits.get(cell);
+    }
+
+    /**
+     * Method that returns the coordinates of all the cells on which the unit is placed.
+     * 
+     * @return {String[]} - the coordinates of the cells of the unit, ex: {"B3", "B4"}
+     */
+    public String[] getCoords() {
+        String[] coords = new String[cells.cardinality()];
+        int i = 0;
+        for (int cell = cells.nextSetBit(0); cell >= 0; cell = cells.nextSetBit(cell + 1)) {
+            coords[i++] = CoordCodec.name(cell);
+        }
+        return coords;
+    }
+
+    /**
+     * Method that returns the bitboard of the cells on which the unit is placed.
+     * 
+     * @return {BitBoard} - the cells of the unit
+     */
+    public BitBoard getCells() {
+        return cells;
     }
 
     /**
@@ -122,14 +153,23 @@ public class Unit {
      * @param key {String} - the coordinate of the cell of which the state needs to be changed
      */  
     public void setCoordState(String key) {
-    	coordState.replace(key, false);
-    	for (boolean cellValue : coordState.values()) {
-    		if(cellValue){
-                isAlive = true;
-                break;
-            }
-            isAlive = false;
+        int cell = CoordCodec.index(key);
+        if (cell >= 0) {
+            setCoordState(cell);
+        }
+    }
+
+    /**
+     * Method that changes the state of the given cell of the unit, see setCoordState(String).
+     * 
+     * @param cell {int} - the index of the cell of which the state needs to be changed
+     */  
+    public void setCoordState(int cell) {
+        if (!cells.get(cell)) {
+            return;
         }
+        hits.set(cell);
+        isAlive = !hits.containsAll(cells);
     }
 
     /**
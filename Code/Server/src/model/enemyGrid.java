@@ -18,33 +18,46 @@ import java.util.HashMap;
  * 1  -> shot & hit
  * 2  -> destroyed
  * -1 -> shot but no hit
+ * 
+ * Each state (except 0) is stored as a bitboard of the cells in that state.
  *  
  */
 public class enemyGrid extends Grid {
 
-    private HashMap<String, Integer> gridCells = new HashMap<String, Integer>();
+    private final BitBoard hit = new BitBoard(getNumberOfCells());
+    private final BitBoard destroyed = new BitBoard(getNumberOfCells());
+    private final BitBoard noHit = new BitBoard(getNumberOfCells());
 
     /**
-     * Constructor - populate hashmap with the grid cells 
-     * and set all cell-values to 0 -> not shot
+     * Method that sets the value of a given grid cell to a certain state. 
+     * The state is represented by an integer, see class description for more information
+     * 
+     * @param coord {String} - The coordinate of the grid cell, ex: "H4"
+     * @param shot  {int} : 0, 1, 2 or -1 representing the state of the given cell
      */
-    public enemyGrid() {
-        for (String rowName : super.getRowNames()) {
-            for (String colName : super.getColNames()) {
-                gridCells.put(rowName + colName, 0);
-            }
+    public void setGridCell(String coord, int shot) {
+        int cell = CoordCodec.index(coord);
+        if (cell >= 0) {
+            setGridCell(cell, shot);
         }
     }
 
     /**
-     * Method that sets the value of a given grid cell to a certain state. 
-     * The state is represented by an integer, see class description for more information
+     * Method that sets the value of a given grid cell to a certain state, see setGridCell(String, int).
      * 
-     * @param coord {String} - The coordinate of the grid cell, ex: "H4"
+     * @param cell {int} - The index of the grid cell, ex: 94 for "H4"
      * @param shot  {int} : 0, 1, 2 or -1 representing the state of the given cell
      */
-    public void setGridCell(String coord, int shot) {
-        gridCells.replace(coord, shot);
+    public void setGridCell(int cell, int shot) {
+        hit.clear(cell);
+        destroyed.clear(cell);
+        noHit.clear(cell);
+        switch (shot) {
+            case 1:  hit.set(cell);       break;
+            case 2:  destroyed.set(cell); break;
+            case -1: noHit.set(cell);     break;
+            default: break;
+        }
     }
 
     /**
@@ -58,16 +71,33 @@ public class enemyGrid extends Grid {
      * @return {int} - The state of the given cell
      */
     public int getGridCell(String coord) {
-        return gridCells.get(coord);
+        int cell = CoordCodec.index(coord);
+        return cell < 0 ? 0 : getGridCell(cell);
     }
 
+    /**
+     * Method that returns the state of a given grid cell, see getGridCell(String).
+     * 
+     * @param cell {int} - The index of the grid cell, ex: 94 for "H4"
+     * @return {int} - The state of the given cell
+     */
+    public int getGridCell(int cell) {
+        if (hit.get(cell))       return 1;
+        if (destroyed.get(cell)) return 2;
+        if (noHit.get(cell))     return -1;
+        return 0;
+    }
 
     /**
-     * Method that returns the whole gridCells HashMap 
-     * @return {HashMap<String, Integer>} - returns ridCells HashMap 
+     * Method that returns the whole grid as a HashMap, built on demand from the bitboards. 
+     * @return {HashMap<String, Integer>} - returns a gridCells HashMap 
      */
     public HashMap<String, Integer> getGridCells(){
-        return gridCells;
+        HashMap<String, Integer> cells = new HashMap<String, Integer>();
+        for (int cell = 0; cell < getNumberOfCells(); cell++) {
+            cells.put(CoordCodec.name(cell), getGridCell(cell));
+        }
+        return cells;
     }
 
-}
\ No newline at end of file
+}
@@ -14,32 +14,44 @@ import java.util.HashMap;
  * B3 B4 B5 B6
  * C3 C4 C5 C6 
  * Each of these cells will contain the Airport unit (and therefor its properties). 
+ * 
+ * The cells are stored by index (see CoordCodec) in an array of units, 
+ * the occupied cells and the cells shot by the opponent are also kept as bitboards
+ * so that "is this cell occupied?" and "are all units destroyed?" are a few bitwise operations.
  *  
  */
 public class myGrid extends Grid {
 
-    private HashMap<String, Unit> gridCells = new HashMap<String, Unit>();
+    private final Unit[] gridCells = new Unit[getNumberOfCells()];
+    private final BitBoard occupied = new BitBoard(getNumberOfCells());
+    private final BitBoard shot = new BitBoard(getNumberOfCells());
 
     /**
-     * Constructor - populate hashmap with each grid cell as key and 
-     * null for every value (no units are placed on the grid).
+     * Method that sets the value of a given grid cell to a specified Unit 
+     * 
+     * @param coord {String} - The coordinate of the grid cell, ex: "H4"
+     * @param unit  {Unit} - The unit that is placed on that cell
      */
-    public myGrid() {
-        for (String rowName : super.getRowNames()) {
-            for (String colName : super.getColNames()) {
-                gridCells.put(rowName + colName, null);
-            }
+    public void setGridCell(String coord, Unit unit) {
+        int cell = CoordCodec.index(coord);
+        if (cell >= 0) {
+            setGridCell(cell, unit);
         }
     }
 
     /**
      * Method that sets the value of a given grid cell to a specified Unit 
      * 
-     * @param coord {String} - The coordinate of the grid cell, ex: "H4"
+     * @param cell {int} - The index of the grid cell, ex: 94 for "H4"
      * @param unit  {Unit} - The unit that is placed on that cell
      */
-    public void setGridCell(String coord, Unit unit) {
-        gridCells.replace(coord, unit);
+    public void setGridCell(int cell, Unit unit) {
+        gridCells[cell] = unit;
+        if (unit != null) {
+            occupied.set(cell);
+        } else {
+            occupied.clear(cell);
+        }
     }
 
     /**
@@ -50,15 +62,71 @@ public class myGrid extends Grid {
      * @return {Unit} - The unit that is positioned in that cell
      */
     public Unit getGridCell(String coord) {
-        return gridCells.get(coord);
+        int cell = CoordCodec.index(coord);
+        return cell < 0 ? null : gridCells[cell];
+    }
+
+    /**
+     * Method that returns the unit that is placed in a grid cell,
+     * returns null if no unit is present. 
+     * 
+     * @param cell {int} - The index of the grid cell, ex: 94 for "H4"
+     * @return {Unit} - The unit that is positioned in that cell
+     */
+    public Unit getGridCell(int cell) {
+        return gridCells[cell];
+    }
+
+    /**
+     * Method that records a shot of the opponent on a grid cell.
+     * 
+     * @param coord {String} - The coordinate of the grid cell, ex: "H4"
+     */
+    public void setShot(String coord) {
+        int cell = CoordCodec.index(coord);
+        if (cell >= 0) {
+            setShot(cell);
+        }
+    }
+
+    /**
+     * Method that records a shot of the opponent on a grid cell.
+     * 
+     * @param cell {int} - The index of the grid cell, ex: 94 for "H4"
+     */
+    public void setShot(int cell) {
+        shot.set(cell);
+    }
+
+    /**
+     * Method that checks if every cell on which a unit is placed has been shot,
+     * in other words if every unit of the grid is destroyed.
+     * 
+     * @return {boolean} - true if all the units are destroyed (and at least one unit was placed)
+     */
+    public boolean allUnitsDestroyed() {
+        return !occupied.isEmpty() && shot.containsAll(occupied);
+    }
+
+    /**
+     * Method that returns the bitboard of the cells on which a unit is placed.
+     * 
+     * @return {BitBoard} - the occupied cells
+     */
+    public BitBoard getOccupied() {
+        return occupied;
     }
 
     /**
-     * Method that returns the whole gridCells HashMap 
-     * @return {HashMap<String, Integer>} - returns ridCells HashMap 
+     * Method that returns the whole grid as a HashMap, built on demand from the cells. 
+     * @return {HashMap<String, Unit>} - returns a gridCells HashMap 
      */
     public HashMap<String, Unit> getGridCells(){
-        return gridCells;
+        HashMap<String, Unit> cells = new HashMap<String, Unit>();
+        for (int cell = 0; cell < gridCells.length; cell++) {
+            cells.put(CoordCodec.name(cell), gridCells[cell]);
+        }
+        return cells;
     }
 
 }
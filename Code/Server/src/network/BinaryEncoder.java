@@ -0,0 +1,169 @@
+package network;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import model.CoordCodec;
+
+/**
+ * This class translates the queries of the server into the frames of the binary protocol (see Protocol).
+ * 
+ * The historical queries made of two strings (ex: "Hit" and "H4") are merged into a single frame,
+ * they are only accepted at once by encodePair() (see Connection.sendPair()): the encoder keeps no state.
+ * A query that can not be encoded is a protocol error (IOException), never a crash of the session.
+ */
+public class BinaryEncoder implements MessageEncoder {
+
+    @Override
+    public void encode(String str, DataOutputStream out) throws IOException {
+        if(pairOpcode(str) != -1){
+            throw new IOException("Protocol error: " + str + " must be sent with its argument (see Connection.sendPair())");
+        }
+
+        switch(str){
+            case "displayGrid": writeFrame(out, Protocol.OP_DISPLAY_GRID, 0);   return;
+            case "WON":         writeFrame(out, Protocol.OP_WON, 0);            return;
+            case "LOST":        writeFrame(out, Protocol.OP_LOST, 0);           return;
+            case "CLOSE":       writeFrame(out, Protocol.OP_CLOSE, 0);          return;
+            default:
+        }
+
+        String[] query = str.split("-", 4);
+        switch(query[0]){
+            case "U":   // U-<unitName>-<unitSize>-<Comment>
+                out.writeByte(Protocol.OP_PLACE_UNIT);
+                out.writeByte(Protocol.unitId(query[1]));
+                out.writeByte(Integer.parseInt(query[2]));
+                out.writeUTF(comment(query[3]));
+                return;
+
+            case "S":   // S-<commandType>-<data>-<Comment>
+                switch(query[1]){
+                    case "T":
+                        writeFrame(out, Protocol.OP_SHOT_TYPE, Protocol.shotTypesMask(query[2]), comment(query[3]));
+                        return;
+                    case "C":
+                        writeFrame(out, Protocol.OP_SHOT_COORD, 0, comment(query[3]));
+                        return;
+                    case "D":
+                        writeFrame(out, Protocol.OP_SHOT_DIRECTION, 0, comment(query[3]));
+                        return;
+                    default:
+                }
+                break;
+
+            case "I":
+                writeFrame(out, Protocol.OP_INPUT, 0, str.substring(2));
+                return;
+
+            case "C":
+                writeFrame(out, Protocol.OP_COMMENT, 0, str.substring(2));
+                return;
+
+            default:
+        }
+        writeFrame(out, Protocol.OP_TEXT, 0, str);
+    }
+
+    @Override
+    public void encodePair(String type, String arg, DataOutputStream out) throws IOException {
+        int opcode = pairOpcode(type);
+        if(opcode == -1){
+            throw new IOException("Protocol error: " + type + " is not the first string of a pair");
+        }
+        writePair(out, opcode, arg);
+    }
+
+    /**
+     * Method that returns the opcode of a query sent as a pair of strings.
+     * 
+     * @param type {String} - the first string of the pair, ex: "Hit"
+     * @return {int} - the opcode, -1 if the string does not start a pair
+     */
+    private static int pairOpcode(String type){
+        switch(type){
+            case "insertUnit":  return Protocol.OP_INSERT_UNIT;
+            case "Hit":         return Protocol.OP_HIT;
+            case "noHit":       return Protocol.OP_NO_HIT;
+            case "Destroyed":   return Protocol.OP_DESTROYED;
+            case "myHit":       return Protocol.OP_MY_HIT;
+            case "myNoHit":     return Protocol.OP_MY_NO_HIT;
+            case "myDestroyed": return Protocol.OP_MY_DESTROYED;
+            case "Rem":         return Protocol.OP_REMOVE_LINES;
+            case "Wait":        return Protocol.OP_WAIT;
+            default:            return -1;
+        }
+    }
+
+    /**
+     * Method that writes the frame of a pair, the argument is checked before anything is written.
+     * 
+     * @throws IOException if the argument can not be read for this opcode (protocol error)
+     */
+    private void writePair(DataOutputStream out, int opcode, String arg) throws IOException {
+        int value;
+        int value2 = -1;
+        try{
+            if(opcode == Protocol.OP_INSERT_UNIT){
+                String[] data = arg.split("/");
+                value = cellIndex(data[0]);
+                value2 = Protocol.unitId(data[1]);
+            }
+            else if(opcode == Protocol.OP_REMOVE_LINES){
+                value = Integer.parseInt(arg);
+            }
+            else if(opcode == Protocol.OP_WAIT){
+                value = Math.min(Integer.parseInt(arg) / 10, 255);
+            }
+            else{
+                value = cellIndex(arg);
+            }
+        }
+        catch(NumberFormatException | ArrayIndexOutOfBoundsException e){
+            value = -1;
+        }
+        if(value < 0 || value > 255 || (opcode == Protocol.OP_INSERT_UNIT && value2 < 0)){
+            throw new IOException("Protocol error: invalid argument \"" + arg + "\" for opcode " + opcode);
+        }
+        out.writeByte(opcode);
+        out.writeByte(value);
+        if(opcode == Protocol.OP_INSERT_UNIT){
+            out.writeByte(value2);
+        }
+    }
+
+    /**
+     * Method that writes a frame without payload.
+     */
+    private void writeFrame(DataOutputStream out, int opcode, int arg) throws IOException {
+        out.writeByte(opcode);
+        out.writeByte(arg);
+    }
+
+    /**
+     * Method that writes a frame with a payload.
+     */
+    private void writeFrame(DataOutputStream out, int opcode, int arg, String payload) throws IOException {
+        out.writeByte(opcode);
+        out.writeByte(arg);
+        out.writeUTF(payload);
+    }
+
+    /**
+     * Method that converts the "no comment" marker of the text protocol into an empty comment.
+     */
+    private String comment(String comment){
+        return comment.equals("NC") ? "" : comment;
+    }
+
+    /**
+     * Method that converts a cell coordinate into its index on the wire.
+     * 
+     * @param coord {String} - cell coordinate, ex: "H4"
+     * @return {int} - the index of the cell, ex: 94
+     */
+    private int cellIndex(String coord){
+        return CoordCodec.index(coord);
+    }
+
+}
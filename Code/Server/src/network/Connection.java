@@ -0,0 +1,66 @@
+package network;
+
+import java.io.IOException;
+
+/**
+ * This interface describes the link between the server and one client.
+ * 
+ * Whatever the transport used underneath (blocking socket streams or non-blocking channels),
+ * the Player class only needs to be able to send a message to its client and to wait for the next message from it.
+ */
+public interface Connection {
+
+    /**
+     * Method that adds a message to the batch of messages waiting to be sent to the client.
+     * The batch is only actually written on the connection by flush() (or before waiting for a message with receive()).
+     * 
+     * @param str {String} - the message to send
+     * @throws IOException if the connection is broken
+     */
+    void send(String str) throws IOException;
+
+    /**
+     * Method that adds a query made of two strings (ex: "Hit" and "H4") to the batch, both at once:
+     * the pair can not be interleaved with the messages sent by another thread on the same connection.
+     * 
+     * @param type {String} - the first string of the query, ex: "Hit", "Rem" or "Wait"
+     * @param arg {String} - its argument, ex: "H4"
+     * @throws IOException if the connection is broken or the query can not be encoded
+     */
+    void sendPair(String type, String arg) throws IOException;
+
+    /**
+     * Method that writes all the messages waiting to be sent to the client at once.
+     * 
+     * @throws IOException if the connection is broken
+     */
+    void flush() throws IOException;
+
+    /**
+     * Method that flushes the messages waiting to be sent, then waits for the next message from the client and returns it.
+     * 
+     * @return {String} - the message received from the client
+     * @throws IOException if the connection is broken
+     */
+    String receive() throws IOException;
+
+    /**
+     * Method that changes the way the queries are encoded for the client (text or binary protocol).
+     * 
+     * @param encoder {MessageEncoder} - the encoder to use for the next messages
+     */
+    void setEncoder(MessageEncoder encoder);
+
+    /**
+     * Method that closes the connection with the client.
+     */
+    void close();
+
+    /**
+     * Method that returns the local address on which the client is connected.
+     * 
+     * @return {String} - the address, ex: "192.168.1.10"
+     */
+    String getLocalAddress();
+
+}
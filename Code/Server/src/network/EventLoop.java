@@ -0,0 +1,206 @@
+package network;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is one of the few threads of the NioTransport.
+ * 
+ * It watches all the channels registered on its Selector and, whenever one of them is ready,
+ * reads or writes the pending bytes for the corresponding NioConnection.
+ * 
+ * Other threads never touch the Selector directly: they queue a task and wake the loop up.
+ * 
+ * The connections closed while they still have messages to write are drained: they are closed once everything 
+ * is written, or when the drain timeout is over (a client that stopped reading would otherwise keep them forever).
+ */
+class EventLoop extends Thread {
+
+    private Selector selector;
+    private ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final long drainTimeoutNanos;
+    private ArrayDeque<NioConnection> draining = new ArrayDeque<>();   //in the order of their deadlines (same timeout)
+
+    /**
+     * Constructor
+     * 
+     * @param name {String} - the name of the thread
+     * @param drainTimeout {long} - the time a closed connection has to write its last messages, in milliseconds
+     * @throws IOException if the selector can not be opened
+     */
+    EventLoop(String name, long drainTimeout) throws IOException {
+        super(name);
+        setDaemon(true);
+        selector = Selector.open();
+        drainTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(drainTimeout);
+    }
+
+    /**
+     * Method that registers a new connection on this loop, its channel will be watched for incoming bytes.
+     * 
+     * @param connection {NioConnection} - the connection to register
+     */
+    void register(NioConnection connection){
+        execute(() -> {
+            try{
+                connection.getChannel().register(selector, SelectionKey.OP_READ, connection);
+            }
+            catch(ClosedChannelException e){
+                connection.onClosed();
+            }
+        });
+    }
+
+    /**
+     * Method that asks the loop to write the queued messages of the given connection.
+     * 
+     * @param connection {NioConnection} - the connection that has messages to write
+     */
+    void requestWrite(NioConnection connection){
+        execute(() -> {
+            SelectionKey key = connection.getChannel().keyFor(selector);
+            if(key != null && key.isValid()){
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        });
+    }
+
+    /**
+     * Method that asks the loop to close the given connection.
+     * 
+     * @param connection {NioConnection} - the connection to close
+     */
+    void requestClose(NioConnection connection){
+        execute(() -> close(connection));
+    }
+
+    /**
+     * Method that asks the loop to close the given connection once its queued messages are written,
+     * or when the drain timeout is over.
+     * 
+     * @param connection {NioConnection} - the closed connection that still has messages to write
+     */
+    void requestDrain(NioConnection connection){
+        execute(() -> {
+            connection.setDrainDeadline(System.nanoTime() + drainTimeoutNanos);
+            draining.add(connection);
+        });
+    }
+
+    /**
+     * Method that queues a task that has to be executed by the loop itself and wakes the loop up.
+     * 
+     * @param task {Runnable} - the task to execute
+     */
+    private void execute(Runnable task){
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Method that cancels the key of the given connection and closes it.
+     * 
+     * @param connection {NioConnection} - the connection to close
+     */
+    private void close(NioConnection connection){
+        if(!connection.getChannel().isOpen()){
+            return;
+        }
+        SelectionKey key = connection.getChannel().keyFor(selector);
+        if(key != null){
+            key.cancel();
+        }
+        connection.onClosed();
+    }
+
+    /**
+     * The actual event loop: waits for ready channels, handles them, and executes the queued tasks.
+     */
+    @Override
+    public void run(){
+        while(selector.isOpen()){
+            try{
+                selector.select(millisToNextDeadline());
+            }
+            catch(IOException | ClosedSelectorException e){
+                return;     //The transport has been shut down
+            }
+
+            Runnable task;
+            while((task = tasks.poll()) != null){
+                task.run();
+            }
+
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while(keys.hasNext()){
+                SelectionKey key = keys.next();
+                keys.remove();
+                NioConnection connection = (NioConnection) key.attachment();
+                try{
+                    if(key.isReadable()){
+                        connection.onReadable();
+                    }
+                    if(key.isValid() && key.isWritable() && connection.onWritable()){
+                        if(connection.isClosed()){
+                            close(connection);                      //Closed by the Player, its last messages are written
+                        }
+                        else{
+                            key.interestOps(SelectionKey.OP_READ);  //Everything is written, stop watching for writability
+                        }
+                    }
+                }
+                catch(IOException | CancelledKeyException e){
+                    close(connection);
+                }
+            }
+            closeExpiredDrains();
+        }
+    }
+
+    /**
+     * Method that returns the time until the deadline of the first draining connection.
+     * 
+     * @return {long} - the time in milliseconds (at least 1), 0 if no connection is draining (select() waits forever)
+     */
+    private long millisToNextDeadline(){
+        NioConnection first = draining.peek();
+        if(first == null){
+            return 0;
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(first.getDrainDeadline() - System.nanoTime()) + 1);
+    }
+
+    /**
+     * Method that forgets the draining connections that are closed and closes the ones whose deadline is over,
+     * their messages that are not written yet are lost.
+     */
+    private void closeExpiredDrains(){
+        long now = System.nanoTime();
+        NioConnection first;
+        while((first = draining.peek()) != null && (!first.getChannel().isOpen() || first.getDrainDeadline() - now <= 0)){
+            draining.poll();
+            close(first);
+        }
+    }
+
+    /**
+     * Method that stops the loop and closes its selector.
+     */
+    void shutdown(){
+        try{
+            selector.close();
+        }
+        catch(IOException e){
+            //Nothing else to do
+        }
+    }
+
+}
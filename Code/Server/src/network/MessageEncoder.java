@@ -0,0 +1,36 @@
+package network;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This interface describes how a query of the server is written on the output of a connection.
+ * 
+ * The queries are always given in the historical text format (ex: "U-Tank (1x2)-2-NC", "Hit" + "H4"),
+ * the encoder decides how they are actually sent to the client.
+ */
+public interface MessageEncoder {
+
+    /**
+     * Method that writes a query of the server on the given output.
+     * 
+     * @param str {String} - the query, in the historical text format
+     * @param out {DataOutputStream} - the output on which the query is written
+     * @throws IOException if the output is broken
+     */
+    void encode(String str, DataOutputStream out) throws IOException;
+
+    /**
+     * Method that writes a query made of two strings (ex: "Hit" and "H4") on the given output, in a single call.
+     * 
+     * @param type {String} - the first string of the query, ex: "Hit"
+     * @param arg {String} - its argument, ex: "H4"
+     * @param out {DataOutputStream} - the output on which the query is written
+     * @throws IOException if the output is broken or the query can not be encoded
+     */
+    default void encodePair(String type, String arg, DataOutputStream out) throws IOException {
+        encode(type, out);
+        encode(arg, out);
+    }
+
+}
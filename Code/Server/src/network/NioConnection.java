@@ -0,0 +1,237 @@
+package network;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * This class is the non-blocking implementation of a Connection.
+ * 
+ * The socket channel itself is only read and written by the EventLoop it is registered on:
+ * -> incoming bytes are decoded into messages (clients always use writeUTF framing: 2 bytes length + modified UTF-8)
+ *    and stored in an inbox until the Player asks for them with receive()
+ * -> outgoing messages are encoded into a batch that the caller writes at once on flush(), 
+ *    if the channel can not take it right away it is queued until the EventLoop can write it
+ * 
+ * This way no thread is ever blocked reading a socket, the Player only waits on its inbox when it expects an answer.
+ * The server runs the NIO sessions on virtual threads (see Server --nio): waiting on the inbox parks the session
+ * and releases its carrier thread, so thousands of idle players only cost a few carrier and event-loop threads.
+ * Virtual threads need Java 21: on an older JVM every session is still a platform thread waiting on its inbox,
+ * only the socket reads are shared by the event loops.
+ */
+public class NioConnection implements Connection {
+
+    private static final int MAX_FRAME_SIZE = 2 + 65535;   //writeUTF length prefix + maximum encoded length
+    private static final String CLOSED = new String("");   //sentinel put in the inbox once the channel is closed
+
+    private SocketChannel channel;
+    private EventLoop loop;
+    private ByteBuffer readBuffer = ByteBuffer.allocate(512);
+    private LinkedBlockingQueue<String> inbox = new LinkedBlockingQueue<>();
+    private ArrayDeque<ByteBuffer> outbox = new ArrayDeque<>();  //only accessed while holding the lock of this connection
+    private ByteArrayOutputStream batch = new ByteArrayOutputStream(256);
+    private DataOutputStream batchOut = new DataOutputStream(batch);
+    private MessageEncoder encoder = new TextEncoder();   //only accessed while holding the lock of this connection
+    private volatile boolean closed = false;
+    private long drainDeadline;                             //only accessed by the EventLoop, see EventLoop.requestDrain()
+
+    /**
+     * Constructor
+     * 
+     * @param channel {SocketChannel} - the non-blocking channel on which the client is connected
+     * @param loop {EventLoop} - the event loop that will handle all the I/O of this channel
+     */
+    NioConnection(SocketChannel channel, EventLoop loop){
+        this.channel = channel;
+        this.loop = loop;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                            Called by the Player
+    //!---------------------------------------------------------------------------------
+
+    @Override
+    public synchronized void send(String str) throws IOException {
+        if(closed){
+            throw new EOFException("Connection closed");
+        }
+        encoder.encode(str, batchOut);
+    }
+
+    @Override
+    public synchronized void sendPair(String type, String arg) throws IOException {
+        if(closed){
+            throw new EOFException("Connection closed");
+        }
+        encoder.encodePair(type, arg, batchOut);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if(batch.size() == 0){
+            return;
+        }
+        ByteBuffer frame = ByteBuffer.wrap(batch.toByteArray());
+        batch.reset();
+
+        //If nothing is waiting to be written, try to write the batch right away,
+        //the EventLoop only has to step in when the socket buffer of the client is full.
+        if(outbox.isEmpty()){
+            channel.write(frame);
+            if(!frame.hasRemaining()){
+                return;
+            }
+            outbox.add(frame);
+            loop.requestWrite(this);
+        }
+        else{
+            outbox.add(frame);
+        }
+    }
+
+    @Override
+    public String receive() throws IOException {
+        flush();
+        String str;
+        try{
+            str = inbox.take();
+        }
+        catch(InterruptedException e){
+            throw new IOException(e);
+        }
+        if(str == CLOSED){
+            inbox.add(CLOSED);      //Every following call must fail as well
+            throw new EOFException("Connection closed");
+        }
+        return str;
+    }
+
+    @Override
+    public synchronized void setEncoder(MessageEncoder encoder){
+        this.encoder = encoder;
+    }
+
+    /**
+     * Method that closes the connection: the messages already flushed are still written to the client 
+     * before the channel is actually closed by the EventLoop, within the drain timeout of the NioTransport.
+     */
+    @Override
+    public synchronized void close(){
+        if(!closed){
+            closed = true;
+            inbox.add(CLOSED);
+            if(outbox.isEmpty()){
+                loop.requestClose(this);
+            }
+            else{
+                loop.requestDrain(this);    //Closed once the outbox is written (see onWritable()) or at the deadline
+            }
+        }
+    }
+
+    @Override
+    public String getLocalAddress(){
+        return channel.socket().getLocalAddress().toString().replaceAll("/", "");
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                           Called by the EventLoop
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that returns the channel of this connection.
+     * 
+     * @return {SocketChannel} - the channel
+     */
+    SocketChannel getChannel(){
+        return channel;
+    }
+
+    /**
+     * Method called when the channel has bytes to read.
+     * Reads as much as possible and decodes every complete message into the inbox.
+     * 
+     * @throws IOException if the channel is broken or closed by the client
+     */
+    void onReadable() throws IOException {
+        if(channel.read(readBuffer) < 0){
+            throw new EOFException("Connection closed by the client");
+        }
+        readBuffer.flip();
+        while(readBuffer.remaining() >= 2){
+            int frameSize = 2 + (readBuffer.getShort(readBuffer.position()) & 0xFFFF);
+            if(readBuffer.remaining() < frameSize){
+                break;
+            }
+            byte[] frame = new byte[frameSize];
+            readBuffer.get(frame);
+            inbox.add(new DataInputStream(new ByteArrayInputStream(frame)).readUTF());
+        }
+        readBuffer.compact();
+
+        //The buffer is full but the message is still incomplete -> grow the buffer
+        if(!readBuffer.hasRemaining() && readBuffer.capacity() < MAX_FRAME_SIZE){
+            ByteBuffer bigger = ByteBuffer.allocate(Math.min(readBuffer.capacity() * 2, MAX_FRAME_SIZE));
+            readBuffer.flip();
+            bigger.put(readBuffer);
+            readBuffer = bigger;
+        }
+    }
+
+    /**
+     * Method called when the channel can be written.
+     * Writes as much of the queued messages as the channel accepts.
+     * 
+     * @return {boolean} - true if every queued message has been written, false if some bytes are left
+     *                     (once everything is written, a closed connection can be closed by the EventLoop, see isClosed())
+     * @throws IOException if the channel is broken
+     */
+    synchronized boolean onWritable() throws IOException {
+        ByteBuffer head;
+        while((head = outbox.peek()) != null){
+            channel.write(head);
+            if(head.hasRemaining()){
+                return false;
+            }
+            outbox.poll();
+        }
+        return true;
+    }
+
+    void setDrainDeadline(long deadline){
+        drainDeadline = deadline;
+    }
+
+    long getDrainDeadline(){
+        return drainDeadline;
+    }
+
+    /**
+     * @return {boolean} - true if the connection has been closed by the Player or by the EventLoop
+     */
+    boolean isClosed(){
+        return closed;
+    }
+
+    /**
+     * Method called by the EventLoop once the channel is closed.
+     */
+    void onClosed(){
+        closed = true;
+        inbox.add(CLOSED);
+        try{
+            channel.close();
+        }
+        catch(IOException e){
+            //The channel is already broken, nothing else to do
+        }
+    }
+
+}
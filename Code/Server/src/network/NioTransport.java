@@ -0,0 +1,111 @@
+package network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * This class is an alternative to the classic ServerSocket of the server.
+ * 
+ * Incoming connections are accepted on a ServerSocketChannel and spread over a small pool of EventLoops.
+ * Each EventLoop handles the I/O of thousands of channels with a single Selector,
+ * so a client that is idle (waiting for its opponent for example) does not hold any thread blocked on a socket read.
+ * 
+ * A connection closed by the server still writes its last messages, but only for a limited time (the drain timeout):
+ * the channel of a client that stopped reading is closed anyway once the timeout is over.
+ */
+public class NioTransport {
+
+    public static final long DEFAULT_DRAIN_TIMEOUT = 5000;     //in milliseconds
+
+    private ServerSocketChannel serverChannel;
+    private EventLoop[] loops;
+    private int nextLoop = 0;
+
+    /**
+     * Constructor - opens the server channel on the given port and starts the event loops
+     * 
+     * @param port {int} - the port on which clients can connect
+     * @param numberOfLoops {int} - the number of event loop threads
+     * @throws IOException if the port can not be opened
+     */
+    public NioTransport(int port, int numberOfLoops) throws IOException {
+        this(port, numberOfLoops, DEFAULT_DRAIN_TIMEOUT);
+    }
+
+    /**
+     * Constructor - opens the server channel on the given port and starts the event loops
+     * 
+     * @param port {int} - the port on which clients can connect (0: any free port, see getPort())
+     * @param numberOfLoops {int} - the number of event loop threads
+     * @param drainTimeout {long} - the time a closed connection has to write its last messages, in milliseconds
+     * @throws IOException if the port can not be opened
+     */
+    public NioTransport(int port, int numberOfLoops, long drainTimeout) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+
+        loops = new EventLoop[numberOfLoops];
+        for(int i = 0; i < numberOfLoops; i++){
+            loops[i] = new EventLoop("nio-loop-" + i, drainTimeout);
+            loops[i].start();
+        }
+    }
+
+    /**
+     * Method that waits for a client to connect and returns its connection.
+     * The new connection is given to the event loops in a round-robin way.
+     * 
+     * @return {Connection} - the connection of the new client
+     * @throws IOException if the server channel is broken
+     */
+    public Connection accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);     //the batches are written at once: Nagle would only delay the next one
+
+        EventLoop loop = loops[nextLoop];
+        nextLoop = (nextLoop + 1) % loops.length;
+
+        NioConnection connection = new NioConnection(channel, loop);
+        loop.register(connection);
+        return connection;
+    }
+
+    /**
+     * Method that closes the server channel and stops all the event loops.
+     */
+    public void close(){
+        try{
+            serverChannel.close();
+        }
+        catch(IOException e){
+            //Nothing else to do
+        }
+        for(EventLoop loop : loops){
+            loop.shutdown();
+        }
+    }
+
+    /**
+     * Method that returns the port on which the clients can connect.
+     * 
+     * @return {int} - the local port of the server channel
+     * @throws IOException if the server channel is closed
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Method that returns a sensible default number of event loops for this machine.
+     * 
+     * @return {int} - the number of event loops
+     */
+    public static int defaultNumberOfLoops(){
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+}
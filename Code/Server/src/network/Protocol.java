@@ -0,0 +1,101 @@
+package network;
+
+/**
+ * This class describes the binary protocol used to send the queries of the server to the clients.
+ * 
+ * The historical protocol sends dash-delimited strings with writeUTF(), ex: "U-Tank (1x2)-2-NC",
+ * or pairs of strings such as "Hit" followed by "H4" (given at once to Connection.sendPair()).
+ * The binary protocol sends each query as a single compact frame:
+ * 
+ *  | opcode (1 byte) | argument (1 byte) | [argument 2 (1 byte)] | [payload (2 bytes length + UTF-8)] |
+ * 
+ *  -> argument 2 is only present if the opcode has the ARG2 flag
+ *  -> the payload is only present if the opcode has the PAYLOAD flag
+ * 
+ * Cells are sent as their index in the grid (row * 13 + column), ex: "H4" -> 7 * 13 + 3 = 94.
+ * 
+ * The binary protocol is negotiated: a client that supports it sends HELLO and its name in a single string 
+ * ("#BG-BINARY-1 Alice"), the server always answers HELLO to accept (or TEXT to refuse) before anything else 
+ * and then switches to binary frames. A server that does not know the binary protocol takes the whole string 
+ * as the name and the client keeps its first query, the game still works in the text protocol.
+ * Clients that directly send their name keep using the historical text protocol.
+ * The messages sent by the clients to the server are not affected and still use writeUTF().
+ */
+public final class Protocol {
+
+    public static final int VERSION = 1;
+    public static final String HELLO = "#BG-BINARY-" + VERSION;
+    public static final String HELLO_PREFIX = "#BG-BINARY-";
+    public static final String TEXT = "#BG-TEXT";
+
+    //Opcode flags
+    public static final int ARG2    = 0x40;
+    public static final int PAYLOAD = 0x80;
+
+    //Queries with user interaction
+    public static final int OP_PLACE_UNIT     = 0x01 | ARG2 | PAYLOAD;  // unit id, unit size, comment
+    public static final int OP_SHOT_TYPE      = 0x02 | PAYLOAD;         // available shot types mask, comment
+    public static final int OP_SHOT_COORD     = 0x03 | PAYLOAD;         // -, comment
+    public static final int OP_SHOT_DIRECTION = 0x04 | PAYLOAD;         // -, comment
+    public static final int OP_INPUT          = 0x05 | PAYLOAD;         // -, text
+
+    //Display queries
+    public static final int OP_COMMENT        = 0x06 | PAYLOAD;         // -, text
+    public static final int OP_TEXT           = 0x07 | PAYLOAD;         // -, raw text (escape sequences, ...)
+    public static final int OP_DISPLAY_GRID   = 0x08;
+    public static final int OP_INSERT_UNIT    = 0x09 | ARG2;            // cell, unit id
+    public static final int OP_HIT            = 0x0A;                   // cell
+    public static final int OP_NO_HIT         = 0x0B;                   // cell
+    public static final int OP_DESTROYED      = 0x0C;                   // cell
+    public static final int OP_MY_HIT         = 0x0D;                   // cell
+    public static final int OP_MY_NO_HIT      = 0x0E;                   // cell
+    public static final int OP_MY_DESTROYED   = 0x0F;                   // cell
+    public static final int OP_REMOVE_LINES   = 0x10;                   // number of lines
+    public static final int OP_WON            = 0x11;
+    public static final int OP_LOST           = 0x12;
+    public static final int OP_CLOSE          = 0x13;
+    public static final int OP_WAIT           = 0x14;                   // duration in tens of milliseconds
+
+    //Unit type ids, the index in this array is the id sent on the wire
+    public static final String[] UNIT_NAMES = { 
+        "Airport (2x4)", "Radar Tower (2x3)", "HeadQuarter (2x2)", "Railway Gun (1x6)", "MMRL (2x2)", "Tank (1x2)"
+    };
+
+    //Shot types, the bit (1 << index) is set in the mask of the available shot types
+    public static final String[] SHOT_TYPES = { "S", "A", "D", "B", "R" };
+
+    private Protocol(){
+    }
+
+    /**
+     * Method that returns the id of a unit type.
+     * 
+     * @param unitName {String} - the name of the unit, ex: "Tank (1x2)"
+     * @return {int} - the id of the unit type, -1 if unknown
+     */
+    public static int unitId(String unitName){
+        for(int i = 0; i < UNIT_NAMES.length; i++){
+            if(UNIT_NAMES[i].equals(unitName)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method that converts a list of available shot types into a mask.
+     * 
+     * @param shotTypes {String} - the available shot types, ex: "S / A / R "
+     * @return {int} - the mask of the available shot types
+     */
+    public static int shotTypesMask(String shotTypes){
+        int mask = 0;
+        for(int i = 0; i < SHOT_TYPES.length; i++){
+            if(shotTypes.contains(SHOT_TYPES[i])){
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+}
@@ -0,0 +1,78 @@
+package network;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * This class is the classic blocking implementation of a Connection:
+ * every message is encoded (see MessageEncoder) on the buffered output stream of the socket 
+ * and read with readUTF() directly on its input stream.
+ */
+public class StreamConnection implements Connection {
+
+    private Socket sock;
+    private DataInputStream in;
+    private DataOutputStream out;
+    private MessageEncoder encoder = new TextEncoder();
+
+    /**
+     * Constructor
+     * 
+     * @param sock {Socket} - the socket on which the client is connected to the server
+     * @param in {DataInputStream} - the inputstream on which we can retrieve data from the client
+     * @param out {DataOutputStream} - the outputstream on which we send data to the client, 
+     *                                  should be buffered so the messages are only written on flush()
+     */
+    public StreamConnection(Socket sock, DataInputStream in, DataOutputStream out){
+        this.sock = sock;
+        this.in = in;
+        this.out = out;
+    }
+
+    @Override
+    public synchronized void send(String str) throws IOException {
+        encoder.encode(str, out);
+    }
+
+    @Override
+    public synchronized void sendPair(String type, String arg) throws IOException {
+        encoder.encodePair(type, arg, out);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public String receive() throws IOException {
+        flush();
+        return in.readUTF();
+    }
+
+    @Override
+    public synchronized void setEncoder(MessageEncoder encoder){
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void close(){
+        try{
+            sock.close();
+        }
+        catch(IOException e){
+            //The socket is already broken, nothing else to do
+        }
+    }
+
+    @Override
+    public String getLocalAddress(){
+        if(sock.getLocalAddress() == null){
+            return "";
+        }
+        return sock.getLocalAddress().toString().replaceAll("/", "");
+    }
+
+}
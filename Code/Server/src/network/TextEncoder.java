@@ -0,0 +1,16 @@
+package network;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This class writes the queries with the historical text protocol: one writeUTF() per string.
+ */
+public class TextEncoder implements MessageEncoder {
+
+    @Override
+    public void encode(String str, DataOutputStream out) throws IOException {
+        out.writeUTF(str);
+    }
+
+}
@@ -0,0 +1,360 @@
+package test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import model.CoordCodec;
+import model.GameAction;
+import model.GameEngine;
+import model.GameEvents;
+import model.Unit;
+import network.Protocol;
+
+/**
+ * This class reads the journal of a match written by MatchJournal.
+ *
+ * The records are read up to the end of the file or up to the first record that is incomplete
+ * or whose checksum is wrong (the last write before a crash), the records after it are ignored.
+ *
+ * A journal can be used to:
+ * -> replay the match: print every action and its results (see main())
+ * -> restore the match: apply the actions to a new Match with the same seed, which gives back the state of the match
+ *    at its last action; the results of each shot are checked against the recorded ones
+ *
+ * Usage: java test.JournalReader <journal file or directory>
+ */
+public class JournalReader {
+
+    private final Path path;
+    private final int matchId;
+    private final long seed;
+    private final ByteBuffer records;
+    private final int numberOfRecords;
+    private final boolean truncated;
+
+    /**
+     * Constructor - reads the whole journal.
+     *
+     * @param path {Path} - the file of the journal
+     * @throws IOException if the file can not be read or is not a journal
+     */
+    public JournalReader(Path path) throws IOException {
+        this.path = path;
+        ByteBuffer content;
+        try(FileChannel channel = FileChannel.open(path)){
+            content = ByteBuffer.allocate((int) channel.size());
+            while(content.hasRemaining() && channel.read(content) >= 0){
+            }
+        }
+        content.flip();
+        if(content.remaining() < MatchJournal.HEADER_SIZE || content.getInt() != MatchJournal.MAGIC){
+            throw new IOException(path + " is not a match journal");
+        }
+        if(content.getInt() != MatchJournal.VERSION){
+            throw new IOException(path + ": unknown journal version");
+        }
+        matchId = content.getInt();
+        seed = content.getLong();
+        content.getInt();
+
+        records = content.slice();
+        CRC32 crc = new CRC32();
+        int valid = 0;
+        while((valid + 1) * MatchJournal.RECORD_SIZE <= records.limit()){
+            int start = valid * MatchJournal.RECORD_SIZE;
+            crc.reset();
+            crc.update(records.array(), records.arrayOffset() + start, MatchJournal.RECORD_SIZE - 4);
+            if(records.getInt(start + MatchJournal.RECORD_SIZE - 4) != (int) crc.getValue()){
+                break;
+            }
+            valid++;
+        }
+        numberOfRecords = valid;
+        truncated = valid * MatchJournal.RECORD_SIZE != records.limit();
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Records
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * @return {int} - the number of valid records
+     */
+    public int size(){
+        return numberOfRecords;
+    }
+
+    /**
+     * @param i {int} - the index of the record
+     * @return {int} - the kind of the record (MatchJournal.PLACE, START, SHOOT, RESULT, END or ABANDONED)
+     */
+    public int getKind(int i){
+        return byteAt(i, 0);
+    }
+
+    /**
+     * @param i {int} - the index of the record
+     * @return {int} - the index of the player of the record
+     */
+    public int getPlayer(int i){
+        return byteAt(i, 1);
+    }
+
+    /**
+     * @param i {int} - the index of the record
+     * @return {int} - the first argument of the record (unit, shot type or result, see MatchJournal)
+     */
+    public int getArg(int i){
+        return byteAt(i, 2);
+    }
+
+    /**
+     * @param i {int} - the index of the record
+     * @return {int[]} - the cells of the record
+     */
+    public int[] getCells(int i){
+        int count = getKind(i) == MatchJournal.PLACE ? byteAt(i, 3) : 1;
+        int[] cells = new int[Math.min(count, MatchJournal.CELLS_PER_RECORD)];
+        for(int c = 0; c < cells.length; c++){
+            cells[c] = byteAt(i, 4 + c);
+        }
+        return cells;
+    }
+
+    /**
+     * Method that converts a record into the action it describes.
+     *
+     * @param i {int} - the index of the record
+     * @return {GameAction} - the action, null for a RESULT, END or ABANDONED record
+     */
+    public GameAction getAction(int i){
+        switch(getKind(i)){
+            case MatchJournal.PLACE:
+                return GameAction.place(getPlayer(i), getArg(i), getCells(i));
+            case MatchJournal.START:
+                return GameAction.start(getPlayer(i));
+            case MatchJournal.SHOOT:
+                int center = byteAt(i, 4);
+                int direction = byteAt(i, 3);
+                return GameAction.shoot(getPlayer(i), Protocol.SHOT_TYPES[getArg(i)],
+                                        center == MatchJournal.NO_CELL ? -1 : center, direction == 0 ? "" : String.valueOf((char) direction));
+            default:
+                return null;
+        }
+    }
+
+    private int byteAt(int record, int offset){
+        return records.get(record * MatchJournal.RECORD_SIZE + offset) & 0xFF;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Restoration
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that restores the match by applying every action of the journal to a new match with the same identifier and seed.
+     *
+     * @return {Match} - the match, in the state of its last recorded action
+     * @throws IOException if the results of a shot differ from the recorded ones
+     */
+    public Match restore() throws IOException {
+        Match match = new Match(matchId, seed);
+        GameEvents events = new GameEvents();
+        int i = 0;
+        while(i < numberOfRecords){
+            GameAction action = getAction(i++);
+            if(action == null){
+                continue;
+            }
+            match.restore(action, events);
+            if(events.isRejected()){
+                throw new IOException(path + ": the action of record " + (i - 1) + " is rejected by the engine");
+            }
+            for(int e = 0; e < events.size(); e++){
+                int kind = events.getKind(e);
+                if(kind == GameEvents.MISS || kind == GameEvents.HIT || kind == GameEvents.DESTROYED){
+                    if(i >= numberOfRecords){
+                        return match;       //the results of the last shot were not written before the crash
+                    }
+                    if(getKind(i) != MatchJournal.RESULT || getArg(i) != kind || byteAt(i, 4) != events.getCell(e)){
+                        throw new IOException(path + ": the replay of the match differs from the journal at record " + i);
+                    }
+                    i++;
+                }
+            }
+        }
+        return match;
+    }
+
+    /**
+     * @return {boolean} - true if the match was over (won or abandoned) when the journal was closed
+     */
+    public boolean isFinished(){
+        if(numberOfRecords == 0){
+            return false;
+        }
+        int last = getKind(numberOfRecords - 1);
+        return last == MatchJournal.END || last == MatchJournal.ABANDONED;
+    }
+
+    /**
+     * @return {boolean} - true if the end of the file is not a valid record (interrupted write)
+     */
+    public boolean isTruncated(){
+        return truncated;
+    }
+
+    public int getMatchId(){
+        return matchId;
+    }
+
+    public long getSeed(){
+        return seed;
+    }
+
+    public Path getPath(){
+        return path;
+    }
+
+    /**
+     * Method that reads every journal of a directory whose match is not over.
+     *
+     * @param directory {Path} - the directory of the journals (see JournalStore)
+     * @return {List<JournalReader>} - the journals of the matches that are not over, unreadable files are skipped
+     * @throws IOException if the directory can not be listed
+     */
+    public static List<JournalReader> unfinished(Path directory) throws IOException {
+        List<JournalReader> readers = new ArrayList<>();
+        if(!Files.isDirectory(directory)){
+            return readers;
+        }
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + JournalStore.EXTENSION)){
+            for(Path file : files){
+                try{
+                    JournalReader reader = new JournalReader(file);
+                    if(!reader.isFinished()){
+                        readers.add(reader);
+                    }
+                }
+                catch(IOException e){
+                    System.out.println(Server.RED_FG + e.getMessage() + Server.RESET_COLOR);
+                }
+            }
+        }
+        return readers;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Replay
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that describes the state of a restored match in a single line.
+     *
+     * @param match {Match} - the restored match
+     * @return {String} - ex: "playing, turn of P2, units left: P1 6 / P2 4"
+     */
+    public static String describe(Match match){
+        GameEngine engine = match.getEngine();
+        String state;
+        switch(engine.getPhase()){
+            case GameEngine.PLACEMENT:  state = "placing units"; break;
+            case GameEngine.PLAYING:    state = "playing, turn of P" + (engine.getTurn() + 1); break;
+            default:                    state = "over, P" + (engine.getWinner() + 1) + " won";
+        }
+        return state + ", units left: P1 " + unitsLeft(engine, 0) + " / P2 " + unitsLeft(engine, 1);
+    }
+
+    private static int unitsLeft(GameEngine engine, int player){
+        int alive = 0;
+        for(Unit unit : engine.getFleet(player).getUnits()){
+            if(unit.getIsAlive()){
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * Method that prints every record of the journal, in the order in which they were written.
+     */
+    public void print(){
+        System.out.println("Match " + matchId + " (seed " + seed + "), " + numberOfRecords + " records" + (truncated ? ", truncated" : ""));
+        for(int i = 0; i < numberOfRecords; i++){
+            String player = "P" + (getPlayer(i) + 1);
+            switch(getKind(i)){
+                case MatchJournal.PLACE:
+                    String cells = "";
+                    for(int cell : getCells(i)){
+                        cells += CoordCodec.name(cell) + " ";
+                    }
+                    System.out.println(player + " places unit " + getArg(i) + " on " + cells.trim());
+                    break;
+                case MatchJournal.START:
+                    System.out.println("Game started, " + player + " has the first turn");
+                    break;
+                case MatchJournal.SHOOT:
+                    GameAction shot = getAction(i);
+                    System.out.println(player + " shoots " + shot.getShotType()
+                                       + (shot.getCenter() >= 0 ? " on " + CoordCodec.name(shot.getCenter()) : "")
+                                       + (shot.getDirection().isEmpty() ? "" : " " + shot.getDirection()));
+                    break;
+                case MatchJournal.RESULT:
+                    String result = getArg(i) == GameEvents.MISS ? "miss" : getArg(i) == GameEvents.HIT ? "hit" : "destroyed";
+                    System.out.println("    " + CoordCodec.name(byteAt(i, 4)) + " " + result);
+                    break;
+                case MatchJournal.END:
+                    System.out.println(player + " won");
+                    break;
+                case MatchJournal.ABANDONED:
+                    System.out.println("Match abandoned, no winner");
+                    break;
+                default:
+            }
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                    Main
+    //!---------------------------------------------------------------------------------
+    /**
+     * Prints a journal and the state of its restored match, or every journal of a directory.
+     *
+     * @param args {String[]} - the journal file or the directory of the journals
+     */
+    public static void main(String[] args){
+        if(args.length < 1){
+            System.out.println("Usage: java test.JournalReader <journal file or directory>");
+            return;
+        }
+        try{
+            Path path = Paths.get(args[0]);
+            List<Path> files = new ArrayList<>();
+            if(Files.isDirectory(path)){
+                try(DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*" + JournalStore.EXTENSION)){
+                    stream.forEach(files::add);
+                }
+            }
+            else{
+                files.add(path);
+            }
+            for(Path file : files){
+                JournalReader reader = new JournalReader(file);
+                reader.print();
+                System.out.println("Restored: " + describe(reader.restore()) + "\n");
+            }
+        }
+        catch(IOException e){
+            System.out.println(Server.RED_FG + e.getMessage() + Server.RESET_COLOR);
+        }
+    }
+
+}
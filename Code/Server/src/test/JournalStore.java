@@ -0,0 +1,124 @@
+package test;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class keeps the journals of the matches of the server in a directory (see MatchJournal).
+ *
+ * Each match gets its own file, named after the start of the run (in hexadecimal milliseconds), 
+ * its identifier and its seed (ex: "match-18f2a3b4c5d-3-00c0ffee00c0ffee.bgj").
+ * With --seed, match N gets the same seed on every run: the run in the name and the creation of the file with CREATE_NEW
+ * make sure that the journals of a previous run (the unfinished ones are restored at startup) are never overwritten.
+ *
+ * With the GROUP policy, a single daemon thread forces every journal that has new records to the disk
+ * every GROUP_INTERVAL milliseconds: the cost of a fsync is shared by all the actions (of all the matches)
+ * played during that interval, instead of being paid by every action.
+ * The open journals are also forced when the server exits.
+ */
+public class JournalStore {
+
+    public static final long GROUP_INTERVAL = 50;      //milliseconds between two group commits
+    public static final String EXTENSION = ".bgj";
+
+    private final Path directory;
+    private final MatchJournal.Sync sync;
+    private final String run = Long.toHexString(System.currentTimeMillis());
+    private final Set<MatchJournal> journals = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService groupCommit = null;
+
+    /**
+     * Constructor - creates the directory if needed.
+     *
+     * @param directory {Path} - the directory of the journals
+     * @param sync {MatchJournal.Sync} - when the records are forced to the disk
+     * @throws IOException if the directory can not be created
+     */
+    public JournalStore(Path directory, MatchJournal.Sync sync) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.sync = sync;
+        if(sync == MatchJournal.Sync.GROUP){
+            groupCommit = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "journal-group-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            groupCommit.scheduleWithFixedDelay(this::syncAll, GROUP_INTERVAL, GROUP_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeAll));
+    }
+
+    /**
+     * Method that creates the journal of a match, in a new file.
+     * If the file already exists (two runs started in the same millisecond), a counter is added to its name.
+     *
+     * @param match {Match} - the match
+     * @return {MatchJournal} - the journal of the match
+     * @throws IOException if the journal can not be created
+     */
+    public MatchJournal open(Match match) throws IOException {
+        String name = String.format("match-%s-%d-%016x", run, match.getId(), match.getSeed());
+        for(int attempt = 1; ; attempt++){
+            try{
+                MatchJournal journal = new MatchJournal(directory.resolve(name + (attempt == 1 ? "" : "-" + attempt) + EXTENSION), match, sync, this);
+                journals.add(journal);
+                return journal;
+            }
+            catch(FileAlreadyExistsException e){
+                //Try the next name
+            }
+        }
+    }
+
+    /**
+     * Method called by a journal when it is closed.
+     *
+     * @param journal {MatchJournal} - the closed journal
+     */
+    void remove(MatchJournal journal){
+        journals.remove(journal);
+    }
+
+    /**
+     * Method that forces every journal that has new records to the disk (one group commit).
+     */
+    private void syncAll(){
+        for(MatchJournal journal : journals){
+            try{
+                journal.sync();
+            }
+            catch(IOException e){
+                System.out.println(Server.RED_FG + "Unable to write the journal " + journal.getPath() + ": " + e.getMessage() + Server.RESET_COLOR);
+            }
+        }
+    }
+
+    /**
+     * Method that forces and closes every open journal, the matches that are not over can be restored later.
+     */
+    private void closeAll(){
+        for(MatchJournal journal : journals){
+            try{
+                journal.close();
+            }
+            catch(IOException e){
+                System.out.println(Server.RED_FG + "Unable to close the journal " + journal.getPath() + ": " + e.getMessage() + Server.RESET_COLOR);
+            }
+        }
+    }
+
+    /**
+     * @return {Path} - the directory of the journals
+     */
+    public Path getDirectory(){
+        return directory;
+    }
+
+}
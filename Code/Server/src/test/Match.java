@@ -0,0 +1,419 @@
+package test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import model.GameAction;
+import model.GameEngine;
+import model.GameEvents;
+import model.Player;
+
+/**
+ * This class describes a single match between two players.
+ * 
+ * Every match has its own pair of players identified by the keys "P1" and "P2",
+ * this way multiple matches can be played at the same time on the same server 
+ * without the players of one match interfering with the players of another one.
+ * 
+ * A match is created by the MatchRegistry and filled with the players as they connect to the server.
+ * 
+ * The rules of the game are held by the GameEngine of the match, the players ("P1" is 0, "P2" is 1) apply their actions to it.
+ * 
+ * Every random choice of the match (the first turn and the rockets) comes from its own generator, 
+ * created from the seed of the match: matches do not share a generator, and the seed printed when the match starts 
+ * is enough to play the same match again. The rockets use a generator split from the one of the first turn,
+ * so that a match replayed from its journal gets the same rockets (see JournalReader).
+ * 
+ * When the server keeps journals, every action applied to the engine through apply() is also written 
+ * to the journal of the match (see MatchJournal).
+ * 
+ * The match also coordinates its two players without any polling:
+ * -> the match starts (and the first turn is given) as soon as the second player declares itself ready
+ * -> a player waiting for its turn is parked on its own Condition and is woken up
+ *    exactly when the other player passes the turn
+ * 
+ * When the game is over or a client leaves, end() tears the match down on its own: the connections of both players
+ * are closed, the waiting players are woken up (their sessions return, see MatchEndedException) 
+ * and the match is removed from the registry. The server and the other matches keep running.
+ */
+public class Match {
+
+    private final int id;
+    private final long seed;
+    private final SplittableRandom random;
+    private final GameEngine engine;
+    private MatchJournal journal = null;
+    private HashMap<String,Player> players = new HashMap<>();
+    private AtomicInteger readyPlayers = new AtomicInteger(0);
+    private CountDownLatch started = new CountDownLatch(1);
+    private AtomicBoolean over = new AtomicBoolean(false);
+
+    private ReentrantLock turnLock = new ReentrantLock();
+    private HashMap<String,Condition> turnConditions = new HashMap<>();
+    private String turn = "";       //key of the player that has the turn
+
+    /**
+     * Constructor
+     * 
+     * @param id {int} - the identifier of the match on the server
+     * @param seed {long} - the seed of the generator of the match
+     */
+    public Match(int id, long seed){
+        this.id = id;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.engine = new GameEngine(random.split());
+        players.put("P1",null);
+        players.put("P2",null);
+        turnConditions.put("P1",turnLock.newCondition());
+        turnConditions.put("P2",turnLock.newCondition());
+    }
+
+    /**
+     * Constructor - the match gets a random seed.
+     * 
+     * @param id {int} - the identifier of the match on the server
+     */
+    public Match(int id){
+        this(id, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Method that adds a player to the first free place of the match.
+     * 
+     * @param player {Player} - the player that joins the match
+     * @return {String} - the key associated to the player ("P1" or "P2"), null if the match is already full
+     */
+    protected synchronized String addPlayer(Player player){
+        if(players.get("P1") == null){
+            players.replace("P1",player);
+            return "P1";
+        }
+        else if(players.get("P2") == null){
+            players.replace("P2",player);
+            return "P2";
+        }
+        return null;
+    }
+
+    /**
+     * Method that checks if both players of the match are connected.
+     * 
+     * @return {boolean} - true if both places of the match are taken
+     */
+    public synchronized boolean isFull(){
+        return players.get("P1") != null && players.get("P2") != null;
+    }
+
+    /**
+     * Method that returns the player associated to the given key.
+     * 
+     * @param key {String} - "P1" or "P2"
+     * @return {Player} - the player associated to the key
+     */
+    public synchronized Player getPlayer(String key){
+        return players.get(key);
+    }
+
+    /**
+     * Method that returns the key associated to the given player.
+     * 
+     * @param player {Player} - a player of this match
+     * @return {String} - "P1" or "P2", null if the player is not part of this match
+     */
+    public synchronized String getKey(Player player){
+        if(players.get("P1") == player){
+            return "P1";
+        }
+        else if(players.get("P2") == player){
+            return "P2";
+        }
+        return null;
+    }
+
+    /**
+     * Method that returns the opponent of the player associated to the given key.
+     * 
+     * @param myKey {String} - the key of the player asking for its opponent
+     * @return {Player} - the other player of this match
+     */
+    public synchronized Player getOtherPlayer(String myKey){
+        if(myKey.equals("P1")){
+            return players.get("P2");
+        }
+        else{
+            return players.get("P1");
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                              Turn coordination
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method called by a player once all its units are placed.
+     * When the second player of the match is ready, the first turn is randomly given and the match starts.
+     */
+    public void playerReady(){
+        if(readyPlayers.incrementAndGet() == 2){
+            giveFirstTurn();
+            System.out.println(Server.GREEN_FG + "All players of match " + id + " connected, game started (seed " + seed + ")\n" + Server.RESET_COLOR);
+            started.countDown();
+        }
+    }
+
+    /**
+     * Method that blocks the calling player until both players of the match are ready, or until the match has ended.
+     * 
+     * @throws InterruptedException if the thread of the player is interrupted while waiting
+     */
+    public void awaitStart() throws InterruptedException {
+        started.await();
+    }
+
+    /**
+     * Method that blocks the calling player until it has the turn, or until the match has ended.
+     * 
+     * @param myKey {String} - the key of the player that waits for its turn
+     * @throws InterruptedException if the thread of the player is interrupted while waiting
+     */
+    public void awaitTurn(String myKey) throws InterruptedException {
+        turnLock.lock();
+        try{
+            while(!turn.equals(myKey) && !over.get()){
+                turnConditions.get(myKey).await();
+            }
+        }
+        finally{
+            turnLock.unlock();
+        }
+    }
+
+    /**
+     * Method that gives the turn to the other player and wakes it up.
+     * 
+     * @param myKey {String} - the key of the player that has just played
+     */
+    public void passTurn(String myKey){
+        giveTurn(myKey.equals("P1") ? "P2" : "P1");
+    }
+
+    /**
+     * Method that checks if the player associated to the given key has the turn.
+     * 
+     * @param key {String} - "P1" or "P2"
+     * @return {boolean} - true if it is the turn of that player
+     */
+    public boolean isTurnOf(String key){
+        turnLock.lock();
+        try{
+            return turn.equals(key);
+        }
+        finally{
+            turnLock.unlock();
+        }
+    }
+
+    /**
+     * Method that randomly gives the first turn to one of the players and starts the game in the engine
+     */
+    protected void giveFirstTurn() {
+        int chance = random.nextInt(2);
+        apply(GameAction.start(chance), new GameEvents());
+        if (chance == 0) {
+            giveTurn("P1");
+        } else {
+            giveTurn("P2");
+        }
+    }
+
+    /**
+     * Method that gives the turn to the player associated to the given key and wakes it up.
+     * 
+     * @param key {String} - "P1" or "P2"
+     */
+    private void giveTurn(String key){
+        turnLock.lock();
+        try{
+            turn = key;
+            turnConditions.get(key).signal();
+        }
+        finally{
+            turnLock.unlock();
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                   Teardown
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that ends the match, only the first call has an effect:
+     * -> the connections of both players are closed (the messages already flushed are still delivered)
+     * -> the players waiting for the start or for their turn are woken up
+     * -> the journal of the match is closed, with an ABANDONED record if the game is not over
+     * -> the match is removed from the registry of the server
+     */
+    public void end(){
+        if(!over.compareAndSet(false, true)){
+            return;
+        }
+        for(String key : new String[]{ "P1", "P2" }){
+            Player player = getPlayer(key);
+            if(player != null){
+                player.disconnect();
+            }
+        }
+        started.countDown();
+        turnLock.lock();
+        try{
+            for(Condition condition : turnConditions.values()){
+                condition.signal();
+            }
+        }
+        finally{
+            turnLock.unlock();
+        }
+        abandonJournal();
+        Server.matchRegistry.remove(this);
+        System.out.println(Server.YELLOW_FG + "Match " + id + " ended" + Server.RESET_COLOR);
+    }
+
+    /**
+     * Method that checks if the match has ended (see end())
+     * 
+     * @return {boolean} - true if the match has ended
+     */
+    public boolean isOver(){
+        return over.get();
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Game actions
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that applies an action to the engine of the match and writes it to the journal of the match, if any.
+     * Both are done under the lock of the engine, so the journal holds the actions in the order in which they were applied.
+     * 
+     * If the journal can not be written, the match goes on without it.
+     * 
+     * @param action {GameAction} - the action
+     * @param out {GameEvents} - the buffer in which the events of the action are written
+     */
+    public void apply(GameAction action, GameEvents out){
+        synchronized(engine){
+            engine.apply(action, out);
+            if(journal != null){
+                try{
+                    journal.record(action, out);
+                }
+                catch(IOException e){
+                    System.out.println(Server.RED_FG + "Unable to write the journal of match " + id + ": " + e.getMessage() + Server.RESET_COLOR);
+                    journal = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that applies an action read from a journal, without writing it again, 
+     * and brings the turn coordination of the match up to date with the engine.
+     * 
+     * @param action {GameAction} - the action
+     * @param out {GameEvents} - the buffer in which the events of the action are written
+     */
+    void restore(GameAction action, GameEvents out){
+        engine.apply(action, out);
+        if(engine.getPhase() != GameEngine.PLACEMENT && started.getCount() > 0){
+            readyPlayers.set(2);
+            started.countDown();
+        }
+        if(engine.getTurn() >= 0){
+            giveTurn(engine.getTurn() == 0 ? "P1" : "P2");
+        }
+    }
+
+    /**
+     * Method that closes the journal of a match that ends, if any: a game that is not over is written as abandoned.
+     */
+    private void abandonJournal(){
+        synchronized(engine){
+            if(journal != null){
+                try{
+                    journal.abandon();
+                }
+                catch(IOException e){
+                    System.out.println(Server.RED_FG + "Unable to close the journal of match " + id + ": " + e.getMessage() + Server.RESET_COLOR);
+                }
+                journal = null;
+            }
+        }
+    }
+
+    /**
+     * Method that sets the journal in which the actions of the match are written, the previous journal is closed
+     * 
+     * @param journal {MatchJournal} - the journal, null to stop journaling
+     */
+    public void setJournal(MatchJournal journal){
+        synchronized(engine){
+            if(this.journal != null && this.journal != journal){
+                try{
+                    this.journal.close();
+                }
+                catch(IOException e){
+                    System.out.println(Server.RED_FG + "Unable to close the journal of match " + id + ": " + e.getMessage() + Server.RESET_COLOR);
+                }
+            }
+            this.journal = journal;
+        }
+    }
+
+    /**
+     * Method that returns the engine that holds the rules of the game of this match
+     * 
+     * @return {GameEngine} - the engine
+     */
+    public GameEngine getEngine(){
+        return engine;
+    }
+
+    /**
+     * Method that returns the identifier of the match
+     * 
+     * @return {int} - the identifier of the match
+     */
+    public int getId(){
+        return id;
+    }
+
+    /**
+     * Method that returns the seed of the generator of the match
+     * 
+     * @return {long} - the seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Method that returns a new generator split from the generator of the match, for a computer player of the match.
+     * It must be called before the match starts: with the same seed, the computer player then gets the same generator
+     * (its shots also depend on its time budget, see AiStrategy).
+     * 
+     * @return {Random} - the generator
+     */
+    public synchronized Random newRandom(){
+        return new Random(random.split().nextLong());
+    }
+
+}
@@ -0,0 +1,22 @@
+package test;
+
+/**
+ * This exception is thrown in the session thread of a player when its match has ended
+ * (the game is over or a client has left, see Match.end()) while the player was still talking to its client.
+ *
+ * It unwinds the session up to Player.run(), which returns: the thread is released instead of stopping the whole server.
+ */
+public class MatchEndedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor
+     *
+     * @param match {Match} - the match that has ended
+     */
+    public MatchEndedException(Match match){
+        super("Match " + match.getId() + " has ended");
+    }
+
+}
@@ -0,0 +1,268 @@
+package test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import model.GameAction;
+import model.GameEvents;
+import network.Protocol;
+
+/**
+ * This class writes the journal of a match: an append-only file in which every accepted action of the match
+ * and every result of its shots is written as a fixed-size record, as soon as it is applied to the engine.
+ *
+ * The journal is enough to replay the match or to restore its state after a crash (see JournalReader).
+ *
+ * File format (big-endian):
+ *
+ *  header  : | magic "BGJ1" (4 bytes) | version (4 bytes) | match id (4 bytes) | seed (8 bytes) | reserved (4 bytes) |
+ *  records : | kind | player | a | b | cells (8 bytes, NO_CELL if unused) | CRC32 of the 12 first bytes (4 bytes) |
+ *
+ *  -> PLACE  : a = index of the unit, b = number of cells, cells = the cells of the unit
+ *  -> START  : player = the player that has the first turn
+ *  -> SHOOT  : a = index of the shot type (see Protocol.SHOT_TYPES), b = direction ('H', 'V' or 0), cells[0] = the center
+ *  -> RESULT : a = GameEvents.MISS, HIT or DESTROYED, cells[0] = the cell (follows the SHOOT record that caused it)
+ *  -> END    : player = the winner, the journal is closed
+ *  -> ABANDONED : player = NO_CELL, the match ended without a winner (a client left), the journal is closed
+ *
+ * The records of an action are gathered in a buffer and written to the FileChannel in a single write.
+ * When they reach the disk depends on the Sync policy:
+ * -> NONE   : the records are left to the operating system (they survive a crash of the server, not of the machine)
+ * -> GROUP  : the journals are forced to the disk together every few milliseconds by the JournalStore (group commit)
+ * -> ALWAYS : the journal is forced to the disk after every action
+ * In every case the journal is forced when the match is over.
+ */
+public class MatchJournal implements Closeable {
+
+    public enum Sync { NONE, GROUP, ALWAYS }
+
+    public static final int MAGIC = 0x42474A31;     // "BGJ1"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int RECORD_SIZE = 16;
+    public static final int CELLS_PER_RECORD = 8;
+    public static final int NO_CELL = 0xFF;
+
+    //Record kinds, the kinds of the actions are the ones of GameAction
+    public static final int PLACE = GameAction.PLACE, START = GameAction.START, SHOOT = GameAction.SHOOT, RESULT = 3, END = 4, ABANDONED = 5;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Sync sync;
+    private final JournalStore store;
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private boolean dirty = false;      //records written but not yet forced to the disk
+    private boolean closed = false;
+
+    /**
+     * Constructor - creates the journal file (it must not exist yet) and writes its header.
+     *
+     * @param path {Path} - the file of the journal
+     * @param match {Match} - the match that is journaled
+     * @param sync {Sync} - when the records are forced to the disk
+     * @param store {JournalStore} - the store that forces the journal with the GROUP policy, null if none
+     * @throws IOException if the file can not be created (FileAlreadyExistsException if it exists)
+     */
+    public MatchJournal(Path path, Match match, Sync sync, JournalStore store) throws IOException {
+        this.path = path;
+        this.sync = sync;
+        this.store = store;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(match.getId()).putLong(match.getSeed()).putInt(0);
+        flush();
+    }
+
+    /**
+     * Constructor - reopens an existing journal to append records after its valid ones, the rest of the file is cut.
+     *
+     * @param path {Path} - the file of the journal
+     * @param length {long} - the length of the header and of the valid records
+     * @throws IOException if the file can not be opened
+     */
+    private MatchJournal(Path path, long length) throws IOException {
+        this.path = path;
+        this.sync = Sync.ALWAYS;
+        this.store = null;
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.truncate(length);
+        channel.position(length);
+    }
+
+    /**
+     * Method that closes the journal of a match of a previous run that was not over (see Server.restoreMatches()):
+     * its players can not join it again, so the interrupted write at the end of the file (if any) is cut
+     * and an ABANDONED record is appended. The match is then only reported once and its journal is kept for replay.
+     *
+     * @param reader {JournalReader} - the journal, read before
+     * @throws IOException if the journal can not be written
+     */
+    public static void abandon(JournalReader reader) throws IOException {
+        new MatchJournal(reader.getPath(), HEADER_SIZE + (long) reader.size() * RECORD_SIZE).abandon();
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Records
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that writes an action applied to the engine and its results.
+     * A rejected action did not change the match and is not written.
+     *
+     * @param action {GameAction} - the action
+     * @param events {GameEvents} - the events produced by the engine for this action
+     * @throws IOException if the journal can not be written
+     */
+    public synchronized void record(GameAction action, GameEvents events) throws IOException {
+        if(closed || events.isRejected()){
+            return;
+        }
+
+        switch(action.getKind()){
+            case GameAction.PLACE:
+                int[] cells = action.getCells();
+                put(PLACE, action.getPlayer(), action.getUnit(), cells.length, cells);
+                break;
+            case GameAction.START:
+                put(START, action.getPlayer(), 0, 0, null);
+                break;
+            case GameAction.SHOOT:
+                String direction = action.getDirection();
+                put(SHOOT, action.getPlayer(), shotTypeIndex(action.getShotType()), direction.isEmpty() ? 0 : direction.charAt(0),
+                    new int[]{ action.getCenter() });
+                break;
+            default:
+        }
+
+        boolean over = false;
+        for(int i = 0; i < events.size(); i++){
+            int kind = events.getKind(i);
+            if(kind == GameEvents.MISS || kind == GameEvents.HIT || kind == GameEvents.DESTROYED){
+                put(RESULT, events.getPlayer(i), kind, 0, new int[]{ events.getCell(i) });
+            }
+            else if(kind == GameEvents.WON){
+                put(END, events.getPlayer(i), 0, 0, null);
+                over = true;
+            }
+        }
+        flush();
+
+        if(over){
+            close();
+        }
+        else if(sync == Sync.ALWAYS){
+            channel.force(false);
+        }
+        else{
+            dirty = true;
+        }
+    }
+
+    /**
+     * Method that writes that the match ended without a winner (see Match.end()) and closes the journal,
+     * so that the match is not taken for a crashed one (see JournalReader.isFinished()).
+     * Nothing is written if the journal is already closed (the game is over).
+     *
+     * @throws IOException if the journal can not be written
+     */
+    public synchronized void abandon() throws IOException {
+        if(closed){
+            return;
+        }
+        put(ABANDONED, NO_CELL, 0, 0, null);
+        flush();
+        close();
+    }
+
+    /**
+     * Method that adds a record to the buffer, the buffer is written to the file when it is full.
+     */
+    private void put(int kind, int player, int a, int b, int[] cells) throws IOException {
+        if(buffer.remaining() < RECORD_SIZE){
+            flush();
+        }
+        int start = buffer.position();
+        buffer.put((byte) kind).put((byte) player).put((byte) a).put((byte) b);
+        for(int i = 0; i < CELLS_PER_RECORD; i++){
+            buffer.put((byte) (cells != null && i < cells.length ? cells[i] : NO_CELL));
+        }
+        crc.reset();
+        crc.update(buffer.array(), start, RECORD_SIZE - 4);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Method that writes the content of the buffer to the file.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()){
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Method that converts a shot type into its index in the records.
+     */
+    private static int shotTypeIndex(String shotType){
+        for(int i = 0; i < Protocol.SHOT_TYPES.length; i++){
+            if(Protocol.SHOT_TYPES[i].equals(shotType)){
+                return i;
+            }
+        }
+        return NO_CELL;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Durability
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that forces the records written since the last call to the disk, if any.
+     * Called by the JournalStore with the GROUP policy.
+     *
+     * @throws IOException if the journal can not be forced
+     */
+    public synchronized void sync() throws IOException {
+        if(dirty && !closed){
+            channel.force(false);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Method that forces the journal to the disk and closes it.
+     *
+     * @throws IOException if the journal can not be forced or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if(closed){
+            return;
+        }
+        closed = true;
+        if(store != null){
+            store.remove(this);
+        }
+        try{
+            channel.force(false);
+        }
+        finally{
+            channel.close();
+        }
+    }
+
+    /**
+     * @return {Path} - the file of the journal
+     */
+    public Path getPath(){
+        return path;
+    }
+
+}
@@ -0,0 +1,103 @@
+package test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+import model.Player;
+
+/**
+ * This class keeps track of all the matches that are played on the server.
+ * 
+ * Incoming players are paired two by two: the first player that connects opens a new match,
+ * the second one completes it. The next player that connects opens a new match, and so on.
+ * 
+ * The seed of each match is drawn from the generator of the registry: 
+ * with a fixed seed for the registry, the n-th match of the server always gets the same seed.
+ * 
+ * When the server keeps journals, each new match gets its journal from the JournalStore.
+ */
+public class MatchRegistry {
+
+    private HashMap<Integer,Match> matches = new HashMap<>();
+    private Match openMatch = null;
+    private int nextId = 1;
+    private final SplittableRandom seeds;
+    private JournalStore journals = null;
+
+    /**
+     * Constructor - the seeds of the matches are random.
+     */
+    public MatchRegistry(){
+        this.seeds = new SplittableRandom();
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param seed {long} - the seed from which the seeds of the matches are drawn
+     */
+    public MatchRegistry(long seed){
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Method that sets the store in which the journals of the next matches are created
+     * 
+     * @param journals {JournalStore} - the store, null to stop journaling
+     */
+    public synchronized void setJournals(JournalStore journals){
+        this.journals = journals;
+    }
+
+    /**
+     * Method that places the given player in the match that is waiting for an opponent,
+     * or opens a new match if no match is waiting.
+     * 
+     * @param player {Player} - the player that joins the server
+     * @return {Match} - the match in which the player has been placed
+     */
+    public synchronized Match join(Player player){
+        if(openMatch == null){
+            openMatch = new Match(nextId, seeds.nextLong());
+            if(journals != null){
+                try{
+                    openMatch.setJournal(journals.open(openMatch));
+                }
+                catch(IOException e){
+                    System.out.println(Server.RED_FG + "Unable to create the journal of match " + nextId + ": " + e.getMessage() + Server.RESET_COLOR);
+                }
+            }
+            matches.put(nextId, openMatch);
+            nextId++;
+        }
+        Match match = openMatch;
+        match.addPlayer(player);
+        if(match.isFull()){
+            openMatch = null;
+        }
+        return match;
+    }
+
+    /**
+     * Method that removes a match from the registry.
+     * 
+     * @param match {Match} - the match to remove
+     */
+    public synchronized void remove(Match match){
+        matches.remove(match.getId());
+        if(openMatch == match){
+            openMatch = null;
+        }
+    }
+
+    /**
+     * Method that returns the number of matches currently registered on the server.
+     * 
+     * @return {int} - the number of matches
+     */
+    public synchronized int size(){
+        return matches.size();
+    }
+
+}
@@ -2,6 +2,7 @@ package test;
 
 //@source code used to understand => https://www.geeksforgeeks.org/introducing-threads-socket-programming-java/
 
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -11,30 +12,44 @@ import java.net.NetworkInterface;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.InputMismatchException;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
+import ai.AiConnection;
+import ai.AiStrategy;
 import model.Player;
+import network.Connection;
+import network.NioTransport;
+import network.StreamConnection;
 
 /**
  * This class is executable and is used to create the server on which clients can connect.
  * 
- * The server can only accept two clients and it waits both of them to be connected before 
- * randomly giving the first turn to one of them.
+ * The server accepts any number of clients and pairs them two by two into independent matches (see MatchRegistry).
+ * For each match, it waits both players to be ready before randomly giving the first turn to one of them.
  *  
  */
 public class Server  { 	
     
     private final Scanner userInput = new Scanner(System.in);
     private int port;
+    private boolean useNio = false;
+    private SessionThreadFactory sessionThreads = new SessionThreadFactory(SessionThreadFactory.Mode.PLATFORM);
+    private boolean againstComputer = false;
+    private long computerBudget = 100;       //time allowed to the computer player to choose a shot, in milliseconds (negative: no limit)
     private ServerSocket servSock;
     private Socket sock;
     protected DataInputStream in;
     protected DataOutputStream out;
-    public static boolean allPlayerConnected = false;
-    public static HashMap<String,Player> Players = new HashMap<>();
+    public static MatchRegistry matchRegistry = new MatchRegistry();
+    //pool of the computations of the ai package for every match: the computer players and the targeting hints
+    public static final ForkJoinPool aiPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private List<String> restoredMatches = new ArrayList<>();   //state of the matches of a previous run, restored from their journals
     
 	 //Escape characters tho control the cmdline display. => ! only works on unix systems !
      public static final String RED_FG       = "\u001B[31m";
@@ -53,8 +68,7 @@ public class Server  {
      * Constructor
      */
     public Server(){
-        Players.put("P1",null);
-        Players.put("P2",null);
+        matchRegistry = new MatchRegistry();
     }
     
     //!---------------------------------------------------------------------------------
@@ -63,9 +77,9 @@ public class Server  {
     /**
      * Method that initialize the server and waits for clients to connect. 
      * 
-     * Only 2 clients can be connected.
-     * Once both clients have placed their units, the server randomly choses one to be the first to shoot 
-     * and let them start the game.
+     * Every two clients that connect are placed in the same match.
+     * Once both clients of a match have placed their units, the match randomly choses one to be the first to shoot 
+     * and let them start the game (see Match).
      * 
      */
     protected void initServer(){
@@ -81,37 +95,26 @@ public class Server  {
             else{
                 port = Integer.valueOf(userStr);
             }
+            if(useNio){
+                initNioServer();
+                return;
+            }
             servSock = new ServerSocket(port);                          //Creating a new serverSocket with port given by user. 
 
-            clearScreen();
-            System.out.println(GREEN_FG+"Server started!\n"+RESET_COLOR);
-            System.out.println("Players can connect whit the following information: ");
-            System.out.println("\nPort: "+ PURPLE_FG + port + RESET_COLOR);
-            getIpv4Adress();
-            System.out.println("\nWaiting for player(s) to connect\n");
+            printServerInfo();
 
 
-            int clientCount =0;
             while (true)  { 
                 sock = null;                  //reset the socket 
                 try { 
                     sock = servSock.accept(); //Wait for a client to connect to the server with the right socket
+                    sock.setTcpNoDelay(true); //The batches are written at once: Nagle would only delay the next one
 
                     //creating input and output streams to enable communication between client and server 
                     in = new DataInputStream(sock.getInputStream());
-                    out = new DataOutputStream(sock.getOutputStream()); 
+                    out = new DataOutputStream(new BufferedOutputStream(sock.getOutputStream())); 
                     
-                    Thread t = new Player(sock, in, out); //creating a new thread object which indirectly associates the client to a Player object
-                    t.start();                            //starting the thread, executes the the run() method in the Player object
-
-                    clientCount ++;
-                    if(clientCount == 2){
-                        while(!(Players.get("P1").isReady && Players.get("P2").isReady)){} //Wait until both players have placed their units
-                        giveFirstTurn();
-                        allPlayerConnected = true;
-                        System.out.println(GREEN_FG + "All players connected, game started\n" + RESET_COLOR);
-                        break;
-                    } 
+                    acceptPlayer(new StreamConnection(sock, in, out));
                     
                 } 
                 catch (IOException e){ 
@@ -130,6 +133,48 @@ public class Server  {
         }	 
     } 
 
+    /**
+     * Same as initServer() but the clients are handled by the non-blocking NioTransport:
+     * a few event-loop threads read and write all the sockets, instead of one blocked thread per socket.
+     * 
+     * @throws IOException if the port can not be opened
+     */
+    private void initNioServer() throws IOException {
+        NioTransport transport = new NioTransport(port, NioTransport.defaultNumberOfLoops());
+        printServerInfo();
+        while (true)  { 
+            try { 
+                acceptPlayer(transport.accept());
+            } 
+            catch (IOException e){ 
+                transport.close();
+                userInput.close();
+                e.printStackTrace();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Method that associates a newly connected client to a Player object and starts it.
+     * The match starts by itself once both of its players are ready.
+     * 
+     * When playing against the computer, a computer player joins the match of the client right away.
+     * 
+     * @param connection {Connection} - the connection of the new client
+     */
+    private void acceptPlayer(Connection connection){
+        Player player = new Player(connection);     //creating a new Player object associated to the client
+        sessionThreads.newThread(player).start();   //starting the session thread, executes the the run() method in the Player object
+        if(againstComputer){
+            //Both generators of the computer player are split from the match: same seed, same placements and choices
+            Match match = player.getMatch();
+            AiStrategy strategy = new AiStrategy(aiPool, computerBudget, match.newRandom());
+            Player computer = new Player(new AiConnection(strategy, match.newRandom()));
+            sessionThreads.newThread(computer).start();
+        }
+    }
+
     //!---------------------------------------------------------------------------------
     //!                               Other methods
     //!---------------------------------------------------------------------------------
@@ -153,39 +198,124 @@ public class Server  {
    }
    
    /**
-    * Method that clears the cmdline Screen and sets the cursor to home.
+    * Method that prints the information the players need to connect to the server.
+    * 
+    * @throws SocketException 
     */
-   private void clearScreen(){
-       System.out.print(CLEAR_SCREEN);
-       System.out.print(HOME_CURSOR);  	
+   private void printServerInfo() throws SocketException {
+       clearScreen();
+       System.out.println(GREEN_FG+"Server started!\n"+RESET_COLOR);
+       for(String restored : restoredMatches){
+           System.out.println(restored);
+       }
+       System.out.println("Players can connect whit the following information: ");
+       System.out.println("\nPort: "+ PURPLE_FG + port + RESET_COLOR);
+       getIpv4Adress();
+       System.out.println("\nWaiting for player(s) to connect\n");
    }
-   
+
    /**
-    * Method that randomly gives the first turn to one of the players
+    * Method that restores the matches of a previous run that were not over when the server stopped, from their journals,
+    * and keeps their state to report it with the server information. 
+    * The players of these matches can not join them again: each journal is then closed as abandoned 
+    * (see MatchJournal.abandon()) so that the match is only reported by this run, and kept for replay (see JournalReader).
+    * 
+    * @param journalDir {String} - the directory of the journals
+    * @throws IOException if the directory can not be listed
     */
-   protected void giveFirstTurn() {
-       int chance = ((int) (Math.random() * 50 + 1)) % 2;
-       if (chance == 0) {
-           Players.get("P1").isMyTurn = true;
-       } else {
-           Players.get("P2").isMyTurn = true;
+   private void restoreMatches(String journalDir) throws IOException {
+       for(JournalReader reader : JournalReader.unfinished(Paths.get(journalDir))){
+           try{
+               restoredMatches.add(YELLOW_FG + "Match " + reader.getMatchId() + " of a previous run was not over: "
+                                   + JournalReader.describe(reader.restore()) + " (" + reader.getPath() + ")" + RESET_COLOR);
+           }
+           catch(IOException e){
+               restoredMatches.add(RED_FG + e.getMessage() + RESET_COLOR);
+           }
+           try{
+               MatchJournal.abandon(reader);
+           }
+           catch(IOException e){
+               restoredMatches.add(RED_FG + "Unable to close the journal " + reader.getPath() + ": " + e.getMessage() + RESET_COLOR);
+           }
        }
    }
 
+   /**
+    * Method that clears the cmdline Screen and sets the cursor to home.
+    */
+   private void clearScreen(){
+       System.out.print(CLEAR_SCREEN);
+       System.out.print(HOME_CURSOR);  	
+   }
+   
     //!---------------------------------------------------------------------------------
     //!                                    Main
     //!---------------------------------------------------------------------------------
     /**
      * Run main to start the server
+     * 
+     * Options:
+     *  --nio     : use the non-blocking NioTransport instead of one blocking socket per player,
+     *              implies --virtual: a session waiting for its client is a parked virtual thread, not a blocked OS thread
+     *              (Java 21+, on an older JVM every session still has its own platform thread)
+     *  --virtual : run every player session on a virtual thread instead of a platform thread (Java 21+)
+     *  --ai      : every client plays against a computer player (see the ai package)
+     *  --ai-budget <ms> : time allowed to the computer player to choose a shot (default: 100), a budget of 0 or more makes
+     *                     its shots depend on the speed of the machine: with --seed, -1 (no limit) gives a reproducible game
+     *  --seed <n>       : seed from which the seeds of the matches are drawn (default: random), see MatchRegistry
+     *  --journal <dir>  : write the journal of every match in the directory (see MatchJournal),
+     *                     the matches of a previous run that are not over are restored and reported at startup
+     *  --fsync <policy> : when the journals are forced to the disk: none, group (default) or always
      */
     public static void main(String[] args){
     	try {
             Server server = new Server();
+            String journalDir = null;
+            MatchJournal.Sync sync = MatchJournal.Sync.GROUP;
+            for(int i = 0; i < args.length; i++){
+                if(args[i].equals("--nio")){
+                    server.useNio = true;
+                }
+                else if(args[i].equals("--virtual")){
+                    server.sessionThreads = new SessionThreadFactory(SessionThreadFactory.Mode.VIRTUAL);
+                }
+                else if(args[i].equals("--ai")){
+                    server.againstComputer = true;
+                }
+                else if(args[i].equals("--ai-budget") && i + 1 < args.length){
+                    server.computerBudget = Long.parseLong(args[++i]);
+                }
+                else if(args[i].equals("--seed") && i + 1 < args.length){
+                    matchRegistry = new MatchRegistry(Long.parseLong(args[++i]));
+                }
+                else if(args[i].equals("--journal") && i + 1 < args.length){
+                    journalDir = args[++i];
+                }
+                else if(args[i].equals("--fsync") && i + 1 < args.length){
+                    sync = MatchJournal.Sync.valueOf(args[++i].toUpperCase());
+                }
+            }
+            if(server.useNio){
+                //The event loops read the sockets, the sessions only wait on their inbox:
+                //parked virtual threads so that an idle player costs no OS thread and no native stack
+                server.sessionThreads = new SessionThreadFactory(SessionThreadFactory.Mode.VIRTUAL);
+                if(server.sessionThreads.getMode() != SessionThreadFactory.Mode.VIRTUAL){
+                    System.out.println(YELLOW_FG + "--nio: every player still needs its own platform thread on this JVM (Java 21+ needed)" + RESET_COLOR);
+                }
+            }
+            if(journalDir != null){
+                server.restoreMatches(journalDir);
+                matchRegistry.setJournals(new JournalStore(Paths.get(journalDir), sync));
+            }
             server.initServer();
     	}
         catch(NumberFormatException a) {
         	System.out.println(RED_FG+"FATAL ERROR :"+PURPLE_FG+" IP and Port must be Integer"+RESET_COLOR);
         }
+        catch(IOException | IllegalArgumentException e) {
+        	System.out.println(RED_FG+"FATAL ERROR :"+PURPLE_FG+" "+e.getMessage()+RESET_COLOR);
+        }
     }
     	
 }
@@ -0,0 +1,111 @@
+package test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * This class is executable and compares the cost of running the player sessions 
+ * on platform threads or on virtual threads.
+ * 
+ * It starts a given number of sessions that, like a Player waiting for its client, are blocked on an inbox.
+ * Then a token is passed from session to session (like a turn going from one player to the other)
+ * so every hand-off wakes up a sleeping session.
+ * 
+ * Usage: java test.SessionThreadComparison <platform|virtual> [sessions] [hand-offs]
+ */
+public class SessionThreadComparison {
+
+    private static final int STOP = -1;
+
+    /**
+     * Run main to start the comparison
+     */
+    public static void main(String[] args) throws Exception {
+        SessionThreadFactory.Mode mode = SessionThreadFactory.Mode.valueOf(args.length > 0 ? args[0].toUpperCase() : "PLATFORM");
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        int handOffs = args.length > 2 ? Integer.parseInt(args[2]) : 200000;
+
+        SessionThreadFactory factory = new SessionThreadFactory(mode);
+        long rssBefore = residentMemoryKb();
+
+        List<LinkedBlockingQueue<Integer>> inboxes = new ArrayList<>(sessions);
+        for(int i = 0; i < sessions; i++){
+            inboxes.add(new LinkedBlockingQueue<>());
+        }
+        CountDownLatch started = new CountDownLatch(sessions);
+        CountDownLatch done = new CountDownLatch(1);
+
+        long startTime = System.nanoTime();
+        for(int i = 0; i < sessions; i++){
+            final int me = i;
+            factory.newThread(() -> {
+                started.countDown();
+                try{
+                    while(true){
+                        int token = inboxes.get(me).take();
+                        if(token == STOP){
+                            return;
+                        }
+                        if(token == handOffs){
+                            done.countDown();
+                        }
+                        else{
+                            inboxes.get((me + 1) % sessions).add(token + 1);
+                        }
+                    }
+                }
+                catch(InterruptedException e){
+                    //Stop the session
+                }
+            }).start();
+        }
+        started.await();
+        long startupMs = (System.nanoTime() - startTime) / 1000000;
+
+        Thread.sleep(500);      //Let every session park on its inbox
+        System.gc();
+        long rssIdle = residentMemoryKb();
+        long heapIdle = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+        startTime = System.nanoTime();
+        inboxes.get(0).add(0);
+        done.await();
+        long handOffNs = (System.nanoTime() - startTime) / handOffs;
+
+        for(LinkedBlockingQueue<Integer> inbox : inboxes){
+            inbox.add(STOP);
+        }
+
+        System.out.println("mode                  : " + factory.getMode());
+        System.out.println("sessions              : " + sessions);
+        System.out.println("start-up              : " + startupMs + " ms");
+        System.out.println("RSS of idle sessions  : " + (rssIdle - rssBefore) / 1024 + " MB more than before start-up");
+        System.out.println("heap used             : " + heapIdle / (1024 * 1024) + " MB");
+        System.out.println("hand-off latency      : " + handOffNs + " ns (average over " + handOffs + " hand-offs)");
+    }
+
+    /**
+     * Method that reads the resident memory of the process (only on Linux).
+     * 
+     * @return {long} - the resident memory in kB, 0 if unknown
+     */
+    private static long residentMemoryKb(){
+        try{
+            for(String line : Files.readAllLines(Paths.get("/proc/self/status"))){
+                if(line.startsWith("VmRSS:")){
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        }
+        catch(IOException | NumberFormatException e){
+            //Not on Linux
+        }
+        return 0;
+    }
+
+}
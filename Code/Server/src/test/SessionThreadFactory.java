@@ -0,0 +1,108 @@
+package test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This class creates the threads on which the Player sessions are executed.
+ * 
+ * Two modes are available:
+ * -> PLATFORM: every session runs on a classic platform thread (one OS thread and stack per player)
+ * -> VIRTUAL : every session runs on a virtual thread (Java 21+), which is parked instead of blocking 
+ *              an OS thread while the player waits for its client or for its turn
+ * 
+ * The virtual threads API is looked up at runtime so the server still compiles and runs on older JDKs,
+ * in that case the factory falls back to platform threads.
+ */
+public class SessionThreadFactory implements ThreadFactory {
+
+    public enum Mode { PLATFORM, VIRTUAL }
+
+    private static final MethodHandle VIRTUAL_BUILDER = findVirtualBuilder();
+    private static final MethodHandle UNSTARTED = findUnstarted();
+
+    private Mode mode;
+
+    /**
+     * Constructor
+     * 
+     * @param mode {Mode} - the kind of threads that should be created
+     */
+    public SessionThreadFactory(Mode mode){
+        if(mode == Mode.VIRTUAL && !isVirtualAvailable()){
+            System.out.println("Virtual threads are not available on this JVM (Java 21+ needed), platform threads are used instead.");
+            mode = Mode.PLATFORM;
+        }
+        this.mode = mode;
+    }
+
+    /**
+     * Method that creates a new (not started) thread for the given session.
+     * 
+     * @param session {Runnable} - the session to execute, usually a Player
+     * @return {Thread} - the thread on which the session will run
+     */
+    @Override
+    public Thread newThread(Runnable session){
+        if(mode == Mode.VIRTUAL){
+            try{
+                return (Thread) UNSTARTED.invoke(VIRTUAL_BUILDER.invoke(), session);
+            }
+            catch(Throwable e){
+                throw new IllegalStateException("Unable to create a virtual thread", e);
+            }
+        }
+        return new Thread(session);
+    }
+
+    /**
+     * Method that returns the mode actually used by this factory.
+     * 
+     * @return {Mode} - PLATFORM or VIRTUAL
+     */
+    public Mode getMode(){
+        return mode;
+    }
+
+    /**
+     * Method that checks if the running JVM supports virtual threads.
+     * 
+     * @return {boolean} - true if virtual threads can be created
+     */
+    public static boolean isVirtualAvailable(){
+        return VIRTUAL_BUILDER != null && UNSTARTED != null;
+    }
+
+    /**
+     * Method that looks up Thread.ofVirtual() 
+     * 
+     * @return {MethodHandle} - the method handle, null if not available
+     */
+    private static MethodHandle findVirtualBuilder(){
+        try{
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            return MethodHandles.publicLookup().findStatic(Thread.class, "ofVirtual", MethodType.methodType(builderClass));
+        }
+        catch(ReflectiveOperationException e){
+            return null;
+        }
+    }
+
+    /**
+     * Method that looks up Thread.Builder.unstarted(Runnable)
+     * 
+     * @return {MethodHandle} - the method handle, null if not available
+     */
+    private static MethodHandle findUnstarted(){
+        try{
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            return MethodHandles.publicLookup().findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+        }
+        catch(ReflectiveOperationException e){
+            return null;
+        }
+    }
+
+}
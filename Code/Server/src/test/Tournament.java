@@ -0,0 +1,294 @@
+package test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+import ai.AiStrategy;
+import ai.BotStrategy;
+import ai.RandomStrategy;
+import ai.SelfPlay;
+import network.Protocol;
+
+/**
+ * This class is executable and plays a tournament between two strategies of computer players (see the ai package).
+ * 
+ * The games are played in-process, without any socket (see ai.SelfPlay), on a work-stealing fork/join pool:
+ * the games are split in ranges, a range bigger than GAMES_PER_TASK is split in two halves, 
+ * idle threads steal the halves that are waiting.
+ * 
+ * Each game has its own seed, computed from the seed of the tournament and the index of the game (see gameSeed()):
+ * the results do not depend on the number of threads and any game can be replayed alone.
+ * 
+ * Usage: java test.Tournament [options]
+ *  --games <n>      : number of games (default: 10000)
+ *  --seed <n>       : seed of the tournament (default: 1)
+ *  --a <strategy>   : strategy of player A, "density" or "random" (default: density)
+ *  --b <strategy>   : strategy of player B (default: random)
+ *  --budget <ms>    : time allowed to the density strategy per shot, negative for no limit (default: -1, reproducible)
+ *  --threads <n>    : number of threads of the pool (default: number of cores)
+ */
+public class Tournament {
+
+    private static final int GAMES_PER_TASK = 64;
+
+    private final String strategyA;
+    private final String strategyB;
+    private final long seed;
+    private final long budget;
+    private final ForkJoinPool pool;
+    private final LongAdder playedGames = new LongAdder();
+
+    /**
+     * Constructor
+     * 
+     * @param strategyA {String} - the name of the strategy of player A
+     * @param strategyB {String} - the name of the strategy of player B
+     * @param seed {long} - the seed of the tournament
+     * @param budget {long} - the time allowed to the density strategy per shot in milliseconds, negative for no limit
+     * @param pool {ForkJoinPool} - the pool on which the games are played
+     */
+    public Tournament(String strategyA, String strategyB, long seed, long budget, ForkJoinPool pool) {
+        this.strategyA = strategyA;
+        this.strategyB = strategyB;
+        this.seed = seed;
+        this.budget = budget;
+        this.pool = pool;
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Statistics
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * This class aggregates the results of a range of games.
+     * Player 0 of each game is A, player 1 is B.
+     */
+    public static class Stats {
+        long games = 0;
+        long draws = 0;
+        long turns = 0;
+        final long[] wins = new long[2];
+        final long[][] shotTypes = new long[2][Protocol.SHOT_TYPES.length];
+
+        /**
+         * Method that adds the result of a game.
+         */
+        void add(SelfPlay.Result result) {
+            games++;
+            turns += result.getTurns();
+            if (result.getWinner() < 0) {
+                draws++;
+            }
+            else {
+                wins[result.getWinner()]++;
+            }
+            for (int p = 0; p < 2; p++) {
+                for (int t = 0; t < Protocol.SHOT_TYPES.length; t++) {
+                    shotTypes[p][t] += result.getShotTypeCount(p, t);
+                }
+            }
+        }
+
+        /**
+         * Method that adds the results of another range of games.
+         */
+        void add(Stats other) {
+            games += other.games;
+            draws += other.draws;
+            turns += other.turns;
+            for (int p = 0; p < 2; p++) {
+                wins[p] += other.wins[p];
+                for (int t = 0; t < Protocol.SHOT_TYPES.length; t++) {
+                    shotTypes[p][t] += other.shotTypes[p][t];
+                }
+            }
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getWins(int player) {
+            return wins[player];
+        }
+
+        public long getDraws() {
+            return draws;
+        }
+
+        public double getAverageTurns() {
+            return games == 0 ? 0 : (double) turns / games;
+        }
+
+        public long getShotTypeCount(int player, int shotType) {
+            return shotTypes[player][shotType];
+        }
+    }
+
+    /**
+     * This class plays a range of games, splitting it in two halves while it is bigger than GAMES_PER_TASK.
+     */
+    private class GamesTask extends RecursiveTask<Stats> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        GamesTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                Stats stats = new Stats();
+                for (long game = from; game < to; game++) {
+                    stats.add(playGame(game));
+                    playedGames.increment();
+                }
+                return stats;
+            }
+            long middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle);
+            left.fork();
+            Stats stats = new GamesTask(middle, to).compute();
+            stats.add(left.join());
+            return stats;
+        }
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                 Games
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Method that plays the given number of games on the pool.
+     * 
+     * @param games {long} - the number of games
+     * @return {Stats} - the aggregated results
+     */
+    public Stats run(long games) {
+        return pool.invoke(new GamesTask(0, games));
+    }
+
+    /**
+     * Method that plays one game of the tournament, always the same for a given index.
+     * 
+     * @param game {long} - the index of the game
+     * @return {SelfPlay.Result} - the result of the game
+     */
+    public SelfPlay.Result playGame(long game) {
+        Random random = new Random(gameSeed(seed, game));
+        BotStrategy a = strategy(strategyA, new Random(random.nextLong()));
+        BotStrategy b = strategy(strategyB, new Random(random.nextLong()));
+        return SelfPlay.play(a, b, random);
+    }
+
+    /**
+     * Method that returns the seed of a game of a tournament.
+     * The seed of the tournament and the index of the game are mixed (64-bit finalizer of MurmurHash3),
+     * so two tournaments with different seeds do not share games (seed + game would make game g of seed 2
+     * the same as game g + 1 of seed 1).
+     * 
+     * @param seed {long} - the seed of the tournament
+     * @param game {long} - the index of the game
+     * @return {long} - the seed of the game
+     */
+    public static long gameSeed(long seed, long game) {
+        return mix(mix(seed) + game * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Method that mixes the bits of a 64-bit value (MurmurHash3 fmix64).
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Method that creates the strategy with the given name.
+     */
+    private BotStrategy strategy(String name, Random random) {
+        switch (name) {
+            case "density": return new AiStrategy(pool, budget, random);
+            case "random":  return new RandomStrategy(random);
+            default: throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    /**
+     * Method that returns the number of games played so far.
+     */
+    long getPlayedGames() {
+        return playedGames.sum();
+    }
+
+    //!---------------------------------------------------------------------------------
+    //!                                    Main
+    //!---------------------------------------------------------------------------------
+
+    /**
+     * Run main to start the tournament
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long games = 10000;
+        long seed = 1;
+        long budget = -1;
+        String a = "density";
+        String b = "random";
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games":   games = Long.parseLong(args[i + 1]);      break;
+                case "--seed":    seed = Long.parseLong(args[i + 1]);       break;
+                case "--budget":  budget = Long.parseLong(args[i + 1]);     break;
+                case "--a":       a = args[i + 1];                          break;
+                case "--b":       b = args[i + 1];                          break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]);  break;
+                default: System.out.println("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.println("Tournament: " + games + " games, A = " + a + ", B = " + b + ", seed " + seed + ", " + threads + " threads");
+        Tournament tournament = new Tournament(a, b, seed, budget, new ForkJoinPool(threads));
+        long start = System.nanoTime();
+        final long total = games;
+        Thread progress = new Thread(() -> {
+            try {
+                while (true) {
+                    Thread.sleep(10000);
+                    System.out.printf("[%6.0fs] %d / %d games%n", (System.nanoTime() - start) / 1e9, tournament.getPlayedGames(), total);
+                }
+            }
+            catch (InterruptedException e) {
+                //tournament over
+            }
+        });
+        progress.setDaemon(true);
+        progress.start();
+
+        Stats stats = tournament.run(games);
+        progress.interrupt();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("__________________________");
+        System.out.printf("Duration      : %.1f s (%.0f games/s)%n", seconds, stats.getGames() / seconds);
+        System.out.printf("Wins A        : %d (%.1f %%) %s%n", stats.getWins(0), 100.0 * stats.getWins(0) / stats.getGames(), a);
+        System.out.printf("Wins B        : %d (%.1f %%) %s%n", stats.getWins(1), 100.0 * stats.getWins(1) / stats.getGames(), b);
+        System.out.printf("Draws         : %d%n", stats.getDraws());
+        System.out.printf("Average turns : %.1f%n", stats.getAverageTurns());
+        for (int p = 0; p < 2; p++) {
+            String usage = "";
+            for (int t = 0; t < Protocol.SHOT_TYPES.length; t++) {
+                usage += String.format("%s %.2f  ", Protocol.SHOT_TYPES[t], (double) stats.getShotTypeCount(p, t) / stats.getGames());
+            }
+            System.out.println("Shots/game " + (p == 0 ? "A" : "B") + "  : " + usage);
+        }
+    }
+
+}
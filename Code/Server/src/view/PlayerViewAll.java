@@ -4,12 +4,13 @@ import java.util.Observable;
 import java.util.Observer;
 
 import controller.PlayerController;
+import model.CellChange;
 import model.PlayerModel;
 
 /**
  * This class has the function of View in the MVC structure.
  * 
- * It will check for changes in the model and in our case, send those changes to the client. 
+ * It will receive the changes of the model and in our case, send those changes to the client. 
  */
 public class PlayerViewAll extends PlayerView implements Observer {
     
@@ -25,7 +26,7 @@ public class PlayerViewAll extends PlayerView implements Observer {
 
     /**
      * Method that is called whenever this view is notified of a change in the model.
-     * It will check for a change compared to the initial state of the model and send aproriate commands to the clients
+     * The model gives the changed cell (see CellChange), only that cell is sent to the clients.
      * 
      * Note -> To send those commands it uses a method from the model itself. 
      *         This is not a conventional (MVC) way to do it but we did'nt found an other (simpler) way to do it since
@@ -33,39 +34,27 @@ public class PlayerViewAll extends PlayerView implements Observer {
      */
     @Override
 	public void update(Observable o, Object arg) {
+        CellChange change = (CellChange) arg;
 
-        //If the player is not ready, the changes to the model are unit-plcement related
-        //otherwhise the changes are shots.
-        if(!model.player.isReady){
-            for (String key : model.player.getMyGrid().getGridCells().keySet()) {
-                if(model.player.getMyGrid().getGridCells().get(key) != null){
-                    String unitName = model.player.getMyGrid().getGridCells().get(key).getName();
-                    model.player.sendToClient("insertUnit");
-                    model.player.sendToClient(key+"/"+unitName);
-                }
-            }
-
+        //Changes to myGrid are unit-placement related, changes to the enemyGrid are shots.
+        if(!change.isEnemyGrid()){
+            model.player.sendPairToClient("insertUnit", change.getCoord()+"/"+change.getUnit().getName());
         }
         else{
-            for (String key : model.player.getEnemyGrid().getGridCells().keySet()) {
-                if(model.player.getEnemyGrid().getGridCells().get(key) == 1){
-                    model.player.sendToClient("Hit");
-                    model.player.sendToClient(key);
-                    model.player.otherPlayer().sendToClient("myHit");
-                    model.player.otherPlayer().sendToClient(key);
-                }
-                else if(model.player.getEnemyGrid().getGridCells().get(key) == -1){
-                    model.player.sendToClient("noHit");
-                    model.player.sendToClient(key);
-                    model.player.otherPlayer().sendToClient("myNoHit");
-                    model.player.otherPlayer().sendToClient(key);
-                }
-                else if(model.player.getEnemyGrid().getGridCells().get(key) == 2){
-                    model.player.sendToClient("Destroyed");
-                    model.player.sendToClient(key);
-                    model.player.otherPlayer().sendToClient("myDestroyed");
-                    model.player.otherPlayer().sendToClient(key);
-                }
+            switch(change.getNewState()){
+                case 1:
+                    model.player.sendPairToClient("Hit", change.getCoord());
+                    model.player.otherPlayer().sendPairToClient("myHit", change.getCoord());
+                    break;
+                case -1:
+                    model.player.sendPairToClient("noHit", change.getCoord());
+                    model.player.otherPlayer().sendPairToClient("myNoHit", change.getCoord());
+                    break;
+                case 2:
+                    model.player.sendPairToClient("Destroyed", change.getCoord());
+                    model.player.otherPlayer().sendPairToClient("myDestroyed", change.getCoord());
+                    break;
+                default:
             }
         }
 		